@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ArgumentParserBenchmark.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 10:25:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.benchmarks;
+
+import com.pekinsoft.northwind.utils.ArgumentParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Times the `ArgumentParser` parsing a command line like the ones `Startup`
+ * is given, and then looking up its switches.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentParserBenchmark {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final String[] args = { "report.txt", "--debugging", 
+        "--debugging-level", "2", "--log-size", "1048576", "--modules", 
+        "accounting", "desktop", "--ratio", "0.75" };
+    private final ArgumentParser parser = new ArgumentParser(args);
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Benchmarks">
+    @Benchmark
+    public ArgumentParser parse() {
+        return new ArgumentParser(args);
+    }
+
+    @Benchmark
+    public void lookups(Blackhole bh) {
+        bh.consume(parser.isSwitchPresent("--debugging"));
+        bh.consume(parser.getSwitchValue("--debugging-level"));
+        bh.consume(parser.getSwitchValue("--missing", "none"));
+        bh.consume(parser.getSwitchLongValue("--log-size"));
+        bh.consume(parser.getSwitchLongValue("--missing", 0L));
+        bh.consume(parser.getSwitchDoubleValue("--ratio"));
+        bh.consume(parser.getSwitchValues("--modules"));
+        bh.consume(parser.getArgument(0));
+    }
+
+    @Benchmark
+    public void parseAndLookup(Blackhole bh) {
+        ArgumentParser parsed = new ArgumentParser(args);
+        bh.consume(parsed.isSwitchPresent("--debugging"));
+        bh.consume(parsed.getSwitchValue("--debugging-level"));
+        bh.consume(parsed.getSwitchLongValue("--log-size"));
+        bh.consume(parsed.getSwitchValues("--modules"));
+    }
+    //</editor-fold>
+}
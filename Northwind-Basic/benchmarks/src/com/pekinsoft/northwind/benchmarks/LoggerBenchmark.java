@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LoggerBenchmark.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 10:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Timed full error reports and `critical`.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.benchmarks;
+
+import com.pekinsoft.northwind.utils.Logger;
+import com.pekinsoft.northwind.utils.exceptions.InvalidLoggingLevelException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times the write methods of the `Logger` with the log at each of the `OFF`,
+ * `INFO` and `DEBUG` levels. At `OFF` and `INFO`, most of these measure what
+ * a call costs when nothing is written, which is the cost the application pays
+ * on every hot path; at `DEBUG`, they measure the full cost of an entry.
+ * <p>
+ * Each trial logs to its own file in a temporary folder, which is deleted 
+ * when the trial ends. The home folder is moved to a temporary folder for 
+ * each fork as well, so that the error files `critical` writes land there 
+ * rather than in the user's own error folder.</p>
+ * <p>
+ * `error` and `handledError` are timed with the same exception every time,
+ * so after the first entry they measure the `Logger`'s repeated-error 
+ * summary. `errorFull` and `handledErrorFull` turn the summary off, and so
+ * measure a full report on every call.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerBenchmark {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final String CLASS = LoggerBenchmark.class.getName();
+    private static final String METHOD = "benchmark";
+    private static final String MESSAGE = "Posted a load to the ledger.";
+    private static final String FORMAT = "Posted load {} for {} miles.";
+    private static final Object[] PARAMS = { "L-20201017", 1234L };
+    private static final Object[] MODULES = { "Northwind Basic" };
+    
+    // Set as the home folder before `Logger` is first used, as it works out
+    //+ its error folder from the home folder when it is loaded.
+    private static final Path HOME;
+    //</editor-fold>
+    
+    static {
+        try {
+            HOME = Files.createTempDirectory("nwb-logger");
+        } catch ( IOException ex ) {
+            throw new UncheckedIOException(ex);
+        }
+        System.setProperty("user.home", HOME.toString());
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Benchmark Parameters">
+    @Param({"OFF", "INFO", "DEBUG"})
+    public String level;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private File folder;
+    private Logger log;
+    private final Exception error = new IllegalStateException("Benchmark");
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Setup">
+    @Setup
+    public void setUp() throws IOException, InvalidLoggingLevelException {
+        folder = Files.createTempDirectory(HOME, "log").toFile();
+        log = new Logger(new File(folder, "benchmark.log").getAbsolutePath(),
+                Logger.parseLevel(level), false);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        log.close();
+        try ( Stream<Path> files = Files.walk(HOME) ) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(file -> file.toFile().delete());
+        }
+    }
+    
+    /**
+     * Turns off the repeated-error summary of the trial's `Logger`, for the
+     * benchmarks that time a full error report on every call.
+     */
+    @State(Scope.Benchmark)
+    public static class FullReports {
+        @Setup
+        public void setUp(LoggerBenchmark benchmark) {
+            benchmark.log.setErrorSummaryInterval(0);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Leveled Messages">
+    @Benchmark
+    public void config() {
+        log.config(MESSAGE);
+    }
+
+    @Benchmark
+    public void configSupplier() {
+        log.config(() -> MESSAGE);
+    }
+
+    @Benchmark
+    public void configFormat() {
+        log.config(FORMAT, PARAMS);
+    }
+
+    @Benchmark
+    public void debug() {
+        log.debug(MESSAGE);
+    }
+
+    @Benchmark
+    public void debugSupplier() {
+        log.debug(() -> MESSAGE);
+    }
+
+    @Benchmark
+    public void debugDouble() {
+        log.debug("Current ratio: {}", 4.0);
+    }
+
+    @Benchmark
+    public void debugObject() {
+        log.debug("Posted load {}.", PARAMS[0]);
+    }
+
+    @Benchmark
+    public void debugFormat() {
+        log.debug(FORMAT, PARAMS);
+    }
+
+    @Benchmark
+    public void info() {
+        log.info(MESSAGE);
+    }
+
+    @Benchmark
+    public void infoSupplier() {
+        log.info(() -> MESSAGE);
+    }
+
+    @Benchmark
+    public void infoFormat() {
+        log.info(FORMAT, PARAMS);
+    }
+
+    @Benchmark
+    public void warning() {
+        log.warning(MESSAGE);
+    }
+
+    @Benchmark
+    public void warningSupplier() {
+        log.warning(() -> MESSAGE);
+    }
+
+    @Benchmark
+    public void warningFormat() {
+        log.warning(FORMAT, PARAMS);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Method Tracing">
+    @Benchmark
+    public void enter() {
+        log.enter(CLASS, METHOD);
+    }
+
+    @Benchmark
+    public void enterParam() {
+        log.enter(CLASS, METHOD, PARAMS[0]);
+    }
+
+    @Benchmark
+    public void enterParams() {
+        log.enter(CLASS, METHOD, PARAMS);
+    }
+
+    @Benchmark
+    public void enterSupplier() {
+        log.enter(CLASS, METHOD, () -> PARAMS);
+    }
+
+    @Benchmark
+    public void exit() {
+        log.exit(CLASS, METHOD);
+    }
+
+    @Benchmark
+    public void exitReturn() {
+        log.exit(CLASS, METHOD, PARAMS[1]);
+    }
+
+    @Benchmark
+    public void exitSupplier() {
+        log.exit(CLASS, METHOD, () -> PARAMS[1]);
+    }
+
+    @Benchmark
+    public void exitParamReturn() {
+        log.exit(CLASS, METHOD, PARAMS[0], PARAMS[1]);
+    }
+
+    @Benchmark
+    public void exitParamsReturn() {
+        log.exit(CLASS, METHOD, PARAMS, PARAMS[1]);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Error Reports">
+    @Benchmark
+    public void error() {
+        log.error(error, MESSAGE);
+    }
+
+    @Benchmark
+    public void handledError() {
+        log.handledError(error, MESSAGE);
+    }
+
+    @Benchmark
+    public void errorFull(FullReports full) {
+        log.error(error, MESSAGE);
+    }
+
+    @Benchmark
+    public void handledErrorFull(FullReports full) {
+        log.handledError(error, MESSAGE);
+    }
+
+    @Benchmark
+    public void critical() {
+        log.critical(error, "com.pekinsoft.northwind.benchmarks", CLASS, 
+                METHOD, "Basic", "0.1.0", 1L, MODULES);
+    }
+    //</editor-fold>
+}
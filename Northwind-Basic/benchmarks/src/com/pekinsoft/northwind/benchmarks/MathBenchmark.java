@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   MathBenchmark.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 10:00:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.benchmarks;
+
+import com.pekinsoft.northwind.accounting.AccountingResult;
+import com.pekinsoft.northwind.accounting.Math;
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.accounting.exceptions.InvalidAccountingDataException;
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import com.pekinsoft.northwind.utils.exceptions.InvalidLoggingLevelException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times every calculation of the accounting `Math` class, in its throwing, 
+ * `try`, `Money` and batch forms, with the application log at each of the 
+ * `OFF`, `INFO` and `DEBUG` levels, so that the cost of the logging done by
+ * the calculations shows up next to the cost of the arithmetic.
+ * <p>
+ * The values are the ones `Startup` has always checked the calculations 
+ * with.</p>
+ * <p>
+ * The application's folders, and so its log, are placed under a temporary
+ * home folder for each fork, which is deleted when the trial ends, so that
+ * the `DEBUG` runs do not fill the user's own log.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathBenchmark {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final int ROWS = 1024;
+    
+    // Set as the home folder before `Application` is first used, as it works
+    //+ out all of its folders from the home folder when it is loaded.
+    private static final Path HOME;
+    //</editor-fold>
+    
+    static {
+        try {
+            HOME = Files.createTempDirectory("nwb-math");
+        } catch ( IOException ex ) {
+            throw new UncheckedIOException(ex);
+        }
+        System.setProperty("user.home", HOME.toString());
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Benchmark Parameters">
+    @Param({"OFF", "INFO", "DEBUG"})
+    public String level;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final AccountingResult result = new AccountingResult();
+    private final Money revenue = Money.of(173155.55);
+    private final Money expenses = Money.of(126782.03);
+    private final Money assets = Money.of(23000.0);
+    private final Money liabilities = Money.of(15000.0);
+    private final Money equity = Money.of(8000.0);
+    
+    private final double[] left = new double[ROWS];
+    private final double[] right = new double[ROWS];
+    private final double[] third = new double[ROWS];
+    private final long[] miles = new long[ROWS];
+    private final double[] out = new double[ROWS];
+    private final boolean[] balanced = new boolean[ROWS];
+    private final long[] refused = new long[Math.bitmapLength(ROWS)];
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Setup">
+    @Setup
+    public void setUp() throws InvalidLoggingLevelException {
+        Application.log.setLevel(Logger.parseLevel(level));
+        for ( int row = 0; row < ROWS; row++ ) {
+            left[row] = 8000.0 + row;
+            right[row] = 2000.0 + row;
+            third[row] = 6000.0;
+            miles[row] = 110084 + row;
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Application.log.close();
+        try ( Stream<Path> files = Files.walk(HOME) ) {
+            files.sorted(Comparator.reverseOrder())
+                    .forEach(file -> file.toFile().delete());
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Throwing Calculations">
+    @Benchmark
+    public double currentRatio() throws InvalidAccountingDataException {
+        return Math.CurrentRatio(8000.00, 2000.00);
+    }
+
+    @Benchmark
+    public double duPontROI() throws InvalidAccountingDataException {
+        return Math.DuPontROI(260.0, 15000.0);
+    }
+
+    @Benchmark
+    public double netIncome() throws InvalidAccountingDataException {
+        return Math.NetIncome(173155.55, 126782.03);
+    }
+
+    @Benchmark
+    public double perMileBreakdown() throws InvalidAccountingDataException {
+        return Math.PerMileBreakdown(173155.55, 110084);
+    }
+
+    @Benchmark
+    public double returnOnInvestment() 
+            throws InvalidAccountingDataException {
+        return Math.ReturnOnInvestment(0.07, 8500.0);
+    }
+
+    @Benchmark
+    public boolean isBalanced() throws InvalidAccountingDataException {
+        return Math.isBalanced(23000.0, 15000.0, 8000.0);
+    }
+    
+    /**
+     * Times a refused calculation, which creates, logs and throws an 
+     * exception.
+     */
+    @Benchmark
+    public Object currentRatioRefused() {
+        try {
+            return Math.CurrentRatio(-1.0, 2000.00);
+        } catch ( InvalidAccountingDataException ex ) {
+            return ex;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Try Calculations">
+    @Benchmark
+    public boolean tryCurrentRatio() {
+        return Math.tryCurrentRatio(8000.00, 2000.00, result);
+    }
+
+    @Benchmark
+    public boolean tryDuPontROI() {
+        return Math.tryDuPontROI(260.0, 15000.0, result);
+    }
+
+    @Benchmark
+    public boolean tryNetIncome() {
+        return Math.tryNetIncome(173155.55, 126782.03, result);
+    }
+
+    @Benchmark
+    public boolean tryPerMileBreakdown() {
+        return Math.tryPerMileBreakdown(173155.55, 110084, result);
+    }
+
+    @Benchmark
+    public boolean tryReturnOnInvestment() {
+        return Math.tryReturnOnInvestment(0.07, 8500.0, result);
+    }
+
+    @Benchmark
+    public boolean tryIsBalanced() {
+        return Math.tryIsBalanced(23000.0, 15000.0, 8000.0, result);
+    }
+    
+    @Benchmark
+    public boolean tryCurrentRatioRefused() {
+        return Math.tryCurrentRatio(-1.0, 2000.00, result);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Money Calculations">
+    @Benchmark
+    public double moneyCurrentRatio() throws InvalidAccountingDataException {
+        return Math.CurrentRatio(assets, liabilities);
+    }
+
+    @Benchmark
+    public Money moneyNetIncome() throws InvalidAccountingDataException {
+        return Math.NetIncome(revenue, expenses);
+    }
+
+    @Benchmark
+    public double moneyPerMileBreakdown() 
+            throws InvalidAccountingDataException {
+        return Math.PerMileBreakdown(revenue, 110084);
+    }
+
+    @Benchmark
+    public double moneyReturnOnInvestment() 
+            throws InvalidAccountingDataException {
+        return Math.ReturnOnInvestment(revenue, assets);
+    }
+
+    @Benchmark
+    public boolean moneyIsBalanced() throws InvalidAccountingDataException {
+        return Math.isBalanced(assets, liabilities, equity);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Batch Calculations">
+    /*
+     * Each batch benchmark works out 1,024 rows; divide the time by that for
+     * the cost of one row.
+     */
+    
+    @Benchmark
+    public int batchCurrentRatio() {
+        return Math.CurrentRatio(left, right, out, refused);
+    }
+
+    @Benchmark
+    public int batchDuPontROI() {
+        return Math.DuPontROI(left, right, out, refused);
+    }
+
+    @Benchmark
+    public int batchNetIncome() {
+        return Math.NetIncome(left, right, out, refused);
+    }
+
+    @Benchmark
+    public int batchPerMileBreakdown() {
+        return Math.PerMileBreakdown(left, miles, out, refused);
+    }
+
+    @Benchmark
+    public int batchReturnOnInvestment() {
+        return Math.ReturnOnInvestment(left, right, out, refused);
+    }
+
+    @Benchmark
+    public int batchIsBalanced() {
+        return Math.isBalanced(left, right, third, balanced, refused);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   StringUtilsBenchmark.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 10:20:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.benchmarks;
+
+import com.pekinsoft.northwind.utils.StringUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times the `StringUtils` helpers with text of the sort the `Logger` and the
+ * dialogs hand them.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    // Fields rather than constants, so the compiler cannot fold the calls.
+    private String text = "Entering: com.pekinsoft.northwind.accounting.Math"
+            + ".CurrentRatio(8000.0, 2000.0) while posting load L-20201017 "
+            + "for Pekin Freight Systems, from Pekin, IL to Peoria, IL.";
+    private String spaced = "  Pekin  Freight\tSystems \n L-2020 1017  ";
+    private String prefix = "Entering: ";
+    private String upperPrefix = "ENTERING: ";
+    private String suffix = "Peoria, IL.";
+    private String field = "1234.56";
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Benchmarks">
+    @Benchmark
+    public String abbreviate() {
+        return StringUtils.abbreviate(text, 40);
+    }
+
+    @Benchmark
+    public String wrapAt() {
+        return StringUtils.wrapAt(text, 80);
+    }
+
+    @Benchmark
+    public String deleteWhitespace() {
+        return StringUtils.deleteWhitespace(spaced);
+    }
+
+    @Benchmark
+    public String removeStart() {
+        return StringUtils.removeStart(text, prefix);
+    }
+
+    @Benchmark
+    public String removeStartIgnoreCase() {
+        return StringUtils.removeStartIgnoreCase(text, upperPrefix);
+    }
+
+    @Benchmark
+    public String removeEnd() {
+        return StringUtils.removeEnd(text, suffix);
+    }
+
+    @Benchmark
+    public String padLeft() {
+        return StringUtils.padLeft(field, 12);
+    }
+
+    @Benchmark
+    public String padRight() {
+        return StringUtils.padRight(field, 12);
+    }
+    //</editor-fold>
+}
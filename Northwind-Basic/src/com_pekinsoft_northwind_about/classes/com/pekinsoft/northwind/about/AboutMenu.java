@@ -18,6 +18,7 @@ package com.pekinsoft.northwind.about;
 
 import com.pekinsoft.northwind.basic.Application;
 import com.pekinsoft.northwind.basic.MenuProvider;
+import com.pekinsoft.northwind.utils.Logger;
 import com.pekinsoft.northwind.utils.Utils;
 import javax.swing.JDesktopPane;
 import javax.swing.JMenu;
@@ -29,6 +30,8 @@ import javax.swing.JMenuItem;
  * @author Jiří Kovalský &lt;jiri dot kovalsky at centrum dot cz&gt;
  */
 public class AboutMenu implements MenuProvider {
+    private static final Logger log = Application.log.getLogger(
+            AboutMenu.class);
 
     /**
      * Returns menu for the About module which can be added to the main application menu bar.
@@ -42,8 +45,8 @@ public class AboutMenu implements MenuProvider {
         JMenuItem menuItem = new JMenuItem("About...");
         menuItem.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
-                Application.log.enter(AboutMenu.class.getName(), "AboutMenu" + "_Clicked", evt);
-                Application.log.debug("Creating an instance of the AboutDialog...");
+                log.enter(AboutMenu.class.getName(), "AboutMenu" + "_Clicked", evt);
+                log.debug("Creating an instance of the AboutDialog...");
                 AboutDialog aboutDialog = new AboutDialog();
                 desktop.add(aboutDialog);
                 aboutDialog.pack();
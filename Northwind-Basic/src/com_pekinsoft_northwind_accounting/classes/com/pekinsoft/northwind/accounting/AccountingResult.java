@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   AccountingResult.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 3:35:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting;
+
+import com.pekinsoft.northwind.accounting.enums.AccountingError;
+import com.pekinsoft.northwind.accounting.exceptions.InvalidAccountingDataException;
+
+/**
+ * Holds the outcome of one of the `try` methods of {@link Math}: either the
+ * value that was calculated, or the reason it could not be.
+ * <p>
+ * The `try` methods neither throw nor log, and they fill in a result that the
+ * caller hands them instead of creating one, so a bulk recalculation can reuse
+ * a single result for every row and pay nothing extra for the rows that are
+ * refused:</p>
+ * <pre>
+ * AccountingResult result = new AccountingResult();
+ * for ( int row = 0; row &lt; revenue.length; row++ ) {
+ *     if ( Math.tryPerMileBreakdown(revenue[row], miles[row], result) ) {
+ *         total += result.getValue();
+ *     } else {
+ *         skipped++;
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * A result is not safe to share between threads.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class AccountingResult {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private double value = Double.NaN;
+    private AccountingError error = AccountingError.NONE;
+    private double refused;     // The value of the refused parameter.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates an empty result, to be filled in by the `try` methods of 
+     * {@link Math}. Until then, it is not valid and its value is 
+     * {@code Double.NaN}.
+     */
+    public AccountingResult() {
+        // The fields start out as an empty result.
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * Determines whether the last calculation succeeded.
+     * 
+     * @return {@code true} if {@link #getValue()} holds the result; 
+     *         {@code false} if the calculation was refused.
+     */
+    public boolean isValid() {
+        return error == AccountingError.NONE;
+    }
+    
+    /**
+     * Retrieves the calculated value.
+     * 
+     * @return the value, or {@code Double.NaN} if the calculation was refused.
+     */
+    public double getValue() {
+        return value;
+    }
+    
+    /**
+     * Retrieves the result of a yes-or-no calculation, such as
+     * {@link Math#tryIsBalanced(double, double, double, AccountingResult)}.
+     * 
+     * @return {@code true} if the calculation succeeded and its answer is yes;
+     *         {@code false} otherwise.
+     */
+    public boolean isTrue() {
+        return isValid() && value != 0.0;
+    }
+    
+    /**
+     * Retrieves the reason the last calculation was refused.
+     * 
+     * @return the error, which is {@link AccountingError#NONE} if the 
+     *         calculation succeeded.
+     */
+    public AccountingError getError() {
+        return error;
+    }
+    
+    /**
+     * Retrieves the value of the parameter that caused the calculation to be
+     * refused.
+     * 
+     * @return the refused value; meaningless if the calculation succeeded.
+     */
+    public double getRefusedValue() {
+        return refused;
+    }
+    
+    /**
+     * Builds the exception that the throwing method of {@link Math} would have
+     * thrown for this result. This is for callers that do need an exception
+     * after all, for example to report the first bad row of a batch.
+     * 
+     * @return the exception, or {@code null} if the calculation succeeded.
+     */
+    public InvalidAccountingDataException toException() {
+        if ( isValid() ) {
+            return null;
+        }
+        return new InvalidAccountingDataException("Invalid '" 
+                + error.getParameter() + "' value supplied: " + refused);
+    }
+    
+    @Override
+    public String toString() {
+        return isValid() ? String.valueOf(value) 
+                : error + " (" + error.getParameter() + " = " + refused + ")";
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    boolean succeed(double value) {
+        this.value = value;
+        this.error = AccountingError.NONE;
+        return true;
+    }
+    
+    boolean fail(AccountingError error, double refused) {
+        this.value = Double.NaN;
+        this.error = error;
+        this.refused = refused;
+        return false;
+    }
+    //</editor-fold>
+}
@@ -20,7 +20,7 @@
  *  Class      :   Math.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 8, 2020 @ 3:23:00 PM
- *  Modified   :   Mar 8, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -29,11 +29,27 @@
  *  WHEN          BY                  REASON
  *  ------------  ------------------- ------------------------------------------
  *  Mar 8, 2020  Sean Carrick        Initial creation.
+ *  Oct 17, 2026 Sean Carrick        Switched the debugging messages to the
+ *                                   `Logger` templates, so that nothing is
+ *                                   built when debugging is turned off.
+ *  Oct 17, 2026 Sean Carrick        Logged through a `Logger` of its own, so
+ *                                   its level can be set separately.
+ *  Oct 17, 2026 Sean Carrick        Added the `try` methods, which neither
+ *                                   throw nor log, for bulk recalculations, and
+ *                                   fixed the parameters of the entry and exit
+ *                                   messages, which were logged as an array
+ *                                   reference instead of their values.
+ *  Oct 17, 2026 Sean Carrick        Added the batch methods, which work on
+ *                                   whole arrays of values at once.
+ *  Oct 17, 2026 Sean Carrick        Added the `Money` overloads, and made
+ *                                   `isBalanced` balance to the cent, instead
+ *                                   of failing on rounding errors.
  * *****************************************************************************
  */
 
 package com.pekinsoft.northwind.accounting;
 
+import com.pekinsoft.northwind.accounting.enums.AccountingError;
 import com.pekinsoft.northwind.accounting.exceptions.InvalidAccountingDataException;
 import com.pekinsoft.northwind.basic.Application;
 import com.pekinsoft.northwind.utils.Logger;
@@ -47,11 +63,16 @@ import com.pekinsoft.northwind.utils.Logger;
  */
 public class Math {
     //<editor-fold defaultstate="collapsed" desc="Public Static Constants">
-    
+    /**
+     * How far apart two {@code double} amounts may be and still be taken as
+     * equal by {@link #isBalanced(double, double, double)}: half a cent, so 
+     * that amounts that round to the same cent balance.
+     */
+    public static final double BALANCE_TOLERANCE = 0.005;
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
-    Logger log = Application.log;
+    private static final Logger log = Application.log.getLogger(Math.class);
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="Static Initializer">
@@ -111,15 +132,14 @@ public class Math {
      */
     public static double CurrentRatio(double currentAssets, 
             double currentLiabilities) throws InvalidAccountingDataException {
-        double[] params = {currentAssets, currentLiabilities};
-        Application.log.enter(Math.class.getCanonicalName(), "CurrentRatio", 
-                params);
-        Application.log.debug("Verifying that data is present...");
+        log.enter(Math.class.getCanonicalName(), "CurrentRatio", 
+                currentAssets, currentLiabilities);
+        log.debug("Verifying that data is present...");
         InvalidAccountingDataException ex = null;
         if ( currentAssets <= 0.0 ) {
             ex = new InvalidAccountingDataException("Invalid 'currentAssets' "
                     + "value supplied.");
-            Application.log.handledError(ex, "Invalid 'currentAssets' value "
+            log.handledError(ex, "Invalid 'currentAssets' value "
                     + "supplied.\n\n'currentAssets must be greater than, or in "
                     + "rare cases, equal to zero (0), but the value supplied "
                     + "for 'currentAssets' was " + currentAssets + "\n\n");
@@ -129,7 +149,7 @@ public class Math {
             ex = new InvalidAccountingDataException("Invalid 'currentLiabili"
                     + "ties' value supplied.");
             
-            Application.log.handledError(ex, "Invalid 'currentLiabilities "
+            log.handledError(ex, "Invalid 'currentLiabilities "
                     + "value supplied.\n\n'currentLiabilities must be greater "
                     + "than, or in rare cases equal to, zero (0), but the "
                     + "value supplied was " + currentLiabilities + "\n\n");
@@ -137,9 +157,9 @@ public class Math {
         }
         
         double currentRatio = currentAssets / currentLiabilities;
-        Application.log.debug("Returning a current ratio of: " + 
-                "currentAssets / currentLiabilities = " + currentRatio);
-        Application.log.exit(Math.class.getCanonicalName(), "CurrentRatio", 
+        log.debug("Returning a current ratio of: " + 
+                "currentAssets / currentLiabilities = {}", currentRatio);
+        log.exit(Math.class.getCanonicalName(), "CurrentRatio", 
                 currentRatio);
         return currentRatio;
         
@@ -158,15 +178,15 @@ public class Math {
      */
     public static double ReturnOnInvestment(double profit, double cost) 
             throws InvalidAccountingDataException {
-        double[] params = {profit, cost};
-        Application.log.enter(Math.class.getName(), "ReturnOnInvestment", params);
+        log.enter(Math.class.getName(), "ReturnOnInvestment", 
+                profit, cost);
         InvalidAccountingDataException ex = null;
-        Application.log.debug("Verifying that data has been provided...");
+        log.debug("Verifying that data has been provided...");
         // Verify that data has been provided.
         if ( profit <= 0.0 ) {
             ex = new InvalidAccountingDataException("Invalid 'profit' value "
                     + "supplied.");
-            Application.log.error(ex, "Invalid 'profit' value "
+            log.error(ex, "Invalid 'profit' value "
                     + "supplied.\n\n'profit' must be greater than zero (0), "
                     + "but the value supplied was " + profit + "\n\n");
             throw ex;
@@ -174,16 +194,15 @@ public class Math {
         if ( cost <= 0.0 ) {
             ex = new InvalidAccountingDataException("Invalid 'cost' value "
                     + "supplied.");
-            Application.log.error(ex, "Invalid 'cost' value "
+            log.error(ex, "Invalid 'cost' value "
                     + "supplied.\n\n'cost' must be greater than zero (0), "
                     + "but the value supplied was " + cost + "\n\n");
             throw ex;
         }
         
         double roi = profit / cost;
-        Application.log.debug("Returning an ROI of: currentAssets / current"
-                + "Liabilities = " + roi);
-        Application.log.exit(Math.class.getName(), "ReturnOnInvestment", roi);
+        log.debug("Returning an ROI of: profit / cost = {}", roi);
+        log.exit(Math.class.getName(), "ReturnOnInvestment", roi);
         return profit / cost;
     }
     
@@ -199,15 +218,15 @@ public class Math {
      */
     public static double DuPontROI(double profit, double asset) 
             throws InvalidAccountingDataException {
-        double[] params = {profit, asset};
-        Application.log.enter(Math.class.getName(), "DuPontROI", params);
+        log.enter(Math.class.getName(), "DuPontROI", 
+                profit, asset);
         InvalidAccountingDataException ex = null;
-        Application.log.debug("Verifying that data has been provided...");
+        log.debug("Verifying that data has been provided...");
         // Verify that data has been provided.
         if ( profit <= 0.0 ){
             ex = new InvalidAccountingDataException("Invalid 'profit' value "
                     + "supplied.");
-            Application.log.error(ex, "Invalid 'profit' value supplied.\n\n"
+            log.error(ex, "Invalid 'profit' value supplied.\n\n"
                     + "'profit' must be greater than zero (0), but the value "
                     + "supplied was " + profit + "\n\n");
             throw ex;
@@ -215,16 +234,16 @@ public class Math {
         if ( asset <= 0.0 ){
             ex = new InvalidAccountingDataException("Invalid 'asset' value "
                     + "supplied.");
-            Application.log.error(ex, "Invalid 'asset' value supplied.\n\n"
+            log.error(ex, "Invalid 'asset' value supplied.\n\n"
                     + "'asset' must be greater than zero(0), but the value "
                     + "supplied was " + asset + "\n\n");
             throw ex;
         }
         
         double roi = profit * asset;
-        Application.log.debug("Returning a DuPont ROI of: profit * asset = "
-                    + roi);
-        Application.log.exit(Math.class.getName(), "DuPontROI", roi);
+        log.debug("Returning a DuPont ROI of: profit * asset = {}",
+                roi);
+        log.exit(Math.class.getName(), "DuPontROI", roi);
         return profit * asset;
     }
     
@@ -246,16 +265,16 @@ public class Math {
      */
     public static double NetIncome(double totalRevenue, double totalExpenses)
             throws InvalidAccountingDataException {
-        double[] params = {totalRevenue, totalExpenses};
-        Application.log.enter(Math.class.getCanonicalName(), "NetIncome", params);
+        log.enter(Math.class.getCanonicalName(), "NetIncome", 
+                totalRevenue, totalExpenses);
         
         // Create an exception object to use.
         InvalidAccountingDataException ex = null;
-        Application.log.debug("Verifying that data was provided...");
+        log.debug("Verifying that data was provided...");
         if ( totalRevenue <= 0.0 ) {
             ex = new InvalidAccountingDataException("No 'totalRevenue' value "
                     + "supplied.");
-            Application.log.error(ex, "No 'totalRevenue' value supplied.\n\n"
+            log.error(ex, "No 'totalRevenue' value supplied.\n\n"
                     + "'totalRevenue' must be greater than, or in rare cases "
                     + "equal to, zero (0), but the supplied value was " 
                     + totalRevenue + "\n\n");
@@ -264,7 +283,7 @@ public class Math {
         if ( totalExpenses <= 0.0 ) {
             ex = new InvalidAccountingDataException("No 'totalExpenses' value "
                     + "supplied.");
-            Application.log.error(ex, "No 'totalExpenses' value supplied.\n\n"
+            log.error(ex, "No 'totalExpenses' value supplied.\n\n"
                     + "'totalExpenses' must be greater than, or in rare cases "
                     + "equal to, zero (0), but the supplied value was "
                     + totalExpenses + "\n\n");
@@ -272,10 +291,9 @@ public class Math {
         }
         
         double ret = totalRevenue - totalExpenses;
-        Application.log.debug("Returning a Net Income of: totalRevenue - "
-                + "totalExpenses = " + ret);
-        Application.log.exit(Math.class.getCanonicalName(), "NetIncome", params, 
-                ret);
+        log.debug("Returning a Net Income of: totalRevenue - "
+                + "totalExpenses = {}", ret);
+        log.exit(Math.class.getCanonicalName(), "NetIncome", ret);
         return ret;
     }
     
@@ -298,6 +316,11 @@ public class Math {
      * bank account, then your company would not be considered healthy.</p>
      * <p>
      * Most equity should be from profits and not from owner contributions.</p>
+     * <p>
+     * As {@code double}s pick up rounding errors, the books are taken to 
+     * balance when the two sides are within {@link #BALANCE_TOLERANCE} of each
+     * other. Use {@link #isBalanced(Money, Money, Money)} to balance exactly.
+     * </p>
      * 
      * @param assets        bank balance, vehicles, equipment, etc.
      * @param liabilities   what is owed: credit cards, loans, etc.
@@ -308,15 +331,14 @@ public class Math {
      */
     public static boolean isBalanced(double assets, double liabilities, 
             double equity) throws InvalidAccountingDataException {
-        double[] params = {assets, liabilities, equity};
-        Application.log.enter(Math.class.getCanonicalName(), "isBalanced", 
-                params);
+        log.enter(Math.class.getCanonicalName(), "isBalanced", 
+                assets, liabilities, equity);
         InvalidAccountingDataException ex = null;
-        Application.log.debug("Verifying that data was provided...");
+        log.debug("Verifying that data was provided...");
         if ( assets <= 0.0 ) {
             ex = new InvalidAccountingDataException("No 'assets' value "
                     + "supplied.");
-            Application.log.error(ex, "No 'assets' value supplied.\n\n"
+            log.error(ex, "No 'assets' value supplied.\n\n"
                     + "'assets' must be greater than, or in rare cases equal "
                     + "to, zero (0), but the supplied value was " + assets);
             throw ex;
@@ -324,7 +346,7 @@ public class Math {
         if ( liabilities <= 0.0 ) {
             ex = new InvalidAccountingDataException("No 'liabilities' value "
                     + "supplied.");
-            Application.log.error(ex, "No 'liabilities' value supplied.\n\n"
+            log.error(ex, "No 'liabilities' value supplied.\n\n"
                     + "'liabilities' must be greater than, or in rare cases "
                     + "equal to, zero (0), but the supplied value was "
                     + liabilities);
@@ -333,21 +355,20 @@ public class Math {
         if ( equity <= 0.0 ) {
             ex = new InvalidAccountingDataException("No 'equity' value "
                     + "supplied.");
-            Application.log.error(ex, "No 'equity' value supplied.\n\n"
+            log.error(ex, "No 'equity' value supplied.\n\n"
                     + "'equity' must be greater than, or in very rare cases "
                     + "equal to, zero (0), but the supplied value was "
                     + equity);
             throw ex;
         }
         
-        boolean ret = assets == (liabilities + equity);
+        boolean ret = balances(assets, liabilities, equity);
         if ( ret )
-            Application.log.debug("Accounts are balanced.");
+            log.debug("Accounts are balanced.");
         else
-            Application.log.debug("Accounts do not balance! Check for missing "
+            log.debug("Accounts do not balance! Check for missing "
                     + "or incorrect value entries in the General Ledger.");
-        Application.log.exit(Math.class.getCanonicalName(), "isBalanced", 
-                params, ret);
+        log.exit(Math.class.getCanonicalName(), "isBalanced", ret);
         return ret;
     }
     
@@ -385,13 +406,13 @@ public class Math {
      */
     public static double PerMileBreakdown(double value, long miles)
             throws InvalidAccountingDataException {
-        Application.log.enter(Math.class.getName(), "PerMileBreakdown");
+        log.enter(Math.class.getName(), "PerMileBreakdown");
         InvalidAccountingDataException ex = null;
-        Application.log.debug("Verifying that data was provided...");
+        log.debug("Verifying that data was provided...");
         if ( value <= 0.0 ) {
             ex = new InvalidAccountingDataException("Invalid 'value' amount "
                     + "supplied.\n\tdouble value = " + value);
-            Application.log.error(ex, "Invalid Value Amount Supplied.\n\n"
+            log.error(ex, "Invalid Value Amount Supplied.\n\n"
                     + "Value must be greater than zero (0) to perform the "
                     + "requested calculation, but " + value + " was provided.\n\n");
             throw ex;
@@ -399,20 +420,567 @@ public class Math {
         if ( miles <= 0 ) {
             ex = new InvalidAccountingDataException("Invalid 'miles' amount "
                     + "supplied.\n\tlong miles = " + miles);
-            Application.log.error(ex, "Invalid Miles Amount Supplied.\n\n"
+            log.error(ex, "Invalid Miles Amount Supplied.\n\n"
                     + "Miles must be greater than zero (0) to perform the "
                     + "requested calculation, but " + miles + " was provided.\n\n");
             throw ex;
         }
         
-        Application.log.debug("All data for calculation was provided.\n\n"
+        log.debug("All data for calculation was provided.\n\n"
                 + "Performing calculation...\n");
         double perMileValue = value / miles;
-        Application.log.exit(Math.class.getName(), "PerMileBreakdown", perMileValue);
+        log.exit(Math.class.getName(), "PerMileBreakdown", perMileValue);
         return perMileValue;
     }
     //</editor-fold>
 
+    //<editor-fold defaultstate="collapsed" desc="Public Static Money Methods">
+    /**
+     * Calculates the current ratio from exact amounts. See
+     * {@link #CurrentRatio(double, double)}. The ratio is not an amount of
+     * money, so it is returned as a {@code double}.
+     * 
+     * @param currentAssets         Total current assets.
+     * @param currentLiabilities    Total current liabilities.
+     * @return The current ratio of the company's financial position.
+     * @throws InvalidAccountingDataException In the event data is not provided.
+     */
+    public static double CurrentRatio(Money currentAssets, 
+            Money currentLiabilities) throws InvalidAccountingDataException {
+        return CurrentRatio(currentAssets.toDouble(), 
+                currentLiabilities.toDouble());
+    }
+    
+    /**
+     * Calculates the return on an investment from exact amounts. See
+     * {@link #ReturnOnInvestment(double, double)}.
+     * 
+     * @param profit The expected profit.
+     * @param cost   The initial investment made.
+     * @return The return on the investment, as a ratio.
+     * @throws InvalidAccountingDataException In the event that one of the data
+     *                                        points is not provided.
+     */
+    public static double ReturnOnInvestment(Money profit, Money cost) 
+            throws InvalidAccountingDataException {
+        return ReturnOnInvestment(profit.toDouble(), cost.toDouble());
+    }
+    
+    /**
+     * Calculates the net income, exactly. See 
+     * {@link #NetIncome(double, double)}.
+     * 
+     * @param totalRevenue  The total revenue coming into the company.
+     * @param totalExpenses The total expenses being spent by the company.
+     * @return              The net income of the company.
+     * @throws InvalidAccountingDataException In the event that the data 
+     *                      provided is less than or equal to zero.
+     */
+    public static Money NetIncome(Money totalRevenue, Money totalExpenses)
+            throws InvalidAccountingDataException {
+        log.enter(Math.class.getCanonicalName(), "NetIncome", 
+                totalRevenue, totalExpenses);
+        requirePositive(totalRevenue, "totalRevenue");
+        requirePositive(totalExpenses, "totalExpenses");
+        
+        Money ret = totalRevenue.minus(totalExpenses);
+        log.exit(Math.class.getCanonicalName(), "NetIncome", ret);
+        return ret;
+    }
+    
+    /**
+     * Checks the basic accounting equation exactly: the books balance only if
+     * the assets equal the liabilities plus the equity to the last unit. See
+     * {@link #isBalanced(double, double, double)}.
+     * 
+     * @param assets        bank balance, vehicles, equipment, etc.
+     * @param liabilities   what is owed: credit cards, loans, etc.
+     * @param equity        what the company owns outright: profit, contributions.
+     * @return              {@code true} if balanced; {@code false} otherwise.
+     * @throws InvalidAccountingDataException In the event any data point is
+     *                      zero (0) or less than zero.
+     */
+    public static boolean isBalanced(Money assets, Money liabilities, 
+            Money equity) throws InvalidAccountingDataException {
+        log.enter(Math.class.getCanonicalName(), "isBalanced", 
+                assets, liabilities, equity);
+        requirePositive(assets, "assets");
+        requirePositive(liabilities, "liabilities");
+        requirePositive(equity, "equity");
+        
+        boolean ret = assets.equals(liabilities.plus(equity));
+        if ( !ret ) {
+            log.debug("Accounts do not balance by {}! Check for missing or "
+                    + "incorrect value entries in the General Ledger.", 
+                    assets.minus(liabilities.plus(equity)));
+        }
+        log.exit(Math.class.getCanonicalName(), "isBalanced", ret);
+        return ret;
+    }
+    
+    /**
+     * Calculates the per mile breakdown of an exact amount. See
+     * {@link #PerMileBreakdown(double, long)}. A rate per mile usually needs
+     * more places than the cents of the amount, so it is returned as a
+     * {@code double}.
+     * 
+     * @param value The value to break down to the <em>per mile</em> equivalent.
+     * @param miles The number of miles corresponding to the period for 
+     *              calculation.
+     * @return      The <em>cost</em>, or <em>revenue</em> per mile.
+     * @throws InvalidAccountingDataException   In the event that either 'value'
+     *              or 'miles' is zero (0) or a negative number.
+     */
+    public static double PerMileBreakdown(Money value, long miles)
+            throws InvalidAccountingDataException {
+        return PerMileBreakdown(value.toDouble(), miles);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Try Methods">
+    /*
+     * Each of these makes the same calculation, and refuses the same values, 
+     * as the method of the same name without the `try`. Instead of creating, 
+     * logging and throwing an exception, they record the reason in the given
+     * result and return false, and they log nothing at all, so that they cost
+     * no more than the arithmetic. They are meant for bulk recalculations, 
+     * where a bad row is expected now and then and is simply skipped.
+     */
+    
+    /**
+     * Calculates the current ratio without throwing or logging. See
+     * {@link #CurrentRatio(double, double)}.
+     * 
+     * @param currentAssets         Total current assets.
+     * @param currentLiabilities    Total current liabilities.
+     * @param result                Receives the current ratio, or the reason
+     *                              it could not be calculated.
+     * @return {@code true} if the current ratio was calculated; {@code false}
+     *         otherwise.
+     */
+    public static boolean tryCurrentRatio(double currentAssets, 
+            double currentLiabilities, AccountingResult result) {
+        if ( currentAssets <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_CURRENT_ASSETS, 
+                    currentAssets);
+        }
+        if ( currentLiabilities <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_CURRENT_LIABILITIES, 
+                    currentLiabilities);
+        }
+        return result.succeed(currentAssets / currentLiabilities);
+    }
+    
+    /**
+     * Calculates the return on an investment without throwing or logging. See
+     * {@link #ReturnOnInvestment(double, double)}.
+     * 
+     * @param profit The expected profit margin.
+     * @param cost   The initial investment made.
+     * @param result Receives the return on investment, or the reason it could
+     *               not be calculated.
+     * @return {@code true} if the return on investment was calculated; 
+     *         {@code false} otherwise.
+     */
+    public static boolean tryReturnOnInvestment(double profit, double cost, 
+            AccountingResult result) {
+        if ( profit <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_PROFIT, profit);
+        }
+        if ( cost <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_COST, cost);
+        }
+        return result.succeed(profit / cost);
+    }
+    
+    /**
+     * Calculates the DuPont return on investment without throwing or logging.
+     * See {@link #DuPontROI(double, double)}.
+     * 
+     * @param profit The profit margin.
+     * @param asset  The asset turnover.
+     * @param result Receives the return on investment, or the reason it could
+     *               not be calculated.
+     * @return {@code true} if the return on investment was calculated; 
+     *         {@code false} otherwise.
+     */
+    public static boolean tryDuPontROI(double profit, double asset, 
+            AccountingResult result) {
+        if ( profit <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_PROFIT, profit);
+        }
+        if ( asset <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_ASSET, asset);
+        }
+        return result.succeed(profit * asset);
+    }
+    
+    /**
+     * Calculates the net income without throwing or logging. See
+     * {@link #NetIncome(double, double)}.
+     * 
+     * @param totalRevenue  The total revenue coming into the company.
+     * @param totalExpenses The total expenses being spent by the company.
+     * @param result        Receives the net income, or the reason it could not
+     *                      be calculated.
+     * @return {@code true} if the net income was calculated; {@code false}
+     *         otherwise.
+     */
+    public static boolean tryNetIncome(double totalRevenue, 
+            double totalExpenses, AccountingResult result) {
+        if ( totalRevenue <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_TOTAL_REVENUE, 
+                    totalRevenue);
+        }
+        if ( totalExpenses <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_TOTAL_EXPENSES, 
+                    totalExpenses);
+        }
+        return result.succeed(totalRevenue - totalExpenses);
+    }
+    
+    /**
+     * Checks the basic accounting equation without throwing or logging. See
+     * {@link #isBalanced(double, double, double)}. Whether the books balance
+     * is read with {@link AccountingResult#isTrue()}.
+     * 
+     * @param assets        bank balance, vehicles, equipment, etc.
+     * @param liabilities   what is owed: credit cards, loans, etc.
+     * @param equity        what the company owns outright: profit, 
+     *                      contributions.
+     * @param result        Receives the answer, or the reason it could not be
+     *                      worked out.
+     * @return {@code true} if the check could be made, whether or not the
+     *         books balance; {@code false} otherwise.
+     */
+    public static boolean tryIsBalanced(double assets, double liabilities, 
+            double equity, AccountingResult result) {
+        if ( assets <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_ASSETS, assets);
+        }
+        if ( liabilities <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_LIABILITIES, 
+                    liabilities);
+        }
+        if ( equity <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_EQUITY, equity);
+        }
+        return result.succeed(balances(assets, liabilities, equity) ? 1.0 : 0.0);
+    }
+    
+    /**
+     * Calculates the per mile breakdown of a value without throwing or 
+     * logging. See {@link #PerMileBreakdown(double, long)}.
+     * 
+     * @param value  The value to break down to the <em>per mile</em> 
+     *               equivalent.
+     * @param miles  The number of miles corresponding to the period for 
+     *               calculation.
+     * @param result Receives the per mile value, or the reason it could not be
+     *               calculated.
+     * @return {@code true} if the per mile value was calculated; {@code false}
+     *         otherwise.
+     */
+    public static boolean tryPerMileBreakdown(double value, long miles, 
+            AccountingResult result) {
+        if ( value <= 0.0 ) {
+            return result.fail(AccountingError.INVALID_VALUE, value);
+        }
+        if ( miles <= 0 ) {
+            return result.fail(AccountingError.INVALID_MILES, miles);
+        }
+        return result.succeed(value / miles);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Batch Methods">
+    /*
+     * Each of these makes the same calculation as the method of the same name,
+     * for every row of its input arrays at once, and writes the answers to an
+     * output array. Nothing is thrown or logged for a refused row: its output
+     * is set to NaN, and its bit is set in the `refused` bitmap, where row `r`
+     * is bit `r % 64` of word `r / 64`. The bitmap may be null if the NaN 
+     * outputs are enough.
+     *
+     * The calculation and the validation are made in two separate loops with
+     * no branches and no calls in them, which the JIT compiles into vector
+     * instructions on processors that have them.
+     */
+    
+    /**
+     * Calculates the current ratio of every row. See
+     * {@link #CurrentRatio(double, double)}.
+     * 
+     * @param currentAssets      The total current assets of each row.
+     * @param currentLiabilities The total current liabilities of each row.
+     * @param out                Receives the current ratio of each row.
+     * @param refused            Receives a set bit for every refused row, or
+     *                           {@code null}.
+     * @return the number of refused rows.
+     * @throws IllegalArgumentException in the event the arrays are not long
+     *         enough for the rows in {@code currentAssets}.
+     */
+    public static int CurrentRatio(double[] currentAssets, 
+            double[] currentLiabilities, double[] out, long[] refused) {
+        int rows = checkRows(currentAssets.length, currentLiabilities.length, 
+                out.length, refused);
+        for ( int row = 0; row < rows; row++ ) {
+            double assets = currentAssets[row];
+            double liabilities = currentLiabilities[row];
+            out[row] = assets <= 0.0 || liabilities <= 0.0 
+                    ? Double.NaN : assets / liabilities;
+        }
+        return refusals("CurrentRatio", currentAssets, currentLiabilities, 
+                rows, refused);
+    }
+    
+    /**
+     * Calculates the return on investment of every row. See
+     * {@link #ReturnOnInvestment(double, double)}.
+     * 
+     * @param profit  The expected profit margin of each row.
+     * @param cost    The initial investment of each row.
+     * @param out     Receives the return on investment of each row.
+     * @param refused Receives a set bit for every refused row, or 
+     *                {@code null}.
+     * @return the number of refused rows.
+     * @throws IllegalArgumentException in the event the arrays are not long
+     *         enough for the rows in {@code profit}.
+     */
+    public static int ReturnOnInvestment(double[] profit, double[] cost, 
+            double[] out, long[] refused) {
+        int rows = checkRows(profit.length, cost.length, out.length, refused);
+        for ( int row = 0; row < rows; row++ ) {
+            double p = profit[row];
+            double c = cost[row];
+            out[row] = p <= 0.0 || c <= 0.0 ? Double.NaN : p / c;
+        }
+        return refusals("ReturnOnInvestment", profit, cost, rows, refused);
+    }
+    
+    /**
+     * Calculates the DuPont return on investment of every row. See
+     * {@link #DuPontROI(double, double)}.
+     * 
+     * @param profit  The profit margin of each row.
+     * @param asset   The asset turnover of each row.
+     * @param out     Receives the return on investment of each row.
+     * @param refused Receives a set bit for every refused row, or 
+     *                {@code null}.
+     * @return the number of refused rows.
+     * @throws IllegalArgumentException in the event the arrays are not long
+     *         enough for the rows in {@code profit}.
+     */
+    public static int DuPontROI(double[] profit, double[] asset, double[] out,
+            long[] refused) {
+        int rows = checkRows(profit.length, asset.length, out.length, refused);
+        for ( int row = 0; row < rows; row++ ) {
+            double p = profit[row];
+            double a = asset[row];
+            out[row] = p <= 0.0 || a <= 0.0 ? Double.NaN : p * a;
+        }
+        return refusals("DuPontROI", profit, asset, rows, refused);
+    }
+    
+    /**
+     * Calculates the net income of every row. See
+     * {@link #NetIncome(double, double)}.
+     * 
+     * @param totalRevenue  The total revenue of each row.
+     * @param totalExpenses The total expenses of each row.
+     * @param out           Receives the net income of each row.
+     * @param refused       Receives a set bit for every refused row, or 
+     *                      {@code null}.
+     * @return the number of refused rows.
+     * @throws IllegalArgumentException in the event the arrays are not long
+     *         enough for the rows in {@code totalRevenue}.
+     */
+    public static int NetIncome(double[] totalRevenue, double[] totalExpenses,
+            double[] out, long[] refused) {
+        int rows = checkRows(totalRevenue.length, totalExpenses.length, 
+                out.length, refused);
+        for ( int row = 0; row < rows; row++ ) {
+            double revenue = totalRevenue[row];
+            double expenses = totalExpenses[row];
+            out[row] = revenue <= 0.0 || expenses <= 0.0 
+                    ? Double.NaN : revenue - expenses;
+        }
+        return refusals("NetIncome", totalRevenue, totalExpenses, rows, 
+                refused);
+    }
+    
+    /**
+     * Checks the basic accounting equation for every row. See
+     * {@link #isBalanced(double, double, double)}. A refused row is reported
+     * as not balanced.
+     * 
+     * @param assets      The assets of each row.
+     * @param liabilities The liabilities of each row.
+     * @param equity      The equity of each row.
+     * @param out         Receives whether each row balances.
+     * @param refused     Receives a set bit for every refused row, or 
+     *                    {@code null}.
+     * @return the number of refused rows.
+     * @throws IllegalArgumentException in the event the arrays are not long
+     *         enough for the rows in {@code assets}.
+     */
+    public static int isBalanced(double[] assets, double[] liabilities,
+            double[] equity, boolean[] out, long[] refused) {
+        int rows = checkRows(assets.length, 
+                java.lang.Math.min(liabilities.length, equity.length), 
+                out.length, refused);
+        for ( int row = 0; row < rows; row++ ) {
+            double a = assets[row];
+            double l = liabilities[row];
+            double e = equity[row];
+            out[row] = a > 0.0 && l > 0.0 && e > 0.0 && balances(a, l, e);
+        }
+        
+        int count = 0;
+        for ( int word = 0; word * 64 < rows; word++ ) {
+            int end = java.lang.Math.min(rows, word * 64 + 64);
+            long bits = 0;
+            for ( int row = word * 64; row < end; row++ ) {
+                bits |= (assets[row] <= 0.0 | liabilities[row] <= 0.0 
+                        | equity[row] <= 0.0 ? 1L : 0L) << row;
+            }
+            count += store(refused, word, bits);
+        }
+        logBatch("isBalanced", rows, count);
+        return count;
+    }
+    
+    /**
+     * Calculates the per mile breakdown of every row. See
+     * {@link #PerMileBreakdown(double, long)}.
+     * 
+     * @param values  The value of each row to break down.
+     * @param miles   The miles of each row.
+     * @param out     Receives the per mile value of each row.
+     * @param refused Receives a set bit for every refused row, or 
+     *                {@code null}.
+     * @return the number of refused rows.
+     * @throws IllegalArgumentException in the event the arrays are not long
+     *         enough for the rows in {@code values}.
+     */
+    public static int PerMileBreakdown(double[] values, long[] miles, 
+            double[] out, long[] refused) {
+        int rows = checkRows(values.length, miles.length, out.length, refused);
+        for ( int row = 0; row < rows; row++ ) {
+            double value = values[row];
+            long m = miles[row];
+            out[row] = value <= 0.0 || m <= 0 ? Double.NaN : value / m;
+        }
+        
+        int count = 0;
+        for ( int word = 0; word * 64 < rows; word++ ) {
+            int end = java.lang.Math.min(rows, word * 64 + 64);
+            long bits = 0;
+            for ( int row = word * 64; row < end; row++ ) {
+                bits |= (values[row] <= 0.0 | miles[row] <= 0 ? 1L : 0L) 
+                        << row;
+            }
+            count += store(refused, word, bits);
+        }
+        logBatch("PerMileBreakdown", rows, count);
+        return count;
+    }
+    
+    /**
+     * Determines whether a row was refused by one of the batch methods.
+     * 
+     * @param refused The bitmap filled in by the batch method.
+     * @param row     The row to check.
+     * @return {@code true} if the row was refused; {@code false} otherwise.
+     */
+    public static boolean isRefused(long[] refused, int row) {
+        return (refused[row >>> 6] & (1L << row)) != 0;
+    }
+    
+    /**
+     * Calculates the length of the bitmap needed for a number of rows.
+     * 
+     * @param rows The number of rows.
+     * @return the number of {@code long}s the bitmap needs.
+     */
+    public static int bitmapLength(int rows) {
+        return (rows + 63) >>> 6;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    private static boolean balances(double assets, double liabilities, 
+            double equity) {
+        return java.lang.Math.abs(assets - (liabilities + equity)) 
+                < BALANCE_TOLERANCE;
+    }
+    
+    private static void requirePositive(Money amount, String name) 
+            throws InvalidAccountingDataException {
+        if ( amount.signum() <= 0 ) {
+            InvalidAccountingDataException ex = new 
+                    InvalidAccountingDataException("Invalid '" + name 
+                            + "' value supplied.");
+            log.error(ex, "Invalid '" + name + "' value supplied.\n\n'" 
+                    + name + "' must be greater than zero (0), but the value "
+                    + "supplied was " + amount + "\n\n");
+            throw ex;
+        }
+    }
+    
+    private static int checkRows(int rows, int second, int out, 
+            long[] refused) {
+        if ( second < rows || out < rows ) {
+            throw new IllegalArgumentException("Every input and output array "
+                    + "must have at least " + rows + " rows.");
+        }
+        if ( refused != null && refused.length < bitmapLength(rows) ) {
+            throw new IllegalArgumentException("The refused bitmap must have "
+                    + "at least " + bitmapLength(rows) + " words for " + rows 
+                    + " rows.");
+        }
+        return rows;
+    }
+    
+    /**
+     * Fills in the bitmap for a batch whose rows are refused when either value
+     * is zero (0) or less.
+     */
+    private static int refusals(String method, double[] first, 
+            double[] second, int rows, long[] refused) {
+        int count = 0;
+        for ( int word = 0; word * 64 < rows; word++ ) {
+            int end = java.lang.Math.min(rows, word * 64 + 64);
+            long bits = 0;
+            for ( int row = word * 64; row < end; row++ ) {
+                bits |= (first[row] <= 0.0 | second[row] <= 0.0 ? 1L : 0L) 
+                        << row;
+            }
+            count += store(refused, word, bits);
+        }
+        logBatch(method, rows, count);
+        return count;
+    }
+    
+    private static int store(long[] refused, int word, long bits) {
+        if ( refused != null ) {
+            refused[word] = bits;
+        }
+        return Long.bitCount(bits);
+    }
+    
+    /**
+     * One debugging message per batch, in place of the entry, exit and error
+     * messages the single-row methods write for every row.
+     */
+    private static void logBatch(String method, int rows, int count) {
+        if ( log.isDebugEnabled() ) {
+            log.debug("{} calculated {} rows and refused {}.", method, rows, 
+                    count);
+        }
+    }
+    //</editor-fold>
+
     //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
     
     //</editor-fold>
@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Money.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 4:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An exact amount of money, held as a whole number of the currency's smallest
+ * units (cents, for dollars) together with the number of decimal places those
+ * units stand for, which is the scale.
+ * <p>
+ * Unlike a {@code double}, a `Money` never picks up rounding errors when it is
+ * added to or subtracted from, so totals can be compared exactly: the books
+ * either balance to the cent or they do not. The arithmetic is all done on
+ * {@code long}s, which is also faster than {@code double} or
+ * {@link BigDecimal} arithmetic when aggregating a ledger.</p>
+ * <p>
+ * `Money` is immutable. Amounts of different scales may be mixed; the result
+ * has the larger of the two scales. An amount that no longer fits in a
+ * {@code long} throws an {@link ArithmeticException} rather than wrapping
+ * around.</p>
+ * <p>
+ * For loops over many amounts, where creating a `Money` for every step would
+ * be wasteful, the static methods that work on the units directly, such as
+ * {@link #plus(long, long)}, do the same arithmetic without any objects at
+ * all.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class Money implements Comparable<Money> {
+    //<editor-fold defaultstate="collapsed" desc="Public Static Constants">
+    /** The scale of dollars and cents, used when no scale is given. */
+    public static final int DEFAULT_SCALE = 2;
+    /** The largest scale a `Money` may have. */
+    public static final int MAX_SCALE = 9;
+    /** No money, at the default scale. */
+    public static final Money ZERO = new Money(0, DEFAULT_SCALE);
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final long[] POWERS = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 
+        100_000_000L, 1_000_000_000L
+    };
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final long units;
+    private final int scale;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private Money(long units, int scale) {
+        this.units = units;
+        this.scale = scale;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Factories">
+    /**
+     * Creates an amount from a number of the currency's smallest units.
+     * 
+     * @param units The number of units, such as cents.
+     * @param scale The number of decimal places the units stand for, such as
+     *              two (2) for cents.
+     * @return the amount.
+     * @throws IllegalArgumentException in the event the scale is less than 
+     *         zero (0) or greater than {@link #MAX_SCALE}.
+     */
+    public static Money ofUnits(long units, int scale) {
+        checkScale(scale);
+        if ( units == 0 && scale == DEFAULT_SCALE ) {
+            return ZERO;
+        }
+        return new Money(units, scale);
+    }
+    
+    /**
+     * Creates an amount from a number of cents.
+     * 
+     * @param cents The number of cents.
+     * @return the amount, at the default scale.
+     */
+    public static Money ofCents(long cents) {
+        return ofUnits(cents, DEFAULT_SCALE);
+    }
+    
+    /**
+     * Creates an amount from a {@code double}, rounded to the nearest cent.
+     * The {@code double} is taken as it would be printed, so that 1.005 is 
+     * rounded as 1.005, and not as the binary number just below it.
+     * 
+     * @param amount The amount.
+     * @return the amount, at the default scale.
+     * @throws ArithmeticException in the event the amount is not a finite
+     *         number, or is too large.
+     */
+    public static Money of(double amount) {
+        return of(amount, DEFAULT_SCALE);
+    }
+    
+    /**
+     * Creates an amount from a {@code double}, rounded to the given scale. 
+     * Halves are rounded to the nearest even unit.
+     * 
+     * @param amount The amount.
+     * @param scale  The number of decimal places to keep.
+     * @return the amount.
+     * @throws ArithmeticException in the event the amount is not a finite
+     *         number, or is too large.
+     * @throws IllegalArgumentException in the event the scale is less than
+     *         zero (0) or greater than {@link #MAX_SCALE}.
+     */
+    public static Money of(double amount, int scale) {
+        checkScale(scale);
+        if ( !Double.isFinite(amount) ) {
+            throw new ArithmeticException("Not an amount of money: " + amount);
+        }
+        return ofUnits(BigDecimal.valueOf(amount)
+                .setScale(scale, RoundingMode.HALF_EVEN).unscaledValue()
+                .longValueExact(), 
+                scale);
+    }
+    
+    /**
+     * Reads an amount, such as {@code "1234.56"} or {@code "-0.5"}. The scale
+     * of the amount is the number of decimal places in the text, but never
+     * less than the default scale.
+     * 
+     * @param text The amount, with no currency symbol or grouping separators.
+     * @return the amount.
+     * @throws NumberFormatException in the event the text is not a number.
+     * @throws ArithmeticException in the event the text has more decimal
+     *         places than {@link #MAX_SCALE}, or is too large.
+     */
+    public static Money parse(String text) {
+        BigDecimal amount = new BigDecimal(text.trim());
+        int scale = java.lang.Math.max(DEFAULT_SCALE, amount.scale());
+        if ( scale > MAX_SCALE ) {
+            throw new ArithmeticException("Too many decimal places: " + text);
+        }
+        return ofUnits(amount.setScale(scale).unscaledValue()
+                .longValueExact(), scale);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Unit Arithmetic">
+    /**
+     * Adds two amounts of units of the same scale.
+     * 
+     * @throws ArithmeticException in the event the sum is too large.
+     */
+    public static long plus(long units, long other) {
+        return java.lang.Math.addExact(units, other);
+    }
+    
+    /**
+     * Subtracts one amount of units from another of the same scale.
+     * 
+     * @throws ArithmeticException in the event the difference is too large.
+     */
+    public static long minus(long units, long other) {
+        return java.lang.Math.subtractExact(units, other);
+    }
+    
+    /**
+     * Multiplies an amount of units by a whole number, such as a quantity.
+     * 
+     * @throws ArithmeticException in the event the product is too large.
+     */
+    public static long times(long units, long factor) {
+        return java.lang.Math.multiplyExact(units, factor);
+    }
+    
+    /**
+     * Multiplies an amount of units by a rate, such as a price per mile or a
+     * tax rate, rounded to the nearest unit, with halves rounded to the
+     * nearest even unit.
+     * 
+     * @throws ArithmeticException in the event the product is too large.
+     */
+    public static long times(long units, double rate) {
+        double product = java.lang.Math.rint(units * rate);
+        if ( !(java.lang.Math.abs(product) < 0x1p63) ) {
+            throw new ArithmeticException("long overflow");
+        }
+        return (long) product;
+    }
+    
+    /**
+     * Changes the scale of an amount of units to a larger one.
+     * 
+     * @param units The amount of units.
+     * @param from  The scale of the units.
+     * @param to    The new scale, which must not be less than {@code from}.
+     * @return the same amount, in units of the new scale.
+     * @throws ArithmeticException in the event the amount is too large for the
+     *         new scale.
+     */
+    public static long rescale(long units, int from, int to) {
+        return java.lang.Math.multiplyExact(units, POWERS[to - from]);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the amount, as a number of the currency's smallest units.
+     */
+    public long getUnits() {
+        return units;
+    }
+    
+    /**
+     * @return the number of decimal places the units stand for.
+     */
+    public int getScale() {
+        return scale;
+    }
+    
+    /**
+     * Retrieves the amount as a number of units of another scale. The amount
+     * is rounded, halves to the nearest even unit, if the scale is smaller.
+     * 
+     * @param newScale The scale of the units to return.
+     * @return the number of units.
+     * @throws ArithmeticException in the event the amount is too large for the
+     *         new scale.
+     */
+    public long getUnits(int newScale) {
+        checkScale(newScale);
+        if ( newScale >= scale ) {
+            return rescale(units, scale, newScale);
+        }
+        long divisor = POWERS[scale - newScale];
+        long quotient = units / divisor;
+        long remainder = units % divisor;
+        long twice = java.lang.Math.abs(remainder) * 2;
+        if ( twice > divisor || (twice == divisor && (quotient & 1) != 0) ) {
+            quotient += Long.signum(units);
+        }
+        return quotient;
+    }
+    
+    /**
+     * @return the sum of this amount and the other.
+     * @throws ArithmeticException in the event the sum is too large.
+     */
+    public Money plus(Money other) {
+        int s = java.lang.Math.max(scale, other.scale);
+        return ofUnits(plus(getUnits(s), other.getUnits(s)), s);
+    }
+    
+    /**
+     * @return this amount less the other.
+     * @throws ArithmeticException in the event the difference is too large.
+     */
+    public Money minus(Money other) {
+        int s = java.lang.Math.max(scale, other.scale);
+        return ofUnits(minus(getUnits(s), other.getUnits(s)), s);
+    }
+    
+    /**
+     * @return this amount multiplied by a whole number, such as a quantity.
+     * @throws ArithmeticException in the event the product is too large.
+     */
+    public Money times(long factor) {
+        return ofUnits(times(units, factor), scale);
+    }
+    
+    /**
+     * @return this amount multiplied by a rate, rounded to this amount's 
+     *         scale, with halves rounded to the nearest even unit.
+     * @throws ArithmeticException in the event the product is too large.
+     */
+    public Money times(double rate) {
+        return ofUnits(times(units, rate), scale);
+    }
+    
+    /**
+     * Divides this amount by another, for a ratio such as a return on an
+     * investment. The ratio is not an amount of money, so it is returned as a
+     * {@code double}.
+     * 
+     * @return the ratio of this amount to the other.
+     */
+    public double dividedBy(Money other) {
+        int s = java.lang.Math.max(scale, other.scale);
+        return (double) getUnits(s) / other.getUnits(s);
+    }
+    
+    /**
+     * @return the negative of this amount.
+     */
+    public Money negate() {
+        return ofUnits(java.lang.Math.negateExact(units), scale);
+    }
+    
+    /**
+     * @return -1, 0 or 1 as this amount is negative, zero or positive.
+     */
+    public int signum() {
+        return Long.signum(units);
+    }
+    
+    /**
+     * @return this amount as a {@code double}, which may no longer be exact.
+     */
+    public double toDouble() {
+        return (double) units / POWERS[scale];
+    }
+    
+    /**
+     * @return this amount as a {@link BigDecimal} of the same scale.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, scale);
+    }
+    
+    /**
+     * Compares two amounts by their value, whatever their scales. Unlike the
+     * arithmetic, this never overflows: an amount too large to be given in
+     * units of the other's scale is simply larger, or smaller, than it.
+     */
+    @Override
+    public int compareTo(Money other) {
+        if ( scale == other.scale ) {
+            return Long.compare(units, other.units);
+        }
+        if ( scale < other.scale ) {
+            return compareRescaled(units, POWERS[other.scale - scale], 
+                    other.units);
+        }
+        return -compareRescaled(other.units, POWERS[scale - other.scale], 
+                units);
+    }
+    
+    /**
+     * Two amounts are equal if they have the same value, whatever their 
+     * scales, so that 1.5 and 1.50 are equal.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Money && compareTo((Money) obj) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        // Drop the trailing zeros, so that equal amounts of different scales
+        //+ hash alike.
+        long u = units;
+        int s = scale;
+        while ( s > 0 && u % 10 == 0 ) {
+            u /= 10;
+            s--;
+        }
+        return Long.hashCode(u) * 31 + s;
+    }
+    
+    /**
+     * @return the amount as plain decimal text, such as {@code "-1234.50"},
+     *         which {@link #parse(String)} reads back.
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    private static void checkScale(int scale) {
+        if ( scale < 0 || scale > MAX_SCALE ) {
+            throw new IllegalArgumentException("The scale must be from 0 to " 
+                    + MAX_SCALE + ", but was " + scale + ".");
+        }
+    }
+    
+    /**
+     * Compares {@code units * factor} with {@code other}. The product is 
+     * worked out to 128 bits, and one that does not fit in a {@code long} is
+     * beyond every {@code long}, on the side of its sign.
+     */
+    private static int compareRescaled(long units, long factor, long other) {
+        long high = java.lang.Math.multiplyHigh(units, factor);
+        long low = units * factor;
+        if ( high != (low >> 63) ) {
+            return high < 0 ? -1 : 1;
+        }
+        return Long.compare(low, other);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   AccountingError.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 3:30:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.enums;
+
+/**
+ * The reasons a calculation in {@link com.pekinsoft.northwind.accounting.Math}
+ * can be refused, as reported by its `try` methods. Each names the parameter
+ * whose value was not usable.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public enum AccountingError {
+    /** The calculation succeeded. */
+    NONE(null),
+    INVALID_CURRENT_ASSETS("currentAssets"),
+    INVALID_CURRENT_LIABILITIES("currentLiabilities"),
+    INVALID_PROFIT("profit"),
+    INVALID_COST("cost"),
+    INVALID_ASSET("asset"),
+    INVALID_TOTAL_REVENUE("totalRevenue"),
+    INVALID_TOTAL_EXPENSES("totalExpenses"),
+    INVALID_ASSETS("assets"),
+    INVALID_LIABILITIES("liabilities"),
+    INVALID_EQUITY("equity"),
+    INVALID_VALUE("value"),
+    INVALID_MILES("miles");
+    
+    private final String parameter;
+    
+    private AccountingError(String parameter) {
+        this.parameter = parameter;
+    }
+    
+    /**
+     * Retrieves the name of the parameter whose value was refused.
+     * 
+     * @return the parameter name, or {@code null} for {@link #NONE}.
+     */
+    public String getParameter() {
+        return parameter;
+    }
+}
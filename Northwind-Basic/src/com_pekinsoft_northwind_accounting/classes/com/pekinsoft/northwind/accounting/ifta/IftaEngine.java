@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   IftaEngine.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:20:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ifta;
+
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Adds up the miles driven and the fuel bought in each IFTA jurisdiction, per
+ * quarter, and works out the quarterly fuel tax return from them.
+ * <p>
+ * Each quarter is two arrays indexed by {@link Jurisdiction} ordinal: the 
+ * miles, and the fuel bought in thousandths of a gallon. Each trip and 
+ * receipt given to the engine adds to them, and the return is then worked
+ * out from the 58 jurisdictions' totals, however many trips were made.</p>
+ * <p>
+ * The engine only holds what it is given. Neither loads nor fuel receipts 
+ * record their jurisdictions yet, so the caller fills an engine from its own
+ * trip sheets and receipts for the quarters it needs, and it keeps nothing
+ * once it is dropped.</p>
+ * <p>
+ * The engine is safe to use from more than one thread.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class IftaEngine {
+    private static final Logger log = Application.log.getLogger(
+            IftaEngine.class);
+    
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final int JURISDICTIONS = Jurisdiction.values().length;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    // Keyed by `year * 4 + quarter - 1`. Guarded by `this`.
+    private final Map<Integer, Quarter> quarters = new HashMap<>();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates an engine with no miles or fuel in any quarter.
+     */
+    public IftaEngine() {
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Methods">
+    /**
+     * Reads the tax rates of a quarter, in dollars per gallon, from 
+     * properties keyed by postal code, such as {@code IN=0.55}. A 
+     * jurisdiction that is missing, or whose rate is not a number, is given a
+     * rate of zero (0), with a warning in the log.
+     * 
+     * @param properties The rates.
+     * @return the rates, indexed by {@link Jurisdiction} ordinal.
+     */
+    public static double[] readRates(Properties properties) {
+        double[] rates = new double[JURISDICTIONS];
+        for ( Jurisdiction jurisdiction : Jurisdiction.values() ) {
+            String rate = properties.getProperty(jurisdiction.name());
+            if ( rate == null ) {
+                log.warning("No IFTA tax rate for {}; using zero.", 
+                        jurisdiction.getTitle());
+                continue;
+            }
+            try {
+                rates[jurisdiction.ordinal()] = Double.parseDouble(rate);
+            } catch ( NumberFormatException ex ) {
+                log.warning("The IFTA tax rate for {} is not a number: {}; "
+                        + "using zero.", jurisdiction.getTitle(), rate);
+            }
+        }
+        return rates;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * Adds the miles of a load, by jurisdiction.
+     * 
+     * @param date  The date of the load, which decides its quarter.
+     * @param miles The miles driven in each jurisdiction, indexed by 
+     *              {@link Jurisdiction} ordinal.
+     */
+    public synchronized void addLoad(LocalDate date, long[] miles) {
+        if ( miles.length != JURISDICTIONS ) {
+            throw new IllegalArgumentException("The miles must be given for "
+                    + "each of the " + JURISDICTIONS + " jurisdictions.");
+        }
+        long[] totals = quarterOf(date).miles;
+        for ( int idx = 0; idx < JURISDICTIONS; idx++ ) {
+            totals[idx] += miles[idx];
+        }
+    }
+    
+    /**
+     * Adds miles driven in one jurisdiction.
+     * 
+     * @param date         The date driven, which decides the quarter.
+     * @param jurisdiction Where the miles were driven.
+     * @param miles        The miles.
+     */
+    public synchronized void addMiles(LocalDate date, 
+            Jurisdiction jurisdiction, long miles) {
+        quarterOf(date).miles[jurisdiction.ordinal()] += miles;
+    }
+    
+    /**
+     * Adds a fuel purchase.
+     * 
+     * @param date         The date of the purchase, which decides the 
+     *                     quarter.
+     * @param jurisdiction Where the fuel was bought.
+     * @param gallons      The gallons bought.
+     */
+    public synchronized void addFuel(LocalDate date, 
+            Jurisdiction jurisdiction, double gallons) {
+        quarterOf(date).fuel[jurisdiction.ordinal()] 
+                += Math.round(gallons * 1000.0);
+    }
+    
+    /**
+     * Works out the return of a quarter.
+     * 
+     * @param year    The year.
+     * @param quarter The quarter, from one (1) to four (4).
+     * @param rates   The tax rates of the quarter, in dollars per gallon, 
+     *                indexed by {@link Jurisdiction} ordinal.
+     * @return the return.
+     */
+    public IftaReturn getReturn(int year, int quarter, double[] rates) {
+        if ( quarter < 1 || quarter > 4 ) {
+            throw new IllegalArgumentException("There is no quarter " 
+                    + quarter + ".");
+        }
+        if ( rates.length != JURISDICTIONS ) {
+            throw new IllegalArgumentException("A rate must be given for each "
+                    + "of the " + JURISDICTIONS + " jurisdictions.");
+        }
+        
+        long[] miles;
+        long[] fuel;
+        synchronized ( this ) {
+            Quarter figures = quarters.get(year * 4 + quarter - 1);
+            miles = figures == null ? new long[JURISDICTIONS] 
+                    : figures.miles.clone();
+            fuel = figures == null ? new long[JURISDICTIONS] 
+                    : figures.fuel.clone();
+        }
+        
+        long totalMiles = 0;
+        long totalFuel = 0;
+        for ( int idx = 0; idx < JURISDICTIONS; idx++ ) {
+            totalMiles += miles[idx];
+            totalFuel += fuel[idx];
+        }
+        double mpg = totalFuel > 0 
+                ? Math.round(totalMiles * 1000.0 / totalFuel * 100.0) / 100.0 
+                : Double.NaN;
+        
+        long[] taxable = new long[JURISDICTIONS];
+        long[] paid = new long[JURISDICTIONS];
+        long[] tax = new long[JURISDICTIONS];
+        for ( int idx = 0; idx < JURISDICTIONS; idx++ ) {
+            taxable[idx] = mpg > 0 ? Math.round(miles[idx] / mpg) : 0;
+            paid[idx] = Math.round(fuel[idx] / 1000.0);
+            tax[idx] = Math.round((taxable[idx] - paid[idx]) * rates[idx] 
+                    * 100.0);
+        }
+        return new IftaReturn(year, quarter, mpg, miles, taxable, paid, 
+                rates.clone(), tax);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private Quarter quarterOf(LocalDate date) {
+        int key = date.getYear() * 4 + (date.getMonthValue() - 1) / 3;
+        return quarters.computeIfAbsent(key, k -> new Quarter());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Quarter">
+    private static final class Quarter {
+        private final long[] miles = new long[JURISDICTIONS];
+        private final long[] fuel = new long[JURISDICTIONS];  // 1/1000 gal.
+    }
+    //</editor-fold>
+}
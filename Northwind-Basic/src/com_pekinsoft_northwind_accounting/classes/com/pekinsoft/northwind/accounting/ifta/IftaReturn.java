@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   IftaReturn.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ifta;
+
+import com.pekinsoft.northwind.accounting.Money;
+
+/**
+ * The figures of a quarterly IFTA fuel tax return, per jurisdiction.
+ * <p>
+ * The fleet's miles per gallon for the quarter is its total miles over the 
+ * total gallons bought, rounded to two (2) places. The taxable gallons of a
+ * jurisdiction are its miles over that figure, and the tax-paid gallons those
+ * bought there, both rounded to whole gallons. The difference, at the
+ * jurisdiction's rate, is the tax owed to it, or, when more fuel was bought
+ * there than was burned there, the credit due from it.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class IftaReturn {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final int year;
+    private final int quarter;
+    private final double milesPerGallon;
+    private final long[] miles;
+    private final long[] taxableGallons;
+    private final long[] paidGallons;
+    private final double[] rates;
+    private final long[] tax;           // In cents; negative for a credit.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    IftaReturn(int year, int quarter, double milesPerGallon, long[] miles, 
+            long[] taxableGallons, long[] paidGallons, double[] rates, 
+            long[] tax) {
+        this.year = year;
+        this.quarter = quarter;
+        this.milesPerGallon = milesPerGallon;
+        this.miles = miles;
+        this.taxableGallons = taxableGallons;
+        this.paidGallons = paidGallons;
+        this.rates = rates;
+        this.tax = tax;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return the quarter, from one (1) to four (4).
+     */
+    public int getQuarter() {
+        return quarter;
+    }
+
+    /**
+     * @return the fleet's miles per gallon, or {@link Double#NaN} if no fuel
+     *         was bought in the quarter.
+     */
+    public double getMilesPerGallon() {
+        return milesPerGallon;
+    }
+
+    public long getMiles(Jurisdiction jurisdiction) {
+        return miles[jurisdiction.ordinal()];
+    }
+
+    public long getTaxableGallons(Jurisdiction jurisdiction) {
+        return taxableGallons[jurisdiction.ordinal()];
+    }
+
+    public long getTaxPaidGallons(Jurisdiction jurisdiction) {
+        return paidGallons[jurisdiction.ordinal()];
+    }
+
+    /**
+     * @param jurisdiction The jurisdiction.
+     * @return the tax rate used, in dollars per gallon.
+     */
+    public double getRate(Jurisdiction jurisdiction) {
+        return rates[jurisdiction.ordinal()];
+    }
+
+    /**
+     * @param jurisdiction The jurisdiction.
+     * @return the tax owed to the jurisdiction, or, if negative, the credit 
+     *         due from it.
+     */
+    public Money getTax(Jurisdiction jurisdiction) {
+        return Money.ofCents(tax[jurisdiction.ordinal()]);
+    }
+
+    public long getTotalMiles() {
+        long total = 0;
+        for ( long value : miles ) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * @return the tax owed for the quarter, less the credits.
+     */
+    public Money getTotalTax() {
+        long total = 0;
+        for ( long value : tax ) {
+            total += value;
+        }
+        return Money.ofCents(total);
+    }
+    //</editor-fold>
+}
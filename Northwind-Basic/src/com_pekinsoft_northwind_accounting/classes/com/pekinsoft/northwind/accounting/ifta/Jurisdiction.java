@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Jurisdiction.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:00:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ifta;
+
+/**
+ * The member jurisdictions of the International Fuel Tax Agreement (IFTA):
+ * the 48 contiguous United States and the ten (10) Canadian provinces. The 
+ * IFTA engine keeps its figures in arrays indexed by the ordinal of these.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public enum Jurisdiction {
+    AL("Alabama"), AZ("Arizona"), AR("Arkansas"), CA("California"),
+    CO("Colorado"), CT("Connecticut"), DE("Delaware"), FL("Florida"),
+    GA("Georgia"), ID("Idaho"), IL("Illinois"), IN("Indiana"), IA("Iowa"),
+    KS("Kansas"), KY("Kentucky"), LA("Louisiana"), ME("Maine"), 
+    MD("Maryland"), MA("Massachusetts"), MI("Michigan"), MN("Minnesota"),
+    MS("Mississippi"), MO("Missouri"), MT("Montana"), NE("Nebraska"),
+    NV("Nevada"), NH("New Hampshire"), NJ("New Jersey"), NM("New Mexico"),
+    NY("New York"), NC("North Carolina"), ND("North Dakota"), OH("Ohio"),
+    OK("Oklahoma"), OR("Oregon"), PA("Pennsylvania"), RI("Rhode Island"),
+    SC("South Carolina"), SD("South Dakota"), TN("Tennessee"), TX("Texas"),
+    UT("Utah"), VT("Vermont"), VA("Virginia"), WA("Washington"),
+    WV("West Virginia"), WI("Wisconsin"), WY("Wyoming"),
+    AB("Alberta"), BC("British Columbia"), MB("Manitoba"), 
+    NB("New Brunswick"), NL("Newfoundland and Labrador"), 
+    NS("Nova Scotia"), ON("Ontario"), PE("Prince Edward Island"), 
+    QC("Quebec"), SK("Saskatchewan");
+    
+    private final String title;
+    
+    private Jurisdiction(String title) {
+        this.title = title;
+    }
+    
+    /**
+     * @return the name of the state or province, for display.
+     */
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * Looks up a jurisdiction by its two (2) letter postal code, in any case.
+     * 
+     * @param code The postal code.
+     * @return the jurisdiction, or {@code null} if the code is not that of an
+     *         IFTA member.
+     */
+    public static Jurisdiction forCode(String code) {
+        if ( code == null ) {
+            return null;
+        }
+        try {
+            return valueOf(code.trim().toUpperCase());
+        } catch ( IllegalArgumentException ex ) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Account.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 4:45:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Added `isCurrent`, for the current ratio.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+/**
+ * The chart of accounts of the General Ledger. Each account is stored in the
+ * journal by its number, which therefore must never change once the account
+ * has been posted to; new accounts are added with new numbers.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public enum Account {
+    CASH(1000, "Cash", Type.ASSET),
+    ACCOUNTS_RECEIVABLE(1100, "Accounts Receivable", Type.ASSET),
+    EQUIPMENT(1500, "Trucks, Trailers and Equipment", Type.ASSET),
+    ACCOUNTS_PAYABLE(2000, "Accounts Payable", Type.LIABILITY),
+    CREDIT_CARDS(2100, "Credit Cards", Type.LIABILITY),
+    LOANS(2500, "Loans", Type.LIABILITY),
+    OWNER_EQUITY(3000, "Owner's Equity", Type.EQUITY),
+    OWNER_DRAWS(3100, "Owner's Draws", Type.EQUITY),
+    FREIGHT_REVENUE(4000, "Freight Revenue", Type.REVENUE),
+    FUEL_SURCHARGE(4100, "Fuel Surcharge", Type.REVENUE),
+    FUEL(5000, "Fuel", Type.EXPENSE),
+    MAINTENANCE(5100, "Maintenance and Repairs", Type.EXPENSE),
+    INSURANCE(5200, "Insurance", Type.EXPENSE),
+    TOLLS_AND_PERMITS(5300, "Tolls and Permits", Type.EXPENSE),
+    EQUIPMENT_PAYMENTS(5400, "Truck and Trailer Payments", Type.EXPENSE),
+    OTHER_EXPENSES(5900, "Other Expenses", Type.EXPENSE);
+    
+    /**
+     * The kinds of accounts, which decide on which side an account's balance
+     * normally is.
+     */
+    public enum Type {
+        ASSET, LIABILITY, EQUITY, REVENUE, EXPENSE;
+        
+        /**
+         * @return {@code true} if accounts of this type are increased by 
+         *         debits; {@code false} if they are increased by credits.
+         */
+        public boolean isDebitNormal() {
+            return this == ASSET || this == EXPENSE;
+        }
+    }
+    
+    private static final Account[] BY_ORDINAL = values();
+    
+    private final int number;
+    private final String title;
+    private final Type type;
+    
+    private Account(int number, String title, Type type) {
+        this.number = number;
+        this.title = title;
+        this.type = type;
+    }
+    
+    /**
+     * @return the account number, under which the account is stored.
+     */
+    public int getNumber() {
+        return number;
+    }
+    
+    /**
+     * @return the name of the account, for display.
+     */
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * @return the kind of account.
+     */
+    public Type getType() {
+        return type;
+    }
+    
+    /**
+     * Determines whether the account is a current asset or liability: one 
+     * turned into cash, or paid, within the year. By the numbering of the 
+     * chart of accounts, these are the assets numbered below 1500 and the 
+     * liabilities numbered below 2500.
+     * 
+     * @return {@code true} for a current asset or liability.
+     */
+    public boolean isCurrent() {
+        return (type == Type.ASSET && number < 1500)
+                || (type == Type.LIABILITY && number < 2500);
+    }
+    
+    /**
+     * Looks up an account by its number.
+     * 
+     * @param number The account number.
+     * @return the account, or {@code null} if there is no account with that
+     *         number.
+     */
+    public static Account forNumber(int number) {
+        for ( Account account : BY_ORDINAL ) {
+            if ( account.number == number ) {
+                return account;
+            }
+        }
+        return null;
+    }
+    
+    @Override
+    public String toString() {
+        return number + " " + title;
+    }
+}
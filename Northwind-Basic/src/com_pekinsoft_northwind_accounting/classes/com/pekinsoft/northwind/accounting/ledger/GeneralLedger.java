@@ -0,0 +1,799 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   GeneralLedger.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 5:35:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Kept the dashboard totals up to date.
+ *  Oct 17, 2026  Sean Carrick        Added `sumByPeriod`, for the reports.
+ *  Oct 17, 2026  Sean Carrick        Kept day, month, quarter and year 
+ *                                    rollups once they are first asked for.
+ *  Oct 17, 2026  Sean Carrick        Added `postAll`, for batch posting.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.accounting.exceptions.InvalidAccountingDataException;
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * The company's General Ledger: every transaction ever posted, kept in an
+ * append-only journal under the company directory, and the running balance
+ * of every account.
+ * <p>
+ * Posting a transaction writes its postings to the end of the 
+ * {@link Journal} as fixed-width, checksummed records, in one sequential
+ * write that is shared with any other transactions being posted at the same
+ * time, and returns once they are on disk. The balances are kept in memory,
+ * and written out as a {@link Snapshot} every {@link #SNAPSHOT_INTERVAL}
+ * postings and when the ledger is closed.</p>
+ * <p>
+ * Opening the ledger reads the last snapshot and replays only the postings
+ * made after it. A transaction that was only partly written, because the
+ * application stopped in the middle of it, is dropped and cut off the end of
+ * the journal, so the ledger only ever holds whole transactions. A damaged
+ * posting with whole postings after it is not such a torn end, though: the
+ * ledger then refuses to open, and leaves the journal as it is, rather than
+ * throw away the transactions committed after the damage.</p>
+ * <p>
+ * The {@link LedgerTotals} for the dashboard are kept up to date as each 
+ * posting is made, and listeners are told of the new totals after each 
+ * transaction.</p>
+ * <p>
+ * The ledger is safe to use from more than one thread.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class GeneralLedger implements AutoCloseable {
+    private static final Logger log = Application.log.getLogger(
+            GeneralLedger.class);
+    
+    //<editor-fold defaultstate="collapsed" desc="Public Static Constants">
+    /** The number of postings between two snapshots. */
+    public static final int SNAPSHOT_INTERVAL = 10_000;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final String JOURNAL_FILE = "journal.nwgl";
+    private static final String SNAPSHOT_FILE = "balances.snap";
+    // Records read at a time while replaying.
+    private static final int REPLAY_RECORDS = 16 * 1024;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Fields">
+    private static GeneralLedger defaultLedger;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Path snapshotPath;
+    private final Journal journal;
+    private final Object snapshotLock = new Object();
+    private final List<Consumer<LedgerTotals>> listeners 
+            = new CopyOnWriteArrayList<>();
+    private volatile LedgerTotals totals;
+    private long snapshotOffset;        // Guarded by `snapshotLock`.
+    
+    // Everything below is guarded by `this`.
+    private final long[] cents;         // Balances, by account ordinal.
+    private final long[] quantities;    // Quantity totals, by account ordinal.
+    private final long[] running = new long[3]; // See `LedgerTotals.add`.
+    private long lastSequence;
+    private long lastTransaction;
+    private long journalEnd;            // Just past the last posting added.
+    private int sinceSnapshot;
+    private LedgerRollups rollups;      // Built when first asked for.
+    private boolean closed;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private GeneralLedger(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        Path journalPath = directory.resolve(JOURNAL_FILE);
+        
+        Snapshot snapshot = null;
+        try {
+            snapshot = Snapshot.read(snapshotPath);
+        } catch ( IOException ex ) {
+            log.warning("Ignoring the General Ledger snapshot and replaying "
+                    + "the whole journal: {}", ex.getMessage());
+        }
+        
+        FileChannel channel = Journal.openFile(journalPath);
+        try {
+            if ( snapshot != null && snapshot.journalOffset > channel.size() ) {
+                log.warning("The General Ledger snapshot is ahead of the "
+                        + "journal, so the whole journal is replayed.");
+                snapshot = null;
+            }
+            if ( snapshot != null ) {
+                this.cents = snapshot.cents;
+                this.quantities = snapshot.quantities;
+                this.lastSequence = snapshot.lastSequence;
+                this.lastTransaction = snapshot.lastTransaction;
+                this.journalEnd = snapshot.journalOffset;
+            } else {
+                this.cents = new long[Account.values().length];
+                this.quantities = new long[cents.length];
+                this.journalEnd = Journal.HEADER_SIZE;
+            }
+            this.snapshotOffset = journalEnd;
+            
+            long replayed = replay(channel);
+            this.journal = Journal.append(channel, journalEnd);
+            for ( Account account : Account.values() ) {
+                LedgerTotals.add(running, account, cents[account.ordinal()], 
+                        quantities[account.ordinal()]);
+            }
+            this.totals = new LedgerTotals(running[0], running[1], running[2], 
+                    lastTransaction);
+            log.config("Opened the General Ledger at {}: replayed {} postings "
+                    + "after the snapshot, up to transaction {}.", directory, 
+                    replayed, lastTransaction);
+            
+            if ( replayed > 0 ) {
+                snapshot();
+            }
+        } catch ( IOException | RuntimeException ex ) {
+            channel.close();
+            throw ex;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Methods">
+    /**
+     * Opens the General Ledger kept in the given directory, creating it if the
+     * directory holds none yet.
+     * 
+     * @param directory The directory of the ledger's files.
+     * @return the ledger.
+     * @throws IOException in the event the ledger cannot be read, or its 
+     *         journal is not one this version can read.
+     */
+    public static GeneralLedger open(Path directory) throws IOException {
+        return new GeneralLedger(directory);
+    }
+    
+    /**
+     * Retrieves the General Ledger of the company, under
+     * {@link Application#COMPANY_DIR}, opening it the first time. It is 
+     * closed when the application exits.
+     * 
+     * @return the company's ledger.
+     * @throws IOException in the event the ledger cannot be opened.
+     */
+    public static synchronized GeneralLedger getDefault() throws IOException {
+        if ( defaultLedger == null ) {
+            GeneralLedger ledger = open(Paths.get(Application.COMPANY_DIR, 
+                    "default", "ledger"));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    ledger.close();
+                } catch ( IOException ex ) {
+                    log.error(ex, "Closing the General Ledger at exit.");
+                }
+            }, "Northwind Ledger Shutdown"));
+            defaultLedger = ledger;
+        }
+        return defaultLedger;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * Posts a transaction. This returns once the transaction is on disk.
+     * 
+     * @param date     The date of the transaction.
+     * @param postings The postings of the transaction, whose debits and 
+     *                 credits must balance.
+     * @return the number of the transaction.
+     * @throws InvalidAccountingDataException in the event the transaction has
+     *         fewer than two (2) postings, or does not balance.
+     * @throws IOException in the event the transaction cannot be written, or
+     *         the ledger is closed.
+     */
+    public long post(LocalDate date, Posting... postings) 
+            throws InvalidAccountingDataException, IOException {
+        return post(date, Arrays.asList(postings));
+    }
+    
+    /**
+     * Posts a transaction. This returns once the transaction is on disk.
+     * 
+     * @param date     The date of the transaction.
+     * @param postings The postings of the transaction, whose debits and 
+     *                 credits must balance.
+     * @return the number of the transaction.
+     * @throws InvalidAccountingDataException in the event the transaction has
+     *         fewer than two (2) postings, or does not balance.
+     * @throws IOException in the event the transaction cannot be written, or
+     *         the ledger is closed.
+     */
+    public long post(LocalDate date, List<Posting> postings) 
+            throws InvalidAccountingDataException, IOException {
+        check(postings);
+        int day = (int) date.toEpochDay();
+        
+        long transaction;
+        long end;
+        Snapshot snapshot = null;
+        synchronized ( this ) {
+            if ( closed ) {
+                throw new IOException("The General Ledger is closed.");
+            }
+            transaction = ++lastTransaction;
+            int last = postings.size() - 1;
+            for ( int idx = 0; idx <= last; idx++ ) {
+                Posting posting = postings.get(idx);
+                int account = posting.getAccount().ordinal();
+                journalEnd = journal.add(++lastSequence, transaction, day, 
+                        posting.getAccount().getNumber(), posting.getCents(), 
+                        posting.getQuantity(), idx == last ? Journal.LAST : 0);
+                cents[account] += posting.getCents();
+                quantities[account] += posting.getQuantity();
+                LedgerTotals.add(running, posting.getAccount(), 
+                        posting.getCents(), posting.getQuantity());
+                if ( rollups != null ) {
+                    rollups.add(day, account, posting.getCents(), 
+                            posting.getQuantity());
+                }
+            }
+            totals = new LedgerTotals(running[0], running[1], running[2], 
+                    transaction);
+            end = journalEnd;
+            sinceSnapshot += postings.size();
+            if ( sinceSnapshot >= SNAPSHOT_INTERVAL ) {
+                snapshot = capture();
+            }
+        }
+        
+        journal.awaitDurable(end);
+        if ( snapshot != null ) {
+            write(snapshot);
+        }
+        notifyListeners();
+        return transaction;
+    }
+    
+    /**
+     * Posts a batch of transactions, such as a year of imported fuel receipts,
+     * at once. This returns once all of them are on disk.
+     * <p>
+     * The whole batch is checked before anything is posted, so a batch with 
+     * an unbalanced transaction posts nothing. The postings are then added to
+     * the journal in one piece, written with one write and one force, and the
+     * dashboard totals are published, and listeners told, once for the 
+     * batch. Each transaction is still its own unit in the journal: should 
+     * the application stop while the batch is being written, the 
+     * transactions written in full are kept on the next start.</p>
+     * 
+     * @param transactions The transactions to post.
+     * @return the number of the first transaction of the batch; the others 
+     *         follow it in order.
+     * @throws InvalidAccountingDataException in the event any transaction of
+     *         the batch has fewer than two (2) postings, or does not balance.
+     * @throws IOException in the event the batch cannot be written, or the
+     *         ledger is closed.
+     */
+    public long postAll(List<Transaction> transactions) 
+            throws InvalidAccountingDataException, IOException {
+        int count = 0;
+        for ( int idx = 0; idx < transactions.size(); idx++ ) {
+            List<Posting> postings = transactions.get(idx).getPostings();
+            try {
+                check(postings);
+            } catch ( InvalidAccountingDataException ex ) {
+                throw new InvalidAccountingDataException("Transaction " 
+                        + (idx + 1) + " of the batch: " + ex.getMessage());
+            }
+            count += postings.size();
+        }
+        if ( count == 0 ) {
+            synchronized ( this ) {
+                return lastTransaction + 1;
+            }
+        }
+        
+        long[] numbers = new long[count];
+        int[] days = new int[count];
+        int[] accounts = new int[count];
+        long[] amounts = new long[count];
+        long[] counts = new long[count];
+        int[] flags = new int[count];
+        
+        long first;
+        long end;
+        Snapshot snapshot = null;
+        synchronized ( this ) {
+            if ( closed ) {
+                throw new IOException("The General Ledger is closed.");
+            }
+            first = lastTransaction + 1;
+            long number = first;
+            int row = 0;
+            for ( Transaction transaction : transactions ) {
+                int day = (int) transaction.getDate().toEpochDay();
+                for ( Posting posting : transaction.getPostings() ) {
+                    numbers[row] = number;
+                    days[row] = day;
+                    accounts[row] = posting.getAccount().getNumber();
+                    amounts[row] = posting.getCents();
+                    counts[row] = posting.getQuantity();
+                    row++;
+                }
+                flags[row - 1] = Journal.LAST;
+                number++;
+            }
+            journalEnd = journal.addAll(lastSequence + 1, count, numbers, 
+                    days, accounts, amounts, counts, flags);
+            lastSequence += count;
+            lastTransaction = number - 1;
+            
+            for ( Transaction transaction : transactions ) {
+                int day = (int) transaction.getDate().toEpochDay();
+                for ( Posting posting : transaction.getPostings() ) {
+                    int account = posting.getAccount().ordinal();
+                    cents[account] += posting.getCents();
+                    quantities[account] += posting.getQuantity();
+                    LedgerTotals.add(running, posting.getAccount(), 
+                            posting.getCents(), posting.getQuantity());
+                    if ( rollups != null ) {
+                        rollups.add(day, account, posting.getCents(), 
+                                posting.getQuantity());
+                    }
+                }
+            }
+            totals = new LedgerTotals(running[0], running[1], running[2], 
+                    lastTransaction);
+            end = journalEnd;
+            sinceSnapshot += count;
+            if ( sinceSnapshot >= SNAPSHOT_INTERVAL ) {
+                snapshot = capture();
+            }
+        }
+        
+        journal.awaitDurable(end);
+        if ( snapshot != null ) {
+            write(snapshot);
+        }
+        notifyListeners();
+        log.debug("Posted a batch of {} transactions, {} postings, starting "
+                + "at transaction {}.", transactions.size(), count, first);
+        return first;
+    }
+    
+    /**
+     * Retrieves the totals for the dashboard, as of the last transaction 
+     * posted. This does not wait for a transaction being posted by another 
+     * thread.
+     * 
+     * @return the totals.
+     */
+    public LedgerTotals getTotals() {
+        return totals;
+    }
+    
+    /**
+     * Adds a listener that is given the new totals after each transaction is 
+     * posted. The listener is called on the thread that posted the 
+     * transaction, so a listener that updates the user interface must hand 
+     * the work to the event dispatch thread itself.
+     * 
+     * @param listener The listener to add.
+     */
+    public void addTotalsListener(Consumer<LedgerTotals> listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Removes a listener added by {@link #addTotalsListener(Consumer)}.
+     * 
+     * @param listener The listener to remove.
+     */
+    public void removeTotalsListener(Consumer<LedgerTotals> listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Totals the postings made so far by period and account. Once the 
+     * {@link #getRollups() rollups} have been built, the totals are put 
+     * together from them. Until then, the journal is read on the given pool:
+     * it is split into ranges of records, each totaled by a task of its own,
+     * so a report over years of postings uses every core of the pool.
+     * 
+     * @param boundaries The days the periods start on, as days since the 
+     *                   epoch, then the day after the last period. They must
+     *                   be in ascending order.
+     * @param pool       The pool to read the journal on.
+     * @return the totals.
+     * @throws IOException in the event the journal cannot be read.
+     */
+    public PeriodSums sumByPeriod(int[] boundaries, ForkJoinPool pool) 
+            throws IOException {
+        if ( boundaries.length < 2 ) {
+            throw new IllegalArgumentException("At least one period is "
+                    + "needed.");
+        }
+        for ( int idx = 1; idx < boundaries.length; idx++ ) {
+            if ( boundaries[idx] <= boundaries[idx - 1] ) {
+                throw new IllegalArgumentException("The periods must be in "
+                        + "ascending order.");
+            }
+        }
+        
+        int[] days = boundaries.clone();
+        long end;
+        synchronized ( this ) {
+            if ( rollups != null ) {
+                return rollups.sumByPeriod(days);
+            }
+            end = journalEnd;
+        }
+        
+        // Only whole transactions that are on disk are read.
+        journal.awaitDurable(end);
+        long records = (end - Journal.HEADER_SIZE) / Journal.RECORD_SIZE;
+        long[] sums;
+        try {
+            sums = pool.invoke(new JournalSumTask(journal, days, 0, records));
+        } catch ( UncheckedIOException ex ) {
+            throw ex.getCause();
+        }
+        int length = PeriodSums.length(days.length - 1);
+        return new PeriodSums(days, Arrays.copyOf(sums, length), 
+                Arrays.copyOfRange(sums, length, sums.length));
+    }
+    
+    /**
+     * Retrieves the day, month, quarter and year totals of the ledger. They 
+     * are built from the journal the first time they are asked for, which 
+     * holds up posting while the journal is read, and are kept up to date 
+     * from then on.
+     * 
+     * @return the rollups.
+     * @throws IOException in the event the journal cannot be read.
+     */
+    public synchronized LedgerRollups getRollups() throws IOException {
+        if ( rollups == null ) {
+            long started = System.nanoTime();
+            journal.awaitDurable(journalEnd);
+            LedgerRollups built = new LedgerRollups();
+            ByteBuffer buffer = ByteBuffer.allocate(REPLAY_RECORDS 
+                    * Journal.RECORD_SIZE);
+            for ( long pos = Journal.HEADER_SIZE; pos < journalEnd; ) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), 
+                        journalEnd - pos));
+                journal.read(buffer, pos);
+                buffer.flip();
+                pos += buffer.limit();
+                for ( int base = 0; base + Journal.RECORD_SIZE 
+                        <= buffer.limit(); base += Journal.RECORD_SIZE ) {
+                    Account account = Account.forNumber(
+                            buffer.getInt(base + 20));
+                    if ( account == null ) {
+                        throw new IOException("The General Ledger journal "
+                                + "has a posting to account " 
+                                + buffer.getInt(base + 20) + ", which does "
+                                + "not exist.");
+                    }
+                    built.add(buffer.getInt(base + 16), account.ordinal(), 
+                            buffer.getLong(base + 24), 
+                            buffer.getLong(base + 32));
+                }
+            }
+            rollups = built;
+            log.debug("Built the General Ledger rollups in {} ms.", 
+                    (System.nanoTime() - started) / 1_000_000);
+        }
+        return rollups;
+    }
+    
+    /**
+     * Retrieves the balance of an account: the total of its debits less the
+     * total of its credits.
+     * 
+     * @param account The account.
+     * @return the balance, which is negative for a credit balance.
+     */
+    public synchronized Money getBalance(Account account) {
+        return Money.ofCents(cents[account.ordinal()]);
+    }
+    
+    /**
+     * Retrieves the total of the quantities, such as miles or gallons, posted
+     * to an account.
+     * 
+     * @param account The account.
+     * @return the total quantity.
+     */
+    public synchronized long getQuantity(Account account) {
+        return quantities[account.ordinal()];
+    }
+    
+    /**
+     * @return the number of the last transaction posted, or zero (0) if no
+     *         transaction has been posted yet.
+     */
+    public synchronized long getLastTransaction() {
+        return lastTransaction;
+    }
+    
+    /**
+     * Writes a snapshot of the balances now, rather than waiting for the next
+     * {@link #SNAPSHOT_INTERVAL}.
+     * 
+     * @throws IOException in the event the snapshot cannot be written.
+     */
+    public void snapshot() throws IOException {
+        Snapshot snapshot;
+        synchronized ( this ) {
+            snapshot = capture();
+        }
+        journal.awaitDurable(snapshot.journalOffset);
+        write(snapshot);
+    }
+
+    /**
+     * Writes a last snapshot and closes the journal. Calling this more than 
+     * once has no further effect.
+     * 
+     * @throws IOException in the event the snapshot or the journal cannot be
+     *         written.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized ( this ) {
+            if ( closed ) {
+                return;
+            }
+            closed = true;
+        }
+        try {
+            snapshot();
+        } finally {
+            journal.close();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void notifyListeners() {
+        LedgerTotals latest = totals;
+        for ( Consumer<LedgerTotals> listener : listeners ) {
+            try {
+                listener.accept(latest);
+            } catch ( RuntimeException ex ) {
+                log.error(ex, "Telling a listener of the General Ledger "
+                        + "totals.");
+            }
+        }
+    }
+    
+    private static void check(List<Posting> postings) 
+            throws InvalidAccountingDataException {
+        if ( postings.size() < 2 ) {
+            throw new InvalidAccountingDataException("A transaction needs at "
+                    + "least one debit and one credit.");
+        }
+        long total = 0;
+        for ( Posting posting : postings ) {
+            total = Money.plus(total, posting.getCents());
+        }
+        if ( total != 0 ) {
+            throw new InvalidAccountingDataException("The debits and credits "
+                    + "of the transaction are out of balance by " 
+                    + Money.ofCents(total) + ".");
+        }
+    }
+    
+    /**
+     * Copies the balances, as of the last posting added to the journal. Must
+     * be called while holding the lock on `this`.
+     */
+    private Snapshot capture() {
+        sinceSnapshot = 0;
+        return new Snapshot(journalEnd, lastSequence, lastTransaction, 
+                cents.clone(), quantities.clone());
+    }
+    
+    /**
+     * Writes a snapshot, unless a later one has already been written by
+     * another thread. The journal must be durable up to the snapshot.
+     */
+    private void write(Snapshot snapshot) throws IOException {
+        synchronized ( snapshotLock ) {
+            if ( snapshot.journalOffset > snapshotOffset ) {
+                snapshot.write(snapshotPath);
+                snapshotOffset = snapshot.journalOffset;
+            }
+        }
+    }
+    
+    /**
+     * Applies the postings in the journal past the snapshot to the balances,
+     * a whole transaction at a time, and moves `journalEnd` past the last 
+     * whole transaction.
+     * 
+     * @return the number of postings replayed.
+     * @throws IOException in the event the journal cannot be read, or is 
+     *         damaged anywhere but in its last, partly written, transaction.
+     */
+    private long replay(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(REPLAY_RECORDS 
+                * Journal.RECORD_SIZE);
+        CRC32C crc = new CRC32C();
+        long size = channel.size();
+        long pos = journalEnd;
+        long replayed = 0;
+        
+        // The postings of the transaction being read, until its last one.
+        int count = 0;
+        int[] accounts = new int[16];
+        long[] amounts = new long[16];
+        long[] counts = new long[16];
+        long sequence = lastSequence;
+        String stopped = null;
+        
+        read:
+        while ( pos + Journal.RECORD_SIZE <= size ) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), 
+                    (size - pos) / Journal.RECORD_SIZE * Journal.RECORD_SIZE));
+            long chunk = pos;
+            while ( buffer.hasRemaining() ) {
+                if ( channel.read(buffer, chunk + buffer.position()) < 0 ) {
+                    break;
+                }
+            }
+            buffer.flip();
+            
+            while ( buffer.remaining() >= Journal.RECORD_SIZE ) {
+                if ( !Journal.isIntact(buffer, crc) ) {
+                    stopped = "a damaged posting";      // Perhaps torn.
+                    break read;
+                }
+                long seq = buffer.getLong();
+                long transaction = buffer.getLong();
+                buffer.getInt();        // The date is not needed for balances.
+                int number = buffer.getInt();
+                long amount = buffer.getLong();
+                long quantity = buffer.getLong();
+                int flags = buffer.getInt();
+                buffer.getInt();        // The checksum, checked above.
+                
+                if ( seq != sequence + 1 ) {
+                    // A whole posting, so this is no torn write.
+                    throw new IOException("The General Ledger journal has "
+                            + "posting " + seq + " at offset " + pos 
+                            + " where posting " + (sequence + 1) + " was "
+                            + "expected. The journal has been left as it is.");
+                }
+                Account account = Account.forNumber(number);
+                if ( account == null ) {
+                    throw new IOException("The General Ledger journal has a "
+                            + "posting to account " + number + ", which does "
+                            + "not exist.");
+                }
+                sequence = seq;
+                pos += Journal.RECORD_SIZE;
+                
+                if ( count == accounts.length ) {
+                    accounts = Arrays.copyOf(accounts, count * 2);
+                    amounts = Arrays.copyOf(amounts, count * 2);
+                    counts = Arrays.copyOf(counts, count * 2);
+                }
+                accounts[count] = account.ordinal();
+                amounts[count] = amount;
+                counts[count++] = quantity;
+                
+                if ( (flags & Journal.LAST) != 0 ) {
+                    for ( int idx = 0; idx < count; idx++ ) {
+                        cents[accounts[idx]] += amounts[idx];
+                        quantities[accounts[idx]] += counts[idx];
+                    }
+                    replayed += count;
+                    count = 0;
+                    lastSequence = seq;
+                    lastTransaction = transaction;
+                    journalEnd = pos;
+                }
+            }
+        }
+        
+        if ( stopped != null && hasIntactRecord(channel, 
+                pos + Journal.RECORD_SIZE, size) ) {
+            throw new IOException("The General Ledger journal has " + stopped
+                    + " at offset " + pos + ", with whole postings after it. "
+                    + "The journal has been left as it is, so that they can "
+                    + "be recovered.");
+        }
+        if ( size > journalEnd ) {
+            log.warning("Dropping the last {} bytes of the General Ledger "
+                    + "journal, which hold an incomplete transaction{}.", 
+                    size - journalEnd, 
+                    stopped == null ? "" : " (stopped at " + stopped + ")");
+        }
+        return replayed;
+    }
+    
+    /**
+     * Looks for a record with a good checksum anywhere from the given offset
+     * to the end of the journal.
+     */
+    private static boolean hasIntactRecord(FileChannel channel, long from, 
+            long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(REPLAY_RECORDS 
+                * Journal.RECORD_SIZE);
+        CRC32C crc = new CRC32C();
+        long pos = from;
+        while ( pos + Journal.RECORD_SIZE <= size ) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), 
+                    (size - pos) / Journal.RECORD_SIZE * Journal.RECORD_SIZE));
+            while ( buffer.hasRemaining() ) {
+                if ( channel.read(buffer, pos + buffer.position()) < 0 ) {
+                    break;
+                }
+            }
+            buffer.flip();
+            if ( buffer.remaining() < Journal.RECORD_SIZE ) {
+                break;      // The file ended while it was being read.
+            }
+            while ( buffer.remaining() >= Journal.RECORD_SIZE ) {
+                if ( Journal.isIntact(buffer, crc) ) {
+                    return true;
+                }
+                buffer.position(buffer.position() + Journal.RECORD_SIZE);
+                pos += Journal.RECORD_SIZE;
+            }
+        }
+        return false;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Journal.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 5:00:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Added positional reads for the reports.
+ *  Oct 17, 2026  Sean Carrick        Added `addAll`, for batch posting.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The append-only file the General Ledger writes its postings to. Every 
+ * posting is one fixed-width record:
+ * <pre>
+ *  offset  size  field
+ *  ------  ----  ---------------------------------------------------------
+ *       0     8  sequence number of the posting, counting from one (1)
+ *       8     8  number of the transaction the posting belongs to
+ *      16     4  date of the transaction, in days since 1970-01-01
+ *      20     4  account number
+ *      24     8  amount in cents; debits positive, credits negative
+ *      32     8  quantity, such as miles or gallons
+ *      40     4  flags; {@link #LAST} marks the last posting of a transaction
+ *      44     4  CRC-32C of the first 44 bytes
+ * </pre>
+ * <p>
+ * The file starts with a 16 byte header holding {@link #MAGIC}, the format
+ * version and the record size.</p>
+ * <p>
+ * Records are made durable by group commit. A thread that needs its records
+ * on disk either writes and forces everything that is waiting, for all of the
+ * threads, or, if another thread is already doing so, waits for it and then
+ * checks whether its own records made it into that write. However many 
+ * threads post at once, each write to the file is one sequential write and
+ * one force.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class Journal implements AutoCloseable {
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Constants">
+    static final byte[] MAGIC = { 'N', 'W', 'G', 'L' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 48;
+    static final int CRC_OFFSET = 44;
+    
+    /** Flag of the last posting of a transaction. */
+    static final int LAST = 1;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final int BUFFER_RECORDS = 64;
+    // A buffer grown past this by a batch is not kept once it is written.
+    private static final int MAX_KEPT_RECORDS = 16 * 1024;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final FileChannel channel;
+    private final Object lock = new Object();
+    private final CRC32C crc = new CRC32C();    // Guarded by `lock`.
+    
+    // Records waiting to be written, and the empty buffer they are swapped
+    //+ with while the leader writes them. Both guarded by `lock`.
+    private ByteBuffer pending = ByteBuffer.allocate(BUFFER_RECORDS 
+            * RECORD_SIZE);
+    private ByteBuffer spare = ByteBuffer.allocate(BUFFER_RECORDS 
+            * RECORD_SIZE);
+    
+    private long written;       // Offset up to which the file is written and
+                                //+ forced.
+    private boolean flushing;   // A leader is writing.
+    private int writing;        // The size of the batch the leader is writing.
+    private IOException failure;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Opens the journal for appending at the given offset. Anything past the
+     * offset, such as a record that was only partly written when the 
+     * application stopped, is cut off, so the offset must come from a replay
+     * that found nothing but a torn last transaction past it.
+     * 
+     * @param channel The journal file, open for reading and writing.
+     * @param end     The offset just past the last good record.
+     * @throws IOException in the event the file cannot be cut or positioned.
+     */
+    private Journal(FileChannel channel, long end) throws IOException {
+        this.channel = channel;
+        if ( channel.size() > end ) {
+            channel.truncate(end);
+            channel.force(true);
+        }
+        channel.position(end);
+        this.written = end;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Static Methods">
+    /**
+     * Opens the journal file, creating it with its header if it does not exist
+     * yet, and checks the header.
+     * 
+     * @param path The journal file.
+     * @return the file, positioned just past the header.
+     * @throws IOException in the event the file cannot be opened, or is not a
+     *         journal of this version.
+     */
+    static FileChannel openFile(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if ( channel.size() < HEADER_SIZE ) {
+                header.put(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).flip();
+                channel.truncate(0);
+                channel.write(header, 0);
+                channel.force(true);
+            } else {
+                channel.read(header, 0);
+                header.flip();
+                byte[] magic = new byte[MAGIC.length];
+                header.get(magic);
+                if ( !Arrays.equals(magic, MAGIC) 
+                        || header.getInt() != VERSION
+                        || header.getInt() != RECORD_SIZE ) {
+                    throw new IOException(path + " is not a General Ledger "
+                            + "journal of version " + VERSION + ".");
+                }
+            }
+            channel.position(HEADER_SIZE);
+            return channel;
+        } catch ( IOException ex ) {
+            channel.close();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Starts appending to a journal file that has been replayed.
+     * 
+     * @param channel The journal file, from {@link #openFile(Path)}.
+     * @param end     The offset just past the last complete transaction.
+     * @return the journal.
+     * @throws IOException in the event the file cannot be cut or positioned.
+     */
+    static Journal append(FileChannel channel, long end) throws IOException {
+        return new Journal(channel, end);
+    }
+    
+    /**
+     * Checks the checksum of the record at the buffer's position. The buffer
+     * is left as it was found.
+     */
+    static boolean isIntact(ByteBuffer records, CRC32C crc) {
+        int start = records.position();
+        int limit = records.limit();
+        crc.reset();
+        // The buffer may be direct, so it is narrowed to the checked bytes
+        //+ in place rather than copied or sliced for every record.
+        records.limit(start + CRC_OFFSET);
+        crc.update(records);
+        records.limit(limit).position(start);
+        return (int) crc.getValue() == records.getInt(start + CRC_OFFSET);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Adds a record to the records waiting to be written. The caller must
+     * hand over the records of a transaction one after another, without 
+     * records of other transactions in between, and then wait for them with
+     * {@link #awaitDurable(long)}.
+     * 
+     * @return the offset just past the record, once it is written.
+     * @throws IOException in the event an earlier write failed, after which 
+     *         the journal takes no more records.
+     */
+    long add(long sequence, long transaction, int date, int account, 
+            long cents, long quantity, int flags) throws IOException {
+        synchronized ( lock ) {
+            if ( failure != null ) {
+                throw new IOException("The journal could not be written.", 
+                        failure);
+            }
+            reserve(1);
+            put(sequence, transaction, date, account, cents, quantity, flags);
+            return written + pending.position() + writing;
+        }
+    }
+    
+    /**
+     * Adds the records of a batch of transactions to the records waiting to 
+     * be written, all at once, so that no other records come between them
+     * and they go to the file in the same write. Record {@code i} of the 
+     * batch is given the sequence number {@code firstSequence + i}.
+     * 
+     * @return the offset just past the last record, once it is written.
+     * @throws IOException in the event an earlier write failed, after which 
+     *         the journal takes no more records.
+     */
+    long addAll(long firstSequence, int count, long[] transactions, 
+            int[] dates, int[] accounts, long[] cents, long[] quantities, 
+            int[] flags) throws IOException {
+        synchronized ( lock ) {
+            if ( failure != null ) {
+                throw new IOException("The journal could not be written.", 
+                        failure);
+            }
+            reserve(count);
+            for ( int idx = 0; idx < count; idx++ ) {
+                put(firstSequence + idx, transactions[idx], dates[idx], 
+                        accounts[idx], cents[idx], quantities[idx], 
+                        flags[idx]);
+            }
+            return written + pending.position() + writing;
+        }
+    }
+
+    /**
+     * Waits until the file is written and forced up to the given offset. If no
+     * other thread is writing, this thread writes everything that is waiting.
+     * 
+     * @param end The offset returned by {@link #add}.
+     * @throws IOException in the event the records cannot be written.
+     */
+    void awaitDurable(long end) throws IOException {
+        while ( true ) {
+            ByteBuffer batch;
+            long target;
+            synchronized ( lock ) {
+                while ( flushing && written < end && failure == null ) {
+                    try {
+                        lock.wait();
+                    } catch ( InterruptedException ex ) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while "
+                                + "waiting for the journal to be written.");
+                    }
+                }
+                if ( written >= end ) {
+                    return;
+                }
+                if ( failure != null ) {
+                    throw new IOException("The journal could not be written.", 
+                            failure);
+                }
+                
+                // No one is writing, so this thread writes for everyone.
+                flushing = true;
+                batch = pending;
+                pending = spare;
+                spare = null;
+                target = written + batch.position();
+                writing = batch.position();
+            }
+            
+            try {
+                batch.flip();
+                while ( batch.hasRemaining() ) {
+                    channel.write(batch);
+                }
+                channel.force(false);
+            } catch ( IOException ex ) {
+                synchronized ( lock ) {
+                    failure = ex;
+                    flushing = false;
+                    lock.notifyAll();
+                }
+                throw ex;
+            }
+            
+            synchronized ( lock ) {
+                batch.clear();
+                spare = batch.capacity() > MAX_KEPT_RECORDS * RECORD_SIZE
+                        ? ByteBuffer.allocate(BUFFER_RECORDS * RECORD_SIZE)
+                        : batch;
+                written = target;
+                writing = 0;
+                flushing = false;
+                lock.notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * Reads records from the file, at the given offset, until the buffer is
+     * full or the end of the file is reached. This does not move the position
+     * the records are appended at, so it may be called by any number of 
+     * threads while postings are written.
+     * 
+     * @param records  The buffer to read into.
+     * @param position The offset to read from.
+     * @throws IOException in the event the file cannot be read.
+     */
+    void read(ByteBuffer records, long position) throws IOException {
+        while ( records.hasRemaining() ) {
+            if ( channel.read(records, position + records.position()) < 0 ) {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * @return the offset up to which the journal is written and forced.
+     */
+    long getDurableOffset() {
+        synchronized ( lock ) {
+            return written;
+        }
+    }
+
+    /**
+     * Writes whatever is still waiting and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        long end;
+        synchronized ( lock ) {
+            end = written + writing + pending.position();
+        }
+        try {
+            if ( failure == null ) {
+                awaitDurable(end);
+            }
+        } finally {
+            channel.close();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    /**
+     * Makes room in the pending buffer for the given number of records. Must
+     * be called while holding `lock`.
+     */
+    private void reserve(int records) {
+        int needed = records * RECORD_SIZE;
+        if ( pending.remaining() < needed ) {
+            int capacity = pending.capacity() * 2;
+            while ( capacity - pending.position() < needed ) {
+                capacity *= 2;
+            }
+            ByteBuffer bigger = ByteBuffer.allocate(capacity);
+            pending.flip();
+            bigger.put(pending);
+            pending = bigger;
+        }
+    }
+    
+    /**
+     * Puts one record, with its checksum, in the pending buffer. Must be 
+     * called while holding `lock`, after {@link #reserve(int)}.
+     */
+    private void put(long sequence, long transaction, int date, int account, 
+            long cents, long quantity, int flags) {
+        int start = pending.position();
+        pending.putLong(sequence).putLong(transaction).putInt(date)
+                .putInt(account).putLong(cents).putLong(quantity)
+                .putInt(flags);
+        crc.reset();
+        crc.update(pending.array(), pending.arrayOffset() + start, 
+                CRC_OFFSET);
+        pending.putInt((int) crc.getValue());
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   JournalSumTask.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 7:50:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32C;
+
+/**
+ * Totals a range of journal records by period and account, for 
+ * {@link PeriodSums}. The range is split in halves, on a fork/join pool, 
+ * until each half is small enough to read in a few passes, and the totals of
+ * the halves are added together on the way back up.
+ * <p>
+ * The result is the cents totals followed by the quantity totals, each laid
+ * out as in {@link PeriodSums}. A failure to read the journal, or a record
+ * whose checksum does not match, is thrown as an 
+ * {@link UncheckedIOException}.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class JournalSumTask extends RecursiveTask<long[]> {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final long serialVersionUID = 1L;
+    // Records a task reads itself rather than splitting further.
+    private static final long LEAF_RECORDS = 64 * 1024;
+    // Records read at a time.
+    private static final int BUFFER_RECORDS = 8 * 1024;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final transient Journal journal;
+    private final int[] boundaries;
+    private final long from;        // The first record.
+    private final long to;          // The record after the last.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    JournalSumTask(Journal journal, int[] boundaries, long from, long to) {
+        this.journal = journal;
+        this.boundaries = boundaries;
+        this.from = from;
+        this.to = to;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Protected Methods">
+    @Override
+    protected long[] compute() {
+        if ( to - from > LEAF_RECORDS ) {
+            long mid = (from + to) >>> 1;
+            JournalSumTask low = new JournalSumTask(journal, boundaries, from, 
+                    mid);
+            JournalSumTask high = new JournalSumTask(journal, boundaries, mid, 
+                    to);
+            low.fork();
+            long[] sums = high.compute();
+            long[] other = low.join();
+            for ( int idx = 0; idx < sums.length; idx++ ) {
+                sums[idx] += other[idx];
+            }
+            return sums;
+        }
+        
+        try {
+            return read();
+        } catch ( IOException ex ) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private long[] read() throws IOException {
+        int length = PeriodSums.length(boundaries.length - 1);
+        long[] sums = new long[length * 2];
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_RECORDS,
+                to - from) * Journal.RECORD_SIZE);
+        CRC32C crc = new CRC32C();
+        for ( long record = from; record < to; ) {
+            int count = (int) Math.min(BUFFER_RECORDS, to - record);
+            buffer.clear().limit(count * Journal.RECORD_SIZE);
+            journal.read(buffer, Journal.HEADER_SIZE 
+                    + record * Journal.RECORD_SIZE);
+            if ( buffer.hasRemaining() ) {
+                throw new IOException("The General Ledger journal ended at "
+                        + "record " + record + ", before the postings the "
+                        + "ledger holds.");
+            }
+            
+            for ( int idx = 0; idx < count; idx++ ) {
+                int base = idx * Journal.RECORD_SIZE;
+                // The file may have been damaged since the ledger replayed
+                //+ it, and a bad amount must not end up in a report.
+                buffer.position(base);
+                if ( !Journal.isIntact(buffer, crc) ) {
+                    throw new IOException("The General Ledger journal has a "
+                            + "damaged posting at record " + (record + idx) 
+                            + ".");
+                }
+                int slot = PeriodSums.slotOf(boundaries, 
+                        buffer.getInt(base + 16));
+                if ( slot < 0 ) {
+                    continue;
+                }
+                int number = buffer.getInt(base + 20);
+                Account account = Account.forNumber(number);
+                if ( account == null ) {
+                    throw new IOException("The General Ledger journal has a "
+                            + "posting to account " + number + ", which does "
+                            + "not exist.");
+                }
+                int ordinal = account.ordinal();
+                sums[slot + ordinal] += buffer.getLong(base + 24);
+                sums[length + slot + ordinal] += buffer.getLong(base + 32);
+            }
+            record += count;
+        }
+        return sums;
+    }
+    //</editor-fold>
+}
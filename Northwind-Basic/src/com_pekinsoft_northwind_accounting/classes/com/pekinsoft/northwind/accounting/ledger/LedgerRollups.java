@@ -0,0 +1,388 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LedgerRollups.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 8:45:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import com.pekinsoft.northwind.accounting.Money;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.TreeMap;
+
+/**
+ * The postings of the General Ledger totaled per account for every day, 
+ * month, quarter and year, so that the figures for a period are looked up 
+ * rather than added up from the postings.
+ * <p>
+ * Each posting is added to the total of its day as it is made. The month, 
+ * quarter and year totals are built from the day totals the first time they
+ * are asked for, and kept. A posting, whether for today or back-dated into a
+ * closed period, only marks the month, quarter and year of its own day as out
+ * of date; they are built again the next time they are asked for, from at 
+ * most 31 days, three (3) months or four (4) quarters, and every other period
+ * keeps the totals it has.</p>
+ * <p>
+ * The totals of any range of days are put together from the largest whole
+ * years, quarters and months in it, plus the days at its ends, so the 
+ * balance of an account at the end of a period, for the balance sheet, 
+ * takes a few dozen additions however many years the ledger holds.</p>
+ * <p>
+ * The rollups are owned by a {@link GeneralLedger}, which fills them in, and
+ * are safe to read from any thread.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class LedgerRollups {
+    
+    /**
+     * The lengths of the periods that are rolled up.
+     */
+    public enum Level {
+        DAY, MONTH, QUARTER, YEAR
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final int ACCOUNTS = Account.values().length;
+    // Each total is the cents of every account, then the quantities.
+    private static final int WIDTH = ACCOUNTS * 2;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    // Everything is guarded by `this`.
+    private final TreeMap<Integer, Year> years = new TreeMap<>();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    LedgerRollups() {
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * Retrieves the total of the postings to an account in the day, month, 
+     * quarter or year that holds the given date.
+     * 
+     * @param level   The length of the period.
+     * @param date    A date in the period.
+     * @param account The account.
+     * @return the debits less the credits, in cents.
+     */
+    public synchronized long getChange(Level level, LocalDate date, 
+            Account account) {
+        long[] total = total(level, date);
+        return total == null ? 0 : total[account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the total of the quantities posted to an account in the day,
+     * month, quarter or year that holds the given date.
+     * 
+     * @param level   The length of the period.
+     * @param date    A date in the period.
+     * @param account The account.
+     * @return the total quantity.
+     */
+    public synchronized long getQuantity(Level level, LocalDate date, 
+            Account account) {
+        long[] total = total(level, date);
+        return total == null ? 0 : total[ACCOUNTS + account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the revenue of the day, month, quarter or year that holds the
+     * given date.
+     * 
+     * @param level The length of the period.
+     * @param date  A date in the period.
+     * @return the credit balance of the revenue accounts for the period.
+     */
+    public synchronized Money getRevenue(Level level, LocalDate date) {
+        return Money.ofCents(-sumOf(total(level, date), Account.Type.REVENUE));
+    }
+    
+    /**
+     * Retrieves the expenses of the day, month, quarter or year that holds 
+     * the given date.
+     * 
+     * @param level The length of the period.
+     * @param date  A date in the period.
+     * @return the debit balance of the expense accounts for the period.
+     */
+    public synchronized Money getExpenses(Level level, LocalDate date) {
+        return Money.ofCents(sumOf(total(level, date), Account.Type.EXPENSE));
+    }
+    
+    /**
+     * Retrieves the balance of an account at the end of a day: the total of 
+     * everything posted to it up to and including that day.
+     * 
+     * @param date    The day.
+     * @param account The account.
+     * @return the balance, in cents.
+     */
+    public synchronized long getBalance(LocalDate date, Account account) {
+        long[] sums = new long[WIDTH];
+        if ( !years.isEmpty() ) {
+            addRange(firstDay(), (int) date.toEpochDay() + 1, sums);
+        }
+        return sums[account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the balances of the assets, liabilities and equity at the end
+     * of a day, and tells whether they balance. Equity includes the earnings
+     * retained up to that day.
+     * 
+     * @param date The day.
+     * @return {@code true} if the assets equal the liabilities and equity.
+     */
+    public synchronized boolean isBalanced(LocalDate date) {
+        long[] sums = new long[WIDTH];
+        if ( !years.isEmpty() ) {
+            addRange(firstDay(), (int) date.toEpochDay() + 1, sums);
+        }
+        long assets = sumOf(sums, Account.Type.ASSET);
+        long liabilities = -sumOf(sums, Account.Type.LIABILITY);
+        long equity = -sumOf(sums, Account.Type.EQUITY) 
+                - sumOf(sums, Account.Type.REVENUE) 
+                - sumOf(sums, Account.Type.EXPENSE);
+        return assets == liabilities + equity;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Adds one posting to the total of its day, and marks the month, quarter
+     * and year of the day out of date.
+     */
+    synchronized void add(int day, int ordinal, long cents, long quantity) {
+        LocalDate date = LocalDate.ofEpochDay(day);
+        Year year = years.computeIfAbsent(date.getYear(), Year::new);
+        int base = (date.getDayOfYear() - 1) * WIDTH;
+        year.days[base + ordinal] += cents;
+        year.days[base + ACCOUNTS + ordinal] += quantity;
+        year.invalidate(date.getMonthValue() - 1);
+    }
+    
+    /**
+     * Totals the postings by period, as {@link GeneralLedger#sumByPeriod} 
+     * does, from the rollups instead of the journal.
+     */
+    synchronized PeriodSums sumByPeriod(int[] boundaries) {
+        int periods = boundaries.length - 1;
+        int length = PeriodSums.length(periods);
+        long[] cents = new long[length];
+        long[] quantities = new long[length];
+        long[] sums = new long[WIDTH];
+        for ( int slot = 0; slot <= periods; slot++ ) {
+            Arrays.fill(sums, 0);
+            int from = slot == 0 ? Integer.MIN_VALUE : boundaries[slot - 1];
+            if ( !years.isEmpty() ) {
+                addRange(Math.max(from, firstDay()), boundaries[slot], sums);
+            }
+            System.arraycopy(sums, 0, cents, slot * ACCOUNTS, ACCOUNTS);
+            System.arraycopy(sums, ACCOUNTS, quantities, slot * ACCOUNTS, 
+                    ACCOUNTS);
+        }
+        return new PeriodSums(boundaries, cents, quantities);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private int firstDay() {
+        return (int) LocalDate.of(years.firstKey(), 1, 1).toEpochDay();
+    }
+    
+    /**
+     * @return the total of the period holding the date, or `null` if nothing
+     *         has been posted in its year.
+     */
+    private long[] total(Level level, LocalDate date) {
+        Year year = years.get(date.getYear());
+        if ( year == null ) {
+            return null;
+        }
+        long[] sums = new long[WIDTH];
+        switch ( level ) {
+            case DAY:
+                year.addDay(date.getDayOfYear() - 1, sums);
+                break;
+            case MONTH:
+                year.addMonth(date.getMonthValue() - 1, sums);
+                break;
+            case QUARTER:
+                year.addQuarter((date.getMonthValue() - 1) / 3, sums);
+                break;
+            default:
+                year.addYear(sums);
+        }
+        return sums;
+    }
+    
+    /**
+     * Adds the totals of the days from `from` up to, but not including, `to`
+     * to `sums`, using whole years, quarters and months where it can.
+     */
+    private void addRange(int from, int to, long[] sums) {
+        int day = from;
+        while ( day < to ) {
+            LocalDate date = LocalDate.ofEpochDay(day);
+            Year year = years.get(date.getYear());
+            LocalDate nextYear = LocalDate.of(date.getYear() + 1, 1, 1);
+            if ( year == null ) {
+                // Nothing was posted that year; skip to the next one that 
+                //+ has postings, or to the end.
+                Integer later = years.higherKey(date.getYear());
+                day = later == null ? to : Math.max(day, 
+                        (int) LocalDate.of(later, 1, 1).toEpochDay());
+                continue;
+            }
+            
+            int month = date.getMonthValue() - 1;
+            if ( date.getDayOfYear() == 1 && nextYear.toEpochDay() <= to ) {
+                year.addYear(sums);
+                day = (int) nextYear.toEpochDay();
+            } else if ( date.getDayOfMonth() == 1 && month % 3 == 0 
+                    && date.plusMonths(3).toEpochDay() <= to ) {
+                year.addQuarter(month / 3, sums);
+                day = (int) date.plusMonths(3).toEpochDay();
+            } else if ( date.getDayOfMonth() == 1 
+                    && date.plusMonths(1).toEpochDay() <= to ) {
+                year.addMonth(month, sums);
+                day = (int) date.plusMonths(1).toEpochDay();
+            } else {
+                year.addDay(date.getDayOfYear() - 1, sums);
+                day++;
+            }
+        }
+    }
+    
+    private static void add(long[] sums, long[] source, int offset) {
+        for ( int idx = 0; idx < WIDTH; idx++ ) {
+            sums[idx] += source[offset + idx];
+        }
+    }
+    
+    private static long sumOf(long[] total, Account.Type type) {
+        if ( total == null ) {
+            return 0;
+        }
+        long sum = 0;
+        for ( Account account : Account.values() ) {
+            if ( account.getType() == type ) {
+                sum += total[account.ordinal()];
+            }
+        }
+        return sum;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Year">
+    /**
+     * The day totals of one year, and the month, quarter and year totals 
+     * built from them.
+     */
+    private static final class Year {
+        // Bits 0 through 11 are the months, 12 through 15 the quarters, and
+        //+ 16 the year; a set bit means that total is out of date.
+        private static final int ALL = (1 << 17) - 1;
+        private static final int QUARTERS = 12;
+        private static final int YEAR = 16;
+        
+        private final int number;
+        private final long[] days = new long[366 * WIDTH];
+        private final long[] months = new long[12 * WIDTH];
+        private final long[] quarters = new long[4 * WIDTH];
+        private final long[] total = new long[WIDTH];
+        private int stale = ALL;
+        
+        private Year(int number) {
+            this.number = number;
+        }
+        
+        private void invalidate(int month) {
+            stale |= (1 << month) | (1 << (QUARTERS + month / 3)) 
+                    | (1 << YEAR);
+        }
+        
+        private void addDay(int day, long[] sums) {
+            add(sums, days, day * WIDTH);
+        }
+        
+        private void addMonth(int month, long[] sums) {
+            if ( (stale & (1 << month)) != 0 ) {
+                LocalDate first = LocalDate.of(number, month + 1, 1);
+                int from = first.getDayOfYear() - 1;
+                Arrays.fill(months, month * WIDTH, (month + 1) * WIDTH, 0);
+                for ( int day = from; day < from + first.lengthOfMonth(); 
+                        day++ ) {
+                    for ( int idx = 0; idx < WIDTH; idx++ ) {
+                        months[month * WIDTH + idx] += days[day * WIDTH + idx];
+                    }
+                }
+                stale &= ~(1 << month);
+            }
+            add(sums, months, month * WIDTH);
+        }
+        
+        private void addQuarter(int quarter, long[] sums) {
+            if ( (stale & (1 << (QUARTERS + quarter))) != 0 ) {
+                Arrays.fill(quarters, quarter * WIDTH, (quarter + 1) * WIDTH, 
+                        0);
+                long[] sum = new long[WIDTH];
+                for ( int month = quarter * 3; month < quarter * 3 + 3; 
+                        month++ ) {
+                    addMonth(month, sum);
+                }
+                System.arraycopy(sum, 0, quarters, quarter * WIDTH, WIDTH);
+                stale &= ~(1 << (QUARTERS + quarter));
+            }
+            add(sums, quarters, quarter * WIDTH);
+        }
+        
+        private void addYear(long[] sums) {
+            if ( (stale & (1 << YEAR)) != 0 ) {
+                Arrays.fill(total, 0);
+                for ( int quarter = 0; quarter < 4; quarter++ ) {
+                    addQuarter(quarter, total);
+                }
+                stale &= ~(1 << YEAR);
+            }
+            add(sums, total, 0);
+        }
+    }
+    //</editor-fold>
+}
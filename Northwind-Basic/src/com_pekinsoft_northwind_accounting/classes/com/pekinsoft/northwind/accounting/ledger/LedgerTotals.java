@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LedgerTotals.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 6:20:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import com.pekinsoft.northwind.accounting.Money;
+
+/**
+ * The company's totals to date, as shown on the dashboard: revenue, expenses,
+ * profit and miles, and what each comes to per mile.
+ * <p>
+ * The General Ledger keeps these up to date as each posting is made, so 
+ * getting them costs the same no matter how many loads have been posted. A
+ * `LedgerTotals` never changes once created: each is the totals as of the end
+ * of one transaction, so the figures in it always agree with each other.</p>
+ * <p>
+ * Revenue is the credit balance of the revenue accounts, and expenses the 
+ * debit balance of the expense accounts. The miles are the quantity posted to
+ * {@link Account#FREIGHT_REVENUE}, which carries the miles of each load.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class LedgerTotals {
+    //<editor-fold defaultstate="collapsed" desc="Public Static Constants">
+    /** The totals of a ledger with nothing posted to it. */
+    public static final LedgerTotals NONE = new LedgerTotals(0, 0, 0, 0);
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final long revenue;         // In cents.
+    private final long expenses;        // In cents.
+    private final long miles;
+    private final long transaction;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    LedgerTotals(long revenue, long expenses, long miles, long transaction) {
+        this.revenue = revenue;
+        this.expenses = expenses;
+        this.miles = miles;
+        this.transaction = transaction;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the number of the last transaction included in these totals.
+     */
+    public long getTransaction() {
+        return transaction;
+    }
+    
+    /**
+     * @return the total revenue.
+     */
+    public Money getRevenue() {
+        return Money.ofCents(revenue);
+    }
+    
+    /**
+     * @return the total expenses.
+     */
+    public Money getExpenses() {
+        return Money.ofCents(expenses);
+    }
+    
+    /**
+     * @return the revenue less the expenses, which is negative for a loss.
+     */
+    public Money getProfit() {
+        return Money.ofCents(Money.minus(revenue, expenses));
+    }
+    
+    /**
+     * @return the total miles of the loads posted.
+     */
+    public long getMiles() {
+        return miles;
+    }
+    
+    /**
+     * @return the revenue per mile, to the nearest cent, or zero (0) if no
+     *         miles have been posted.
+     */
+    public Money getRevenuePerMile() {
+        return perMile(revenue);
+    }
+    
+    /**
+     * @return the expenses per mile, to the nearest cent, or zero (0) if no
+     *         miles have been posted.
+     */
+    public Money getExpensesPerMile() {
+        return perMile(expenses);
+    }
+    
+    /**
+     * @return the profit per mile, to the nearest cent, or zero (0) if no
+     *         miles have been posted.
+     */
+    public Money getProfitPerMile() {
+        return perMile(Money.minus(revenue, expenses));
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerTotals[transaction=" + transaction + ", revenue=" 
+                + getRevenue() + ", expenses=" + getExpenses() + ", miles=" 
+                + miles + "]";
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Adds one posting to running totals kept in an array of three (3): the
+     * revenue, expenses and miles, in that order.
+     */
+    static void add(long[] running, Account account, long cents, 
+            long quantity) {
+        switch ( account.getType() ) {
+            case REVENUE:
+                running[0] -= cents;    // Revenue is a credit balance.
+                break;
+            case EXPENSE:
+                running[1] += cents;
+                break;
+            default:
+                break;
+        }
+        if ( account == Account.FREIGHT_REVENUE ) {
+            running[2] += quantity;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private Money perMile(long cents) {
+        if ( miles <= 0 ) {
+            return Money.ZERO;
+        }
+        return Money.ofCents((long) Math.rint((double) cents / miles));
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   PeriodSums.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 7:40:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import com.pekinsoft.northwind.accounting.Money;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The postings of the General Ledger totaled per account, for each of a run 
+ * of periods, such as the months of a year. Periods are given by the days 
+ * they start on: period {@code i} runs from start day {@code i} up to, but 
+ * not including, start day {@code i + 1}.
+ * <p>
+ * Besides what was posted during each period, the sums hold what was posted
+ * before the first one, so that the balance of every account can be given as
+ * of the end of each period, for the balance sheet.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class PeriodSums {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final int ACCOUNTS = Account.values().length;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final int[] boundaries;
+    // Both are laid out by slot, then account ordinal. Slot zero (0) is
+    //+ before the first period, and slot `i + 1` is period `i`.
+    private final long[] cents;
+    private final long[] quantities;
+    private final long[] balances;      // As of the end of each slot.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    PeriodSums(int[] boundaries, long[] cents, long[] quantities) {
+        this.boundaries = boundaries;
+        this.cents = cents;
+        this.quantities = quantities;
+        this.balances = cents.clone();
+        for ( int idx = ACCOUNTS; idx < balances.length; idx++ ) {
+            balances[idx] += balances[idx - ACCOUNTS];
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the number of periods.
+     */
+    public int getPeriodCount() {
+        return boundaries.length - 1;
+    }
+    
+    /**
+     * @param period The period, from zero (0).
+     * @return the first day of the period.
+     */
+    public LocalDate getStart(int period) {
+        return LocalDate.ofEpochDay(boundaries[check(period)]);
+    }
+    
+    /**
+     * @param period The period, from zero (0).
+     * @return the last day of the period.
+     */
+    public LocalDate getEnd(int period) {
+        return LocalDate.ofEpochDay(boundaries[check(period) + 1] - 1L);
+    }
+    
+    /**
+     * Retrieves the total of the postings to an account during a period.
+     * 
+     * @param period  The period, from zero (0).
+     * @param account The account.
+     * @return the debits less the credits, in cents.
+     */
+    public long getChange(int period, Account account) {
+        return cents[slot(period) + account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the total of the quantities posted to an account during a 
+     * period.
+     * 
+     * @param period  The period, from zero (0).
+     * @param account The account.
+     * @return the total quantity.
+     */
+    public long getQuantity(int period, Account account) {
+        return quantities[slot(period) + account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the balance of an account before the first period.
+     * 
+     * @param account The account.
+     * @return the opening balance, in cents.
+     */
+    public long getOpeningBalance(Account account) {
+        return balances[account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the balance of an account as of the end of a period.
+     * 
+     * @param period  The period, from zero (0).
+     * @param account The account.
+     * @return the balance, in cents.
+     */
+    public long getBalance(int period, Account account) {
+        return balances[slot(period) + account.ordinal()];
+    }
+    
+    /**
+     * Retrieves the balance of an account as of the end of a period.
+     * 
+     * @param period  The period, from zero (0).
+     * @param account The account.
+     * @return the balance, which is negative for a credit balance.
+     */
+    public Money getBalanceAmount(int period, Account account) {
+        return Money.ofCents(getBalance(period, account));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Static Methods">
+    /**
+     * @return the length of the arrays that hold the sums for the given 
+     *         number of periods.
+     */
+    static int length(int periods) {
+        return (periods + 1) * ACCOUNTS;
+    }
+    
+    /**
+     * Finds the slot that postings of the given day are added to.
+     * 
+     * @param boundaries The start days of the periods, then the day after the
+     *                   last period.
+     * @param day        The day of the postings.
+     * @return the index of the first element of the slot, or -1 if the day is
+     *         after the last period.
+     */
+    static int slotOf(int[] boundaries, int day) {
+        // The number of boundaries on or before the day.
+        int low = 0;
+        int high = boundaries.length;
+        while ( low < high ) {
+            int mid = (low + high) >>> 1;
+            if ( boundaries[mid] <= day ) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low == boundaries.length ? -1 : low * ACCOUNTS;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private int check(int period) {
+        return Objects.checkIndex(period, boundaries.length - 1);
+    }
+    
+    private int slot(int period) {
+        return (check(period) + 1) * ACCOUNTS;
+    }
+    //</editor-fold>
+}
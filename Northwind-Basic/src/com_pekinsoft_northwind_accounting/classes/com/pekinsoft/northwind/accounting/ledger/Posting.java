@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Posting.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 4:50:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import com.pekinsoft.northwind.accounting.Money;
+import java.util.Objects;
+
+/**
+ * One line of a transaction: an amount debited or credited to an account. A
+ * debit is a positive amount and a credit a negative one, so the postings of
+ * a balanced transaction add up to zero (0).
+ * <p>
+ * A posting may also carry a quantity, such as the miles of a load on its
+ * revenue posting or the gallons of a fuel purchase, which the ledger totals
+ * per account next to the amounts, for the per mile figures.</p>
+ * <p>
+ * The ledger stores amounts in cents. An amount with more decimal places is
+ * rounded to the nearest cent, halves to the nearest even cent.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class Posting {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Account account;
+    private final long cents;
+    private final long quantity;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates a posting.
+     * 
+     * @param account  The account posted to.
+     * @param cents    The amount in cents: positive for a debit, negative for
+     *                 a credit.
+     * @param quantity The miles, gallons or other quantity the amount is for,
+     *                 or zero (0).
+     */
+    public Posting(Account account, long cents, long quantity) {
+        this.account = Objects.requireNonNull(account, "account");
+        this.cents = cents;
+        this.quantity = quantity;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Factories">
+    /**
+     * Creates a debit posting.
+     * 
+     * @param account The account to debit.
+     * @param amount  The amount of the debit.
+     * @return the posting.
+     */
+    public static Posting debit(Account account, Money amount) {
+        return new Posting(account, amount.getUnits(Money.DEFAULT_SCALE), 0);
+    }
+    
+    /**
+     * Creates a debit posting that carries a quantity.
+     * 
+     * @param account  The account to debit.
+     * @param amount   The amount of the debit.
+     * @param quantity The miles, gallons or other quantity of the debit.
+     * @return the posting.
+     */
+    public static Posting debit(Account account, Money amount, long quantity) {
+        return new Posting(account, amount.getUnits(Money.DEFAULT_SCALE), 
+                quantity);
+    }
+    
+    /**
+     * Creates a credit posting.
+     * 
+     * @param account The account to credit.
+     * @param amount  The amount of the credit.
+     * @return the posting.
+     */
+    public static Posting credit(Account account, Money amount) {
+        return new Posting(account, 
+                -amount.getUnits(Money.DEFAULT_SCALE), 0);
+    }
+    
+    /**
+     * Creates a credit posting that carries a quantity.
+     * 
+     * @param account  The account to credit.
+     * @param amount   The amount of the credit.
+     * @param quantity The miles, gallons or other quantity of the credit.
+     * @return the posting.
+     */
+    public static Posting credit(Account account, Money amount, 
+            long quantity) {
+        return new Posting(account, 
+                -amount.getUnits(Money.DEFAULT_SCALE), quantity);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the account posted to.
+     */
+    public Account getAccount() {
+        return account;
+    }
+    
+    /**
+     * @return the amount in cents: positive for a debit, negative for a 
+     *         credit.
+     */
+    public long getCents() {
+        return cents;
+    }
+    
+    /**
+     * @return the amount: positive for a debit, negative for a credit.
+     */
+    public Money getAmount() {
+        return Money.ofCents(cents);
+    }
+    
+    /**
+     * @return the miles, gallons or other quantity the amount is for.
+     */
+    public long getQuantity() {
+        return quantity;
+    }
+    
+    @Override
+    public String toString() {
+        return account + (cents < 0 ? " CR " : " DR ") 
+                + Money.ofCents(Math.abs(cents))
+                + (quantity != 0 ? " (" + quantity + ")" : "");
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Snapshot.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 5:20:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * The balances of every account as of a point in the journal, so that opening
+ * the General Ledger only has to replay the postings made after that point.
+ * <p>
+ * A snapshot is written to a temporary file, forced, and then moved over the
+ * last one, so there is always one whole snapshot on disk. Its last four 
+ * bytes are a CRC-32C of the rest; a snapshot that does not match is ignored,
+ * and the whole journal is replayed instead.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class Snapshot {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final byte[] MAGIC = { 'N', 'W', 'S', 'S' };
+    private static final int VERSION = 1;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Member Fields">
+    final long journalOffset;       // Just past the last posting included.
+    final long lastSequence;
+    final long lastTransaction;
+    final long[] cents;             // By account ordinal.
+    final long[] quantities;        // By account ordinal.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    Snapshot(long journalOffset, long lastSequence, long lastTransaction, 
+            long[] cents, long[] quantities) {
+        this.journalOffset = journalOffset;
+        this.lastSequence = lastSequence;
+        this.lastTransaction = lastTransaction;
+        this.cents = cents;
+        this.quantities = quantities;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Reads the snapshot file.
+     * 
+     * @param path The snapshot file.
+     * @return the snapshot, or {@code null} if there is no snapshot file.
+     * @throws IOException in the event the file cannot be read, or is 
+     *         damaged.
+     */
+    static Snapshot read(Path path) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(path);
+        } catch ( NoSuchFileException ex ) {
+            return null;
+        }
+        
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        CRC32C crc = new CRC32C();
+        if ( bytes.length < 36 ) {
+            throw new IOException(path + " is too short to be a snapshot.");
+        }
+        crc.update(bytes, 0, bytes.length - 4);
+        if ( (int) crc.getValue() != in.getInt(bytes.length - 4) ) {
+            throw new IOException(path + " is damaged.");
+        }
+        
+        byte[] magic = new byte[MAGIC.length];
+        in.get(magic);
+        if ( !Arrays.equals(magic, MAGIC) || in.getInt() != VERSION ) {
+            throw new IOException(path + " is not a General Ledger snapshot "
+                    + "of version " + VERSION + ".");
+        }
+        long offset = in.getLong();
+        long sequence = in.getLong();
+        long transaction = in.getLong();
+        
+        long[] cents = new long[Account.values().length];
+        long[] quantities = new long[cents.length];
+        int count = in.getInt();
+        for ( int idx = 0; idx < count; idx++ ) {
+            int number = in.getInt();
+            Account account = Account.forNumber(number);
+            if ( account == null ) {
+                throw new IOException(path + " has a balance for account " 
+                        + number + ", which does not exist.");
+            }
+            cents[account.ordinal()] = in.getLong();
+            quantities[account.ordinal()] = in.getLong();
+        }
+        return new Snapshot(offset, sequence, transaction, cents, quantities);
+    }
+    
+    /**
+     * Writes this snapshot over the snapshot file.
+     * 
+     * @param path The snapshot file.
+     * @throws IOException in the event the file cannot be written.
+     */
+    void write(Path path) throws IOException {
+        Account[] accounts = Account.values();
+        ByteBuffer out = ByteBuffer.allocate(36 + accounts.length * 20 + 4);
+        out.put(MAGIC).putInt(VERSION).putLong(journalOffset)
+                .putLong(lastSequence).putLong(lastTransaction)
+                .putInt(accounts.length);
+        for ( Account account : accounts ) {
+            out.putInt(account.getNumber()).putLong(cents[account.ordinal()])
+                    .putLong(quantities[account.ordinal()]);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue()).flip();
+        
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try ( FileChannel channel = FileChannel.open(temp, 
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING) ) {
+            while ( out.hasRemaining() ) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, 
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+    //</editor-fold>
+}
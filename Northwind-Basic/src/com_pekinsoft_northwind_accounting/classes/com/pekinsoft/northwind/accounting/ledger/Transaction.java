@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Transaction.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:40:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.ledger;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A transaction waiting to be posted as part of a batch, by
+ * {@link GeneralLedger#postAll(List)}: its date and its postings.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class Transaction {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final LocalDate date;
+    private final List<Posting> postings;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates a transaction.
+     * 
+     * @param date     The date of the transaction.
+     * @param postings The postings of the transaction, whose debits and 
+     *                 credits must balance.
+     */
+    public Transaction(LocalDate date, Posting... postings) {
+        this(date, Arrays.asList(postings));
+    }
+    
+    /**
+     * Creates a transaction.
+     * 
+     * @param date     The date of the transaction.
+     * @param postings The postings of the transaction, whose debits and 
+     *                 credits must balance.
+     */
+    public Transaction(LocalDate date, List<Posting> postings) {
+        this.date = Objects.requireNonNull(date, "date");
+        this.postings = Collections.unmodifiableList(Arrays.asList(
+                postings.toArray(new Posting[0])));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public List<Posting> getPostings() {
+        return postings;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   Load.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 6:50:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.loads;
+
+import com.pekinsoft.northwind.accounting.Money;
+import java.time.LocalDate;
+
+/**
+ * The details of one load, as entered on the Load Entry dialog, on their way
+ * into a {@link LoadStore}. The store copies the details into its columns,
+ * so one `Load` may be filled in and added over and over.
+ * <p>
+ * The flags are the {@code TARP}, {@code HAZMAT}, {@code TWIC} and 
+ * {@code LTL} constants, or'ed together.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class Load {
+    //<editor-fold defaultstate="collapsed" desc="Public Static Constants">
+    /** The load must be tarped. */
+    public static final int TARP = 0x01;
+    /** The load is hazardous materials. */
+    public static final int HAZMAT = 0x02;
+    /** The shipper or receiver requires a TWIC card. */
+    public static final int TWIC = 0x04;
+    /** The load is less than a truckload. */
+    public static final int LTL = 0x08;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private String trip;
+    private String order;
+    private String customer;
+    private String agent;
+    private String truck;
+    private String commodity;
+    private int beginOdometer;
+    private int endOdometer;
+    private int miles;
+    private int weight;
+    private LocalDate pickupDate;
+    private LocalDate deliveryDate;
+    private Money truckPay = Money.ZERO;
+    private double ratePerMile;
+    private int flags;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates a load with no details filled in: no dates, no pay and no
+     * flags.
+     */
+    public Load() {
+        // The details are filled in through the setters.
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Getters and Setters">
+    public String getTrip() {
+        return trip;
+    }
+
+    public void setTrip(String trip) {
+        this.trip = trip;
+    }
+
+    public String getOrder() {
+        return order;
+    }
+
+    public void setOrder(String order) {
+        this.order = order;
+    }
+
+    /**
+     * @return the ID of the customer the load is hauled for.
+     */
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    /**
+     * @return the broker's agent the load was booked through.
+     */
+    public String getAgent() {
+        return agent;
+    }
+
+    public void setAgent(String agent) {
+        this.agent = agent;
+    }
+
+    /**
+     * @return the unit number of the truck that hauled the load.
+     */
+    public String getTruck() {
+        return truck;
+    }
+
+    public void setTruck(String truck) {
+        this.truck = truck;
+    }
+
+    public String getCommodity() {
+        return commodity;
+    }
+
+    public void setCommodity(String commodity) {
+        this.commodity = commodity;
+    }
+
+    public int getBeginOdometer() {
+        return beginOdometer;
+    }
+
+    public void setBeginOdometer(int beginOdometer) {
+        this.beginOdometer = beginOdometer;
+    }
+
+    public int getEndOdometer() {
+        return endOdometer;
+    }
+
+    public void setEndOdometer(int endOdometer) {
+        this.endOdometer = endOdometer;
+    }
+
+    /**
+     * @return the paid miles of the load.
+     */
+    public int getMiles() {
+        return miles;
+    }
+
+    public void setMiles(int miles) {
+        this.miles = miles;
+    }
+
+    /**
+     * @return the weight of the load, in pounds.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public LocalDate getPickupDate() {
+        return pickupDate;
+    }
+
+    public void setPickupDate(LocalDate pickupDate) {
+        this.pickupDate = pickupDate;
+    }
+
+    public LocalDate getDeliveryDate() {
+        return deliveryDate;
+    }
+
+    public void setDeliveryDate(LocalDate deliveryDate) {
+        this.deliveryDate = deliveryDate;
+    }
+
+    public Money getTruckPay() {
+        return truckPay;
+    }
+
+    public void setTruckPay(Money truckPay) {
+        this.truckPay = truckPay == null ? Money.ZERO : truckPay;
+    }
+
+    public double getRatePerMile() {
+        return ratePerMile;
+    }
+
+    public void setRatePerMile(double ratePerMile) {
+        this.ratePerMile = ratePerMile;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public void setFlags(int flags) {
+        this.flags = flags;
+    }
+    //</editor-fold>
+}
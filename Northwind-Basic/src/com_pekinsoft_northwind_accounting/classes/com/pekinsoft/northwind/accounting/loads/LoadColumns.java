@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LoadColumns.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 7:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.loads;
+
+import com.pekinsoft.northwind.accounting.Money;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A read-only view of the loads in a {@link LoadStore}, as they were when the
+ * view was taken. A view needs no locking, so any number of threads may read
+ * it at once, such as the workers of a report split across the cores.
+ * <p>
+ * Loads are read by row number, from zero (0) to {@link #getRowCount()}. The
+ * customer, agent, truck and commodity of a load are each a {@link Group} 
+ * code, which is turned back into its string by {@link #getName}. The 
+ * {@code sumBy} scans total the pay and miles of each customer, truck or 
+ * other group straight from the columns, in one pass.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class LoadColumns {
+    //<editor-fold defaultstate="collapsed" desc="Public Static Constants">
+    /** The day stored for a load with no date. */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+    /** The code of a load with no customer, agent, truck or commodity. */
+    public static final int NO_CODE = StringDictionary.NONE;
+    //</editor-fold>
+
+    /**
+     * The details of a load that are stored as dictionary codes, by which 
+     * loads may be grouped.
+     */
+    public enum Group {
+        CUSTOMER, AGENT, TRUCK, COMMODITY
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final int size;
+    private final String[] trips;
+    private final String[] orders;
+    private final int[][] codes;        // By `Group` ordinal.
+    private final String[][] names;     // By `Group` ordinal, then code.
+    private final int[] nameCounts;     // By `Group` ordinal.
+    private final int[] beginOdometers;
+    private final int[] endOdometers;
+    private final int[] miles;
+    private final int[] weights;
+    private final int[] pickupDays;
+    private final int[] deliveryDays;
+    private final long[] pay;
+    private final double[] rates;
+    private final byte[] flags;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    LoadColumns(int size, String[] trips, String[] orders, int[][] codes, 
+            String[][] names, int[] nameCounts, int[] beginOdometers, 
+            int[] endOdometers, int[] miles, int[] weights, int[] pickupDays, 
+            int[] deliveryDays, long[] pay, double[] rates, byte[] flags) {
+        this.size = size;
+        this.trips = trips;
+        this.orders = orders;
+        this.codes = codes;
+        this.names = names;
+        this.nameCounts = nameCounts;
+        this.beginOdometers = beginOdometers;
+        this.endOdometers = endOdometers;
+        this.miles = miles;
+        this.weights = weights;
+        this.pickupDays = pickupDays;
+        this.deliveryDays = deliveryDays;
+        this.pay = pay;
+        this.rates = rates;
+        this.flags = flags;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the number of loads in the view.
+     */
+    public int getRowCount() {
+        return size;
+    }
+    
+    public String getTrip(int row) {
+        return trips[Objects.checkIndex(row, size)];
+    }
+    
+    public String getOrder(int row) {
+        return orders[Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * Retrieves the code of a load's customer, agent, truck or commodity.
+     * 
+     * @param group The detail to retrieve.
+     * @param row   The row of the load.
+     * @return the code, or {@link #NO_CODE} if the load has none.
+     */
+    public int getCode(Group group, int row) {
+        return codes[group.ordinal()][Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * Retrieves the number of distinct customers, agents, trucks or 
+     * commodities. Their codes run from zero (0) to this number.
+     * 
+     * @param group The detail to count.
+     * @return the number of codes.
+     */
+    public int getCodeCount(Group group) {
+        return nameCounts[group.ordinal()];
+    }
+    
+    /**
+     * Retrieves the customer ID, agent, truck or commodity of a code.
+     * 
+     * @param group The detail the code is of.
+     * @param code  The code.
+     * @return the string, or `null` for {@link #NO_CODE}.
+     */
+    public String getName(Group group, int code) {
+        if ( code == NO_CODE ) {
+            return null;
+        }
+        return names[group.ordinal()][Objects.checkIndex(code, 
+                nameCounts[group.ordinal()])];
+    }
+    
+    /**
+     * Retrieves the code of a customer ID, agent, truck or commodity.
+     * 
+     * @param group The detail the string is of.
+     * @param name  The string.
+     * @return the code, or {@link #NO_CODE} if no load in the view has it.
+     */
+    public int findCode(Group group, String name) {
+        String[] values = names[group.ordinal()];
+        for ( int code = 0; code < nameCounts[group.ordinal()]; code++ ) {
+            if ( values[code].equals(name) ) {
+                return code;
+            }
+        }
+        return NO_CODE;
+    }
+    
+    public int getBeginOdometer(int row) {
+        return beginOdometers[Objects.checkIndex(row, size)];
+    }
+    
+    public int getEndOdometer(int row) {
+        return endOdometers[Objects.checkIndex(row, size)];
+    }
+    
+    public int getMiles(int row) {
+        return miles[Objects.checkIndex(row, size)];
+    }
+    
+    public int getWeight(int row) {
+        return weights[Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * @param row The row of the load.
+     * @return the pickup date as days since the epoch, or {@link #NO_DATE}.
+     */
+    public int getPickupDay(int row) {
+        return pickupDays[Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * @param row The row of the load.
+     * @return the delivery date as days since the epoch, or 
+     *         {@link #NO_DATE}.
+     */
+    public int getDeliveryDay(int row) {
+        return deliveryDays[Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * @param row The row of the load.
+     * @return the delivery date, or `null` if the load has none.
+     */
+    public LocalDate getDeliveryDate(int row) {
+        int day = getDeliveryDay(row);
+        return day == NO_DATE ? null : LocalDate.ofEpochDay(day);
+    }
+    
+    /**
+     * @param row The row of the load.
+     * @return the truck pay, in cents.
+     */
+    public long getPayCents(int row) {
+        return pay[Objects.checkIndex(row, size)];
+    }
+    
+    public Money getTruckPay(int row) {
+        return Money.ofCents(getPayCents(row));
+    }
+    
+    public double getRatePerMile(int row) {
+        return rates[Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * @param row The row of the load.
+     * @return the {@link Load} flags of the load.
+     */
+    public int getFlags(int row) {
+        return flags[Objects.checkIndex(row, size)];
+    }
+    
+    /**
+     * Totals the pay of the loads delivered in a range of days.
+     * 
+     * @param fromDay The first day, as days since the epoch.
+     * @param toDay   The last day, as days since the epoch.
+     * @return the total pay, in cents.
+     */
+    public long sumPay(int fromDay, int toDay) {
+        long total = 0;
+        for ( int row = 0; row < size; row++ ) {
+            int day = deliveryDays[row];
+            if ( day >= fromDay && day <= toDay ) {
+                total += pay[row];
+            }
+        }
+        return total;
+    }
+    
+    /**
+     * Totals the miles of the loads delivered in a range of days.
+     * 
+     * @param fromDay The first day, as days since the epoch.
+     * @param toDay   The last day, as days since the epoch.
+     * @return the total miles.
+     */
+    public long sumMiles(int fromDay, int toDay) {
+        long total = 0;
+        for ( int row = 0; row < size; row++ ) {
+            int day = deliveryDays[row];
+            if ( day >= fromDay && day <= toDay ) {
+                total += miles[row];
+            }
+        }
+        return total;
+    }
+    
+    /**
+     * Totals the pay and the miles of the loads delivered in a range of days,
+     * for each customer, agent, truck or commodity. The totals are added to 
+     * the arrays given, indexed by code, which must be at least 
+     * {@link #getCodeCount(Group)} long. Loads with no code are left out.
+     * <p>
+     * Only the rows from `fromRow` up to `toRow` are scanned, so that a report
+     * may split the rows between threads, each with arrays of its own.</p>
+     * 
+     * @param group   The detail to group the loads by.
+     * @param fromDay The first day, as days since the epoch.
+     * @param toDay   The last day, as days since the epoch.
+     * @param fromRow The first row to scan.
+     * @param toRow   The row after the last one to scan.
+     * @param payOut  The array to add the pay to, in cents.
+     * @param milesOut The array to add the miles to.
+     */
+    public void sumBy(Group group, int fromDay, int toDay, int fromRow, 
+            int toRow, long[] payOut, long[] milesOut) {
+        Objects.checkFromToIndex(fromRow, toRow, size);
+        int[] groupCodes = codes[group.ordinal()];
+        for ( int row = fromRow; row < toRow; row++ ) {
+            int day = deliveryDays[row];
+            int code = groupCodes[row];
+            if ( day >= fromDay && day <= toDay && code != NO_CODE ) {
+                payOut[code] += pay[row];
+                milesOut[code] += miles[row];
+            }
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LoadFile.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:00:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.loads;
+
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * The append-only file a {@link LoadStore} keeps its loads in, so that the
+ * store can be filled again when the application starts. Every load is one
+ * record:
+ * <pre>
+ *  size  field
+ *  ----  ---------------------------------------------------------------
+ *     4  length of the whole record, in bytes
+ *   var  trip, order, customer, agent, truck and commodity, each as its
+ *        length in UTF-8 bytes, or -1 for none, and then the bytes
+ *    24  begin and end odometers, miles, weight, and the pickup and
+ *        delivery dates in days since 1970-01-01
+ *     8  truck pay in cents
+ *     8  rate per mile
+ *     4  flags
+ *     4  CRC-32C of everything before it
+ * </pre>
+ * <p>
+ * The file starts with a 16 byte header holding {@link #MAGIC} and the
+ * format version. Each load is written and forced on its own, so only the
+ * last record can have been left partly written by a crash. Such a record is
+ * cut off when the file is opened; a damaged record anywhere else stops the
+ * file from being opened at all, and it is left as it is.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class LoadFile implements AutoCloseable {
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Constants">
+    static final byte[] MAGIC = { 'N', 'W', 'L', 'D' };
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    /**
+     * The most a record may take. A damaged record with more than this past
+     * its start cannot be the last one, which is how a torn last record is
+     * told apart from damage.
+     */
+    static final int MAX_RECORD_SIZE = 4096;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final Logger log = Application.log.getLogger(
+            LoadFile.class);
+
+    // The length, the fixed-width details and the checksum.
+    private static final int MIN_RECORD_SIZE = 4 + 6 * 4 + 24 + 8 + 8 + 4 + 4;
+    private static final int NO_STRING = -1;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final FileChannel channel;
+    // Everything below is guarded by the owning `LoadStore`.
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer record = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private IOException failure;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private LoadFile(FileChannel channel) {
+        this.channel = channel;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Static Methods">
+    /**
+     * Opens the load file, creating it with its header if it does not exist
+     * yet, and hands every load in it to the given consumer, in the order
+     * they were added. The same `Load` is refilled for each of them.
+     *
+     * @param path  The load file.
+     * @param loads Takes the loads read from the file.
+     * @return the file, ready for more loads to be added.
+     * @throws IOException in the event the file cannot be read, is not a load
+     *         file of this version, or is damaged before its last record.
+     */
+    static LoadFile open(Path path, Consumer<Load> loads) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if ( channel.size() < HEADER_SIZE ) {
+                header.put(MAGIC).putInt(VERSION).flip();
+                channel.truncate(0);
+                channel.write(header, 0);
+                channel.force(true);
+            } else {
+                channel.read(header, 0);
+                header.flip();
+                byte[] magic = new byte[MAGIC.length];
+                header.get(magic);
+                if ( !Arrays.equals(magic, MAGIC)
+                        || header.getInt() != VERSION ) {
+                    throw new IOException(path + " is not a load file of "
+                            + "version " + VERSION + ".");
+                }
+            }
+
+            long end = replay(path, channel, loads);
+            if ( channel.size() > end ) {
+                log.warning("Cutting off the last load in {}, which was only "
+                        + "partly written.", path);
+                channel.truncate(end);
+                channel.force(true);
+            }
+            channel.position(end);
+            return new LoadFile(channel);
+        } catch ( IOException | RuntimeException ex ) {
+            channel.close();
+            throw ex;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Writes a load to the end of the file and forces it to the disk.
+     *
+     * @param load The load to write.
+     * @throws IOException in the event the load cannot be written, is too
+     *         large for a record, or an earlier write failed, after which the
+     *         file takes no more loads.
+     */
+    void append(Load load) throws IOException {
+        if ( failure != null ) {
+            throw new IOException("The load file could not be written.",
+                    failure);
+        }
+
+        record.clear();
+        try {
+            record.position(4);
+            putString(load.getTrip());
+            putString(load.getOrder());
+            putString(load.getCustomer());
+            putString(load.getAgent());
+            putString(load.getTruck());
+            putString(load.getCommodity());
+            record.putInt(load.getBeginOdometer())
+                    .putInt(load.getEndOdometer())
+                    .putInt(load.getMiles())
+                    .putInt(load.getWeight())
+                    .putInt(toDay(load.getPickupDate()))
+                    .putInt(toDay(load.getDeliveryDate()))
+                    .putLong(load.getTruckPay().getUnits(Money.DEFAULT_SCALE))
+                    .putDouble(load.getRatePerMile())
+                    .putInt(load.getFlags());
+            record.putInt(0, record.position() + 4);
+            crc.reset();
+            crc.update(record.array(), 0, record.position());
+            record.putInt((int) crc.getValue());
+        } catch ( BufferOverflowException ex ) {
+            throw new IOException("The details of the load take more than "
+                    + MAX_RECORD_SIZE + " bytes.");
+        }
+
+        record.flip();
+        try {
+            while ( record.hasRemaining() ) {
+                channel.write(record);
+            }
+            channel.force(false);
+        } catch ( IOException ex ) {
+            // Part of the record may be in the file, which is only safe as
+            //+ long as nothing is written after it.
+            failure = ex;
+            throw ex;
+        }
+    }
+
+    /**
+     * Closes the file. Every load added is already on the disk.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    /**
+     * Reads the records after the header, handing each load to the consumer.
+     *
+     * @return the offset just past the last intact record.
+     * @throws IOException in the event the file cannot be read, or a damaged
+     *         record is followed by more than a torn last record could have
+     *         left.
+     */
+    private static long replay(Path path, FileChannel channel,
+            Consumer<Load> loads) throws IOException {
+        long size = channel.size();
+        long pos = HEADER_SIZE;
+        channel.position(pos);
+        // Not closed, as that would close the channel.
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(channel)));
+        byte[] bytes = new byte[MAX_RECORD_SIZE];
+        CRC32C crc = new CRC32C();
+        Load load = new Load();
+
+        while ( pos < size ) {
+            int length = readRecord(in, bytes, size - pos, crc);
+            if ( length < 0 ) {
+                if ( size - pos > MAX_RECORD_SIZE
+                        || hasIntactRecord(channel, pos + 1, size, crc) ) {
+                    throw new IOException(path + " has a damaged load at "
+                            + "offset " + pos + " with more loads after it. "
+                            + "The file has been left as it is.");
+                }
+                break;
+            }
+            decode(ByteBuffer.wrap(bytes, 4, length - 8), load);
+            loads.accept(load);
+            pos += length;
+        }
+        return pos;
+    }
+
+    /**
+     * Reads the next record into the given array.
+     *
+     * @return the length of the record, or -1 if it is incomplete or its
+     *         checksum does not match.
+     */
+    private static int readRecord(DataInputStream in, byte[] bytes,
+            long remaining, CRC32C crc) throws IOException {
+        if ( remaining < MIN_RECORD_SIZE ) {
+            return -1;
+        }
+        in.readFully(bytes, 0, 4);
+        int length = ByteBuffer.wrap(bytes).getInt(0);
+        if ( length < MIN_RECORD_SIZE || length > MAX_RECORD_SIZE
+                || length > remaining ) {
+            return -1;
+        }
+        in.readFully(bytes, 4, length - 4);
+        return isIntact(bytes, 0, length, crc) ? length : -1;
+    }
+
+    /**
+     * Looks for an intact record starting anywhere between the given offset
+     * and the end of the file, which is never more than
+     * {@link #MAX_RECORD_SIZE} bytes away.
+     */
+    private static boolean hasIntactRecord(FileChannel channel, long from,
+            long size, CRC32C crc) throws IOException {
+        ByteBuffer rest = ByteBuffer.allocate((int) (size - from));
+        while ( rest.hasRemaining() ) {
+            if ( channel.read(rest, from + rest.position()) < 0 ) {
+                break;
+            }
+        }
+        byte[] bytes = rest.array();
+        int end = rest.position();
+        for ( int start = 0; start + MIN_RECORD_SIZE <= end; start++ ) {
+            int length = rest.getInt(start);
+            if ( length >= MIN_RECORD_SIZE && length <= end - start
+                    && isIntact(bytes, start, length, crc) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isIntact(byte[] bytes, int start, int length,
+            CRC32C crc) {
+        crc.reset();
+        crc.update(bytes, start, length - 4);
+        return (int) crc.getValue()
+                == ByteBuffer.wrap(bytes).getInt(start + length - 4);
+    }
+
+    private static void decode(ByteBuffer in, Load load) {
+        load.setTrip(getString(in));
+        load.setOrder(getString(in));
+        load.setCustomer(getString(in));
+        load.setAgent(getString(in));
+        load.setTruck(getString(in));
+        load.setCommodity(getString(in));
+        load.setBeginOdometer(in.getInt());
+        load.setEndOdometer(in.getInt());
+        load.setMiles(in.getInt());
+        load.setWeight(in.getInt());
+        load.setPickupDate(toDate(in.getInt()));
+        load.setDeliveryDate(toDate(in.getInt()));
+        load.setTruckPay(Money.ofUnits(in.getLong(), Money.DEFAULT_SCALE));
+        load.setRatePerMile(in.getDouble());
+        load.setFlags(in.getInt());
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if ( length == NO_STRING ) {
+            return null;
+        }
+        String value = new String(in.array(), in.arrayOffset()
+                + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int toDay(LocalDate date) {
+        return date == null ? LoadColumns.NO_DATE : (int) date.toEpochDay();
+    }
+
+    private static LocalDate toDate(int day) {
+        return day == LoadColumns.NO_DATE ? null : LocalDate.ofEpochDay(day);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void putString(String value) {
+        if ( value == null ) {
+            record.putInt(NO_STRING);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            record.putInt(bytes.length).put(bytes);
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LoadStore.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 7:00:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Kept the default store's loads in a
+ *                                    `LoadFile`, so they outlive a restart.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.loads;
+
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Keeps the loads of the company in memory, for the per mile and 
+ * profitability reports, a column per detail rather than an object per load.
+ * <p>
+ * Each detail is kept in an array of its own: ints for the odometer readings,
+ * miles and weight, days since the epoch for the dates, cents for the truck
+ * pay, and the rate per mile as a double. The customer, agent, truck and 
+ * commodity are given a number each by a dictionary, and stored as that 
+ * number. A report that only needs the miles and pay of each load reads just
+ * those two arrays, from start to end, and a store of hundreds of thousands
+ * of loads is a couple of dozen arrays to the garbage collector, instead of 
+ * millions of objects.</p>
+ * <p>
+ * Loads are only ever added, never changed or removed, so a load's row 
+ * number stays the same for the life of the store. Reports read the store 
+ * through a {@link LoadColumns} taken by {@link #snapshot()}, which sees the 
+ * loads added before it was taken and needs no locking while it is read.</p>
+ * <p>
+ * A store opened by {@link #open(Path)} also writes every load to a file in
+ * its directory before adding it to the columns, and fills the columns from
+ * that file when it is opened, so the reports still agree with the General
+ * Ledger after the application is restarted.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class LoadStore implements AutoCloseable {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final Logger log = Application.log.getLogger(
+            LoadStore.class);
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String LOAD_FILE = "loads.nwld";
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Fields">
+    private static LoadStore defaultStore;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    // Everything here is guarded by `this`. Rows below `size` are never 
+    //+ written again, which is what lets a `LoadColumns` read them unlocked.
+    private int size;
+    private LoadFile file;          // Only for a store opened on a directory.
+    private String[] trips;
+    private String[] orders;
+    private int[] customers;
+    private int[] agents;
+    private int[] trucks;
+    private int[] commodities;
+    private int[] beginOdometers;
+    private int[] endOdometers;
+    private int[] miles;
+    private int[] weights;
+    private int[] pickupDays;
+    private int[] deliveryDays;
+    private long[] pay;
+    private double[] rates;
+    private byte[] flags;
+    
+    private final StringDictionary customerCodes = new StringDictionary();
+    private final StringDictionary agentCodes = new StringDictionary();
+    private final StringDictionary truckCodes = new StringDictionary();
+    private final StringDictionary commodityCodes = new StringDictionary();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates an empty store.
+     */
+    public LoadStore() {
+        this(INITIAL_CAPACITY);
+    }
+    
+    /**
+     * Creates an empty store with room for the given number of loads before 
+     * its columns need to grow.
+     * 
+     * @param capacity The number of loads to make room for.
+     */
+    public LoadStore(int capacity) {
+        allocate(Math.max(capacity, 16));
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Methods">
+    /**
+     * Opens the store kept in the given directory, creating it if the 
+     * directory holds none yet, and reads its loads into the columns.
+     * 
+     * @param directory The directory of the store's file.
+     * @return the store.
+     * @throws IOException in the event the store's file cannot be read, or is
+     *         damaged before its last load.
+     */
+    public static LoadStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        LoadStore store = new LoadStore();
+        // Nothing else can see the store yet, but `addColumns` expects its
+        //+ lock to be held.
+        synchronized ( store ) {
+            store.file = LoadFile.open(directory.resolve(LOAD_FILE), 
+                    store::addColumns);
+        }
+        log.config("Opened the load store at {} with {} loads.", directory,
+                store.getRowCount());
+        return store;
+    }
+    
+    /**
+     * Retrieves the store of the company's loads, under 
+     * {@link Application#COMPANY_DIR}, opening it the first time. It is 
+     * closed when the application exits.
+     * 
+     * @return the company's load store.
+     * @throws IOException in the event the store cannot be opened.
+     */
+    public static synchronized LoadStore getDefault() throws IOException {
+        if ( defaultStore == null ) {
+            LoadStore store = open(Paths.get(Application.COMPANY_DIR, 
+                    "default", "loads"));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    store.close();
+                } catch ( IOException ex ) {
+                    log.error(ex, "Closing the load store at exit.");
+                }
+            }, "Northwind Load Store Shutdown"));
+            defaultStore = store;
+        }
+        return defaultStore;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * Adds a load. The details are copied, so the `Load` may be reused. A 
+     * store opened on a directory returns once the load is on disk.
+     * 
+     * @param load The load to add.
+     * @return the row number of the load.
+     * @throws IOException in the event the load cannot be written to the 
+     *         store's file, in which case it is not added.
+     */
+    public synchronized int add(Load load) throws IOException {
+        if ( file != null ) {
+            file.append(load);
+        }
+        return addColumns(load);
+    }
+    
+    /**
+     * @return the number of loads in the store.
+     */
+    public synchronized int getRowCount() {
+        return size;
+    }
+    
+    /**
+     * Takes a read-only view of the loads in the store now. Loads added 
+     * afterwards are not seen by the view.
+     * 
+     * @return the view.
+     */
+    public synchronized LoadColumns snapshot() {
+        return new LoadColumns(size, trips, orders, 
+                new int[][] { customers, agents, trucks, commodities },
+                new String[][] { customerCodes.values(), agentCodes.values(),
+                        truckCodes.values(), commodityCodes.values() },
+                new int[] { customerCodes.size(), agentCodes.size(), 
+                        truckCodes.size(), commodityCodes.size() },
+                beginOdometers, endOdometers, miles, weights, pickupDays, 
+                deliveryDays, pay, rates, flags);
+    }
+    
+    /**
+     * Closes the store's file, if it has one. The loads stay in the columns,
+     * but no more may be added.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if ( file != null ) {
+            file.close();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    /**
+     * Copies a load into the columns. Must be called while holding `this`.
+     */
+    private int addColumns(Load load) {
+        if ( size == miles.length ) {
+            allocate(size * 2);
+        }
+        int row = size;
+        trips[row] = load.getTrip();
+        orders[row] = load.getOrder();
+        customers[row] = customerCodes.encode(load.getCustomer());
+        agents[row] = agentCodes.encode(load.getAgent());
+        trucks[row] = truckCodes.encode(load.getTruck());
+        commodities[row] = commodityCodes.encode(load.getCommodity());
+        beginOdometers[row] = load.getBeginOdometer();
+        endOdometers[row] = load.getEndOdometer();
+        miles[row] = load.getMiles();
+        weights[row] = load.getWeight();
+        pickupDays[row] = toDay(load.getPickupDate());
+        deliveryDays[row] = toDay(load.getDeliveryDate());
+        pay[row] = load.getTruckPay().getUnits(Money.DEFAULT_SCALE);
+        rates[row] = load.getRatePerMile();
+        flags[row] = (byte) load.getFlags();
+        size = row + 1;
+        return row;
+    }
+    
+    /**
+     * Creates the columns, or replaces them by longer copies. Views already
+     * taken keep the columns they were given, which still hold their rows.
+     */
+    private void allocate(int capacity) {
+        if ( miles == null ) {
+            trips = new String[capacity];
+            orders = new String[capacity];
+            customers = new int[capacity];
+            agents = new int[capacity];
+            trucks = new int[capacity];
+            commodities = new int[capacity];
+            beginOdometers = new int[capacity];
+            endOdometers = new int[capacity];
+            miles = new int[capacity];
+            weights = new int[capacity];
+            pickupDays = new int[capacity];
+            deliveryDays = new int[capacity];
+            pay = new long[capacity];
+            rates = new double[capacity];
+            flags = new byte[capacity];
+        } else {
+            trips = Arrays.copyOf(trips, capacity);
+            orders = Arrays.copyOf(orders, capacity);
+            customers = Arrays.copyOf(customers, capacity);
+            agents = Arrays.copyOf(agents, capacity);
+            trucks = Arrays.copyOf(trucks, capacity);
+            commodities = Arrays.copyOf(commodities, capacity);
+            beginOdometers = Arrays.copyOf(beginOdometers, capacity);
+            endOdometers = Arrays.copyOf(endOdometers, capacity);
+            miles = Arrays.copyOf(miles, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            pickupDays = Arrays.copyOf(pickupDays, capacity);
+            deliveryDays = Arrays.copyOf(deliveryDays, capacity);
+            pay = Arrays.copyOf(pay, capacity);
+            rates = Arrays.copyOf(rates, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+        }
+    }
+    
+    private static int toDay(LocalDate date) {
+        return date == null ? LoadColumns.NO_DATE : (int) date.toEpochDay();
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   StringDictionary.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 6:45:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.loads;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gives each distinct string of a column, such as a customer ID, a small
+ * number of its own, so that the column can store the numbers instead of the
+ * strings. Each string is then held once, no matter how many loads use it,
+ * and comparing two loads' customers is comparing two ints.
+ * <p>
+ * Codes are handed out from zero (0) in the order the strings are first
+ * seen, and never change. A `null` string is given the code {@link #NONE}.
+ * </p>
+ * <p>
+ * Only the owning {@link LoadStore} adds strings, while holding its lock. 
+ * Codes already handed out can be decoded through {@link #values()} without
+ * any lock, as the array is only ever appended to or replaced by a longer
+ * copy.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class StringDictionary {
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Constants">
+    /** The code of a `null` string. */
+    static final int NONE = -1;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Map<String, Integer> codes = new HashMap<>();
+    private String[] values = new String[16];
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Retrieves the code of a string, giving it a new code if it has none yet.
+     * 
+     * @param value The string.
+     * @return the code of the string, or {@link #NONE} if it is `null`.
+     */
+    int encode(String value) {
+        if ( value == null ) {
+            return NONE;
+        }
+        Integer code = codes.get(value);
+        if ( code == null ) {
+            code = codes.size();
+            if ( code == values.length ) {
+                values = Arrays.copyOf(values, code * 2);
+            }
+            values[code] = value;
+            codes.put(value, code);
+        }
+        return code;
+    }
+    
+    /**
+     * Retrieves the code of a string without giving it one.
+     * 
+     * @param value The string.
+     * @return the code of the string, or {@link #NONE} if it is `null` or has
+     *         never been encoded.
+     */
+    int find(String value) {
+        Integer code = value == null ? null : codes.get(value);
+        return code == null ? NONE : code;
+    }
+    
+    /**
+     * @return the number of distinct strings.
+     */
+    int size() {
+        return codes.size();
+    }
+    
+    /**
+     * @return the strings, indexed by their codes. Only the first 
+     *         {@link #size()} elements are filled in.
+     */
+    String[] values() {
+        return values;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   FinancialStatement.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 8:05:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.reports;
+
+import com.pekinsoft.northwind.accounting.Money;
+import java.time.LocalDate;
+
+/**
+ * The income statement for one period, together with the balance sheet as of
+ * its last day and the ratios taken from them.
+ * <p>
+ * Equity includes the earnings retained to date: all revenue less all 
+ * expenses posted up to the end of the period. A ratio that cannot be taken,
+ * such as the return on investment of a period run at a loss, is 
+ * {@link Double#NaN}, just as the batch calculations of `Math` report 
+ * refused rows.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class FinancialStatement {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final LocalDate start;
+    private final LocalDate end;
+    private final Money revenue;
+    private final Money expenses;
+    private final long miles;
+    private final Money assets;
+    private final Money liabilities;
+    private final Money equity;
+    private final Money currentAssets;
+    private final Money currentLiabilities;
+    private final double currentRatio;
+    private final double returnOnInvestment;
+    private final boolean balanced;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    FinancialStatement(LocalDate start, LocalDate end, Money revenue, 
+            Money expenses, long miles, Money assets, Money liabilities, 
+            Money equity, Money currentAssets, Money currentLiabilities, 
+            double currentRatio, double returnOnInvestment, boolean balanced) {
+        this.start = start;
+        this.end = end;
+        this.revenue = revenue;
+        this.expenses = expenses;
+        this.miles = miles;
+        this.assets = assets;
+        this.liabilities = liabilities;
+        this.equity = equity;
+        this.currentAssets = currentAssets;
+        this.currentLiabilities = currentLiabilities;
+        this.currentRatio = currentRatio;
+        this.returnOnInvestment = returnOnInvestment;
+        this.balanced = balanced;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the first day of the period.
+     */
+    public LocalDate getStart() {
+        return start;
+    }
+
+    /**
+     * @return the last day of the period.
+     */
+    public LocalDate getEnd() {
+        return end;
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+
+    public Money getExpenses() {
+        return expenses;
+    }
+
+    /**
+     * @return the revenue less the expenses of the period.
+     */
+    public Money getNetIncome() {
+        return revenue.minus(expenses);
+    }
+
+    /**
+     * @return the miles of the loads posted in the period.
+     */
+    public long getMiles() {
+        return miles;
+    }
+
+    public Money getAssets() {
+        return assets;
+    }
+
+    public Money getLiabilities() {
+        return liabilities;
+    }
+
+    public Money getEquity() {
+        return equity;
+    }
+
+    public Money getCurrentAssets() {
+        return currentAssets;
+    }
+
+    public Money getCurrentLiabilities() {
+        return currentLiabilities;
+    }
+
+    /**
+     * @return the current assets over the current liabilities, or 
+     *         {@link Double#NaN}.
+     */
+    public double getCurrentRatio() {
+        return currentRatio;
+    }
+
+    /**
+     * @return the net income of the period over the equipment invested in, or
+     *         {@link Double#NaN}.
+     */
+    public double getReturnOnInvestment() {
+        return returnOnInvestment;
+    }
+
+    /**
+     * @return {@code true} if the assets equal the liabilities and equity.
+     */
+    public boolean isBalanced() {
+        return balanced;
+    }
+
+    @Override
+    public String toString() {
+        return "FinancialStatement[" + start + " to " + end + ", revenue=" 
+                + revenue + ", expenses=" + expenses + ", assets=" + assets
+                + ", liabilities=" + liabilities + ", equity=" + equity + "]";
+    }
+    //</editor-fold>
+}
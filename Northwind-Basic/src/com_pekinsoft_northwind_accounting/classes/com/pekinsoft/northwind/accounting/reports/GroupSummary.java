@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   GroupSummary.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 8:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.reports;
+
+import com.pekinsoft.northwind.accounting.Money;
+
+/**
+ * The pay and miles of the loads of one customer, truck, agent or commodity.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class GroupSummary {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final String name;
+    private final Money pay;
+    private final long miles;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    GroupSummary(String name, Money pay, long miles) {
+        this.name = name;
+        this.pay = pay;
+        this.miles = miles;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * @return the customer ID, truck, agent or commodity.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public Money getPay() {
+        return pay;
+    }
+
+    public long getMiles() {
+        return miles;
+    }
+
+    /**
+     * @return the pay per mile, or {@link Double#NaN} if there are no miles.
+     */
+    public double getPayPerMile() {
+        return miles > 0 ? pay.toDouble() / miles : Double.NaN;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + pay + " for " + miles + " miles";
+    }
+    //</editor-fold>
+}
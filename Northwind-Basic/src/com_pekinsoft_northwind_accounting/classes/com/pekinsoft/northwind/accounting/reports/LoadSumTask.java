@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LoadSumTask.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 8:15:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.reports;
+
+import com.pekinsoft.northwind.accounting.loads.LoadColumns;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Totals the pay and miles of a range of rows of a {@link LoadColumns}, by
+ * customer, truck, agent or commodity. The rows are split in halves until 
+ * each is small enough to scan at once, and the totals of the halves are 
+ * added together on the way back up.
+ * <p>
+ * The result is the pay totals, in cents, followed by the miles totals, each
+ * indexed by code.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class LoadSumTask extends RecursiveTask<long[]> {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final long serialVersionUID = 1L;
+    // Rows a task scans itself rather than splitting further.
+    private static final int LEAF_ROWS = 256 * 1024;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final transient LoadColumns loads;
+    private final LoadColumns.Group group;
+    private final int fromDay;
+    private final int toDay;
+    private final int fromRow;
+    private final int toRow;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    LoadSumTask(LoadColumns loads, LoadColumns.Group group, int fromDay, 
+            int toDay, int fromRow, int toRow) {
+        this.loads = loads;
+        this.group = group;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Protected Methods">
+    @Override
+    protected long[] compute() {
+        if ( toRow - fromRow > LEAF_ROWS ) {
+            int mid = (fromRow + toRow) >>> 1;
+            LoadSumTask low = new LoadSumTask(loads, group, fromDay, toDay, 
+                    fromRow, mid);
+            LoadSumTask high = new LoadSumTask(loads, group, fromDay, toDay, 
+                    mid, toRow);
+            low.fork();
+            long[] sums = high.compute();
+            long[] other = low.join();
+            for ( int idx = 0; idx < sums.length; idx++ ) {
+                sums[idx] += other[idx];
+            }
+            return sums;
+        }
+        
+        int codes = loads.getCodeCount(group);
+        long[] pay = new long[codes];
+        long[] miles = new long[codes];
+        loads.sumBy(group, fromDay, toDay, fromRow, toRow, pay, miles);
+        long[] sums = new long[codes * 2];
+        System.arraycopy(pay, 0, sums, 0, codes);
+        System.arraycopy(miles, 0, sums, codes, codes);
+        return sums;
+    }
+    //</editor-fold>
+}
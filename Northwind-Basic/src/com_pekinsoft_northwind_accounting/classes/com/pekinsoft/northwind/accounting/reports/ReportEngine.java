@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ReportEngine.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 8:20:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.reports;
+
+import com.pekinsoft.northwind.accounting.AccountingResult;
+import com.pekinsoft.northwind.accounting.Math;
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.accounting.ledger.Account;
+import com.pekinsoft.northwind.accounting.ledger.GeneralLedger;
+import com.pekinsoft.northwind.accounting.ledger.PeriodSums;
+import com.pekinsoft.northwind.accounting.loads.LoadColumns;
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Builds the period financial statements from the General Ledger, and the 
+ * per customer and per truck summaries from the loads.
+ * <p>
+ * Both are computed on a fork/join pool. The journal of the ledger, or the 
+ * rows of the loads, are split into ranges, each range is totaled by a task
+ * of its own into partial sums by period and account, or by customer or 
+ * truck, and the partial sums are added together as the tasks finish. A
+ * report over several years of postings therefore uses every core of the 
+ * pool, rather than a single thread. The statements themselves are then 
+ * worked out from the merged sums, which only takes as long as there are 
+ * periods.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class ReportEngine {
+    private static final Logger log = Application.log.getLogger(
+            ReportEngine.class);
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final ForkJoinPool pool;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates an engine that runs its reports on the common fork/join pool.
+     */
+    public ReportEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Creates an engine that runs its reports on the given pool.
+     * 
+     * @param pool The pool to run reports on.
+     */
+    public ReportEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Instance Methods">
+    /**
+     * Builds the financial statements of each period from the one holding 
+     * `from` to the one holding `to`.
+     * 
+     * @param ledger The ledger to report on.
+     * @param from   A day in the first period.
+     * @param to     A day in the last period.
+     * @param period The length of the periods.
+     * @return the statements, in date order.
+     * @throws IOException in the event the ledger cannot be read.
+     */
+    public List<FinancialStatement> getStatements(GeneralLedger ledger, 
+            LocalDate from, LocalDate to, ReportPeriod period) 
+            throws IOException {
+        long started = System.nanoTime();
+        int[] boundaries = boundaries(from, to, period);
+        PeriodSums sums = ledger.sumByPeriod(boundaries, pool);
+        
+        List<FinancialStatement> statements = new ArrayList<>(
+                sums.getPeriodCount());
+        AccountingResult result = new AccountingResult();
+        for ( int idx = 0; idx < sums.getPeriodCount(); idx++ ) {
+            statements.add(statement(sums, idx, result));
+        }
+        
+        log.debug("Built {} statements in {} ms.", statements.size(), 
+                (System.nanoTime() - started) / 1_000_000);
+        return statements;
+    }
+    
+    /**
+     * Totals the pay and miles of the loads delivered from `from` to `to`, by
+     * customer, truck, agent or commodity. Loads with none are left out.
+     * 
+     * @param loads The loads to report on.
+     * @param group What to total the loads by.
+     * @param from  The first delivery day.
+     * @param to    The last delivery day.
+     * @return the totals, one per customer, truck, agent or commodity that has
+     *         loads delivered in the range.
+     */
+    public List<GroupSummary> getSummaries(LoadColumns loads, 
+            LoadColumns.Group group, LocalDate from, LocalDate to) {
+        long started = System.nanoTime();
+        int codes = loads.getCodeCount(group);
+        long[] sums = pool.invoke(new LoadSumTask(loads, group, 
+                (int) from.toEpochDay(), (int) to.toEpochDay(), 0, 
+                loads.getRowCount()));
+        
+        List<GroupSummary> summaries = new ArrayList<>();
+        for ( int code = 0; code < codes; code++ ) {
+            if ( sums[code] != 0 || sums[codes + code] != 0 ) {
+                summaries.add(new GroupSummary(loads.getName(group, code), 
+                        Money.ofCents(sums[code]), sums[codes + code]));
+            }
+        }
+        
+        log.debug("Summarized {} loads by {} in {} ms.", loads.getRowCount(), 
+                group, (System.nanoTime() - started) / 1_000_000);
+        return summaries;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    private static int[] boundaries(LocalDate from, LocalDate to, 
+            ReportPeriod period) {
+        if ( to.isBefore(from) ) {
+            throw new IllegalArgumentException("The report ends before it "
+                    + "starts.");
+        }
+        List<LocalDate> starts = new ArrayList<>();
+        LocalDate start = period.startOf(from);
+        while ( !start.isAfter(to) ) {
+            starts.add(start);
+            start = period.next(start);
+        }
+        starts.add(start);
+        
+        int[] days = new int[starts.size()];
+        for ( int idx = 0; idx < days.length; idx++ ) {
+            days[idx] = (int) starts.get(idx).toEpochDay();
+        }
+        return days;
+    }
+    
+    private static FinancialStatement statement(PeriodSums sums, int period, 
+            AccountingResult result) {
+        long revenue = 0;
+        long expenses = 0;
+        long assets = 0;
+        long liabilities = 0;
+        long equity = 0;
+        long currentAssets = 0;
+        long currentLiabilities = 0;
+        for ( Account account : Account.values() ) {
+            long balance = sums.getBalance(period, account);
+            switch ( account.getType() ) {
+                case REVENUE:
+                    revenue -= sums.getChange(period, account);
+                    equity -= balance;      // Retained earnings.
+                    break;
+                case EXPENSE:
+                    expenses += sums.getChange(period, account);
+                    equity -= balance;      // Retained earnings.
+                    break;
+                case ASSET:
+                    assets += balance;
+                    if ( account.isCurrent() ) {
+                        currentAssets += balance;
+                    }
+                    break;
+                case LIABILITY:
+                    liabilities -= balance;
+                    if ( account.isCurrent() ) {
+                        currentLiabilities -= balance;
+                    }
+                    break;
+                default:
+                    equity -= balance;
+            }
+        }
+        
+        double currentRatio = Double.NaN;
+        if ( Math.tryCurrentRatio(currentAssets / 100.0, 
+                currentLiabilities / 100.0, result) ) {
+            currentRatio = result.getValue();
+        }
+        double roi = Double.NaN;
+        if ( Math.tryReturnOnInvestment((revenue - expenses) / 100.0, 
+                sums.getBalance(period, Account.EQUIPMENT) / 100.0, result) ) {
+            roi = result.getValue();
+        }
+        
+        return new FinancialStatement(sums.getStart(period), 
+                sums.getEnd(period), Money.ofCents(revenue), 
+                Money.ofCents(expenses), 
+                sums.getQuantity(period, Account.FREIGHT_REVENUE), 
+                Money.ofCents(assets), Money.ofCents(liabilities), 
+                Money.ofCents(equity), Money.ofCents(currentAssets), 
+                Money.ofCents(currentLiabilities), currentRatio, roi, 
+                assets == liabilities + equity);
+    }
+    //</editor-fold>
+}
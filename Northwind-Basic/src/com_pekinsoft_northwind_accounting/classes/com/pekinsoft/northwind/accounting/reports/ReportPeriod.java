@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ReportPeriod.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 8:00:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.accounting.reports;
+
+import java.time.LocalDate;
+
+/**
+ * The length of the periods a report is broken into.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public enum ReportPeriod {
+    MONTH(1), QUARTER(3), YEAR(12);
+    
+    private final int months;
+    
+    private ReportPeriod(int months) {
+        this.months = months;
+    }
+    
+    /**
+     * Finds the first day of the period a date falls in. Quarters and years
+     * are calendar quarters and years.
+     * 
+     * @param date The date.
+     * @return the first day of its period.
+     */
+    public LocalDate startOf(LocalDate date) {
+        int month = date.getMonthValue() - 1;
+        return LocalDate.of(date.getYear(), month - month % months + 1, 1);
+    }
+    
+    /**
+     * @param start The first day of a period.
+     * @return the first day of the period after it.
+     */
+    public LocalDate next(LocalDate start) {
+        return start.plusMonths(months);
+    }
+}
@@ -20,7 +20,7 @@
  *  Class      :   module-info.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 8, 2020 @ 3:22:34 PM
- *  Modified   :   Mar 8, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -29,6 +29,11 @@
  *  WHEN          BY                  REASON
  *  ------------  ------------------- ------------------------------------------
  *  Mar 8, 2020  Sean Carrick        Initial creation.
+ *  Oct 17, 2026 Sean Carrick        Exported the enums package.
+ *  Oct 17, 2026 Sean Carrick        Exported the ledger package.
+ *  Oct 17, 2026 Sean Carrick        Exported the loads package.
+ *  Oct 17, 2026 Sean Carrick        Exported the reports package.
+ *  Oct 17, 2026 Sean Carrick        Exported the ifta package.
  * *****************************************************************************
  */
 
@@ -36,5 +41,10 @@ module com_pekinsoft_northwind_accounting {
     requires com_pekinsoft_northwind_basic;
     
     exports com.pekinsoft.northwind.accounting;
+    exports com.pekinsoft.northwind.accounting.enums;
     exports com.pekinsoft.northwind.accounting.exceptions;
+    exports com.pekinsoft.northwind.accounting.ifta;
+    exports com.pekinsoft.northwind.accounting.ledger;
+    exports com.pekinsoft.northwind.accounting.loads;
+    exports com.pekinsoft.northwind.accounting.reports;
 }
@@ -20,7 +20,7 @@
  *  Class      :   Application.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 8, 2020 @ 12:46:44 PM
- *  Modified   :   Mar 8, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -29,17 +29,36 @@
  *  WHEN          BY                  REASON
  *  ------------  ------------------- ------------------------------------------
  *  Mar 8, 2020  Sean Carrick        Initial creation.
+ *  Oct 17, 2026 Sean Carrick        Switched the log to asynchronous mode,
+ *                                   configured from the properties file, and
+ *                                   closed it in `exit` so it is fully drained.
+ *  Oct 17, 2026 Sean Carrick        Loaded the properties before opening the
+ *                                   log, so `log.format` can select the binary
+ *                                   log format.
+ *  Oct 17, 2026 Sean Carrick        Switched the log to a rolling log, sized
+ *                                   and retained from the properties file.
+ *  Oct 17, 2026 Sean Carrick        Configured how often repeated errors are
+ *                                   counted in the log.
+ *  Oct 17, 2026 Sean Carrick        Set the levels of single packages and
+ *                                   classes from the properties file.
+ *  Oct 17, 2026 Sean Carrick        Watched `logging.properties` for logging
+ *                                   level changes while running.
  * *****************************************************************************
  */
 
 package com.pekinsoft.northwind.basic;
 
+import com.pekinsoft.northwind.utils.LogLevelWatcher;
 import com.pekinsoft.northwind.utils.Logger;
+import com.pekinsoft.northwind.utils.enums.LogFormat;
+import com.pekinsoft.northwind.utils.enums.OverflowPolicy;
 import com.pekinsoft.northwind.utils.enums.SysExits;
+import com.pekinsoft.northwind.utils.exceptions.InvalidLoggingLevelException;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Properties;
 
 /**
@@ -78,6 +97,7 @@ public class Application {
 
     //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
     private static final Properties props = new Properties();
+    private static final LogLevelWatcher levelWatcher;
     //</editor-fold>
 
     static {
@@ -97,24 +117,10 @@ public class Application {
 
         LOG_DIR = TOP_LEVEL_DIR + "var" + FILE_SEPARATOR + "logs" 
                 + FILE_SEPARATOR;
-        File logPath = new File(LOG_DIR);
-        File logFile = new File(logPath.getAbsoluteFile() + FILE_SEPARATOR
-                + "application.log");
-        if ( !logPath.exists() ) {
-                logPath.mkdirs();
-        }
-        if ( !logFile.exists() ) {
-            try {
-                logFile.createNewFile();
-            } catch (IOException ex) {
-                System.err.println(ex.getMessage());
-                ex.printStackTrace(System.err);
-            }
-        }
-        log = new Logger(logFile.getAbsolutePath());
-        log.enter("com.is2300.northwind.Application", "static initializer{}");
 
-        log.debug("Attempting to load the application properties from file.");
+        // The properties are loaded before the log is opened, as they say
+        //+ what format the log is to be written in.
+        boolean firstRun = false;
         try ( FileReader in = new FileReader(new File(
                 System.getProperty("user.home") 
                 + FILE_SEPARATOR + "." + 
@@ -123,10 +129,10 @@ public class Application {
         } catch ( IOException ex ) {
             // If we come in this error handler, odds are the application hasn't
             //+ been run before, which is why the file doesn't exist. Therefore,
-            //+ we'll just write a configuration log entry, advising that this
-            //+ exception was thrown, but not write an error message to the log.
-            log.config("FIRST RUN: No properties file exists. It will be "
-                    + "created when the application exits.");
+            //+ we'll just write a configuration log entry, once the log is
+            //+ open, advising that this exception was thrown, but not write an
+            //+ error message to the log.
+            firstRun = true;
             
             // Since this is the first time the system has been run, we are 
             //+ going to create the file structure right here.
@@ -142,7 +148,123 @@ public class Application {
             companyDir.mkdirs();
             // Folder structure created \\
         }
+        
+        // A binary log is read back with the LogDecoder, so it gets its own
+        //+ extension to keep it from being opened in a text editor by mistake.
+        LogFormat format = LogFormat.TEXT;
+        String badFormat = null;
+        try {
+            format = LogFormat.valueOf(props.getProperty("log.format", 
+                    "TEXT").toUpperCase());
+        } catch ( IllegalArgumentException ex ) {
+            badFormat = props.getProperty("log.format");
+        }
+        
+        File logPath = new File(LOG_DIR);
+        File logFile = new File(logPath.getAbsoluteFile() + FILE_SEPARATOR
+                + (format == LogFormat.BINARY 
+                        ? "application.nwlog" 
+                        : "application.log"));
+        if ( !logPath.exists() ) {
+                logPath.mkdirs();
+        }
+        if ( !logFile.exists() ) {
+            try {
+                logFile.createNewFile();
+            } catch (IOException ex) {
+                System.err.println(ex.getMessage());
+                ex.printStackTrace(System.err);
+            }
+        }
+        log = new Logger(logFile.getAbsolutePath(), Logger.INFO, true, format);
+        log.enter("com.is2300.northwind.Application", "static initializer{}");
+
+        if ( firstRun ) {
+            log.config("FIRST RUN: No properties file exists. It will be "
+                    + "created when the application exits.");
+        }
+        if ( badFormat != null ) {
+            log.config("Unknown log.format value: " + badFormat 
+                    + ". Using TEXT instead.");
+        }
         DEBUGGING = Boolean.parseBoolean(props.getProperty("debugging", "false"));
+        
+        // Unless turned off in the properties file, keep the log from growing
+        //+ without end: start a new file daily or at 10 MB, and keep no more
+        //+ than 100 MB of compressed old logs.
+        if ( Boolean.parseBoolean(props.getProperty("log.roll", "true")) ) {
+            long segmentMB = longProperty("log.roll.size.mb", 10);
+            long segmentHours = longProperty("log.roll.hours", 24);
+            long retainMB = longProperty("log.retain.mb", 100);
+            log.config("Rolling the log every " + segmentHours + " hours or " 
+                    + segmentMB + " MB, keeping " + retainMB 
+                    + " MB of old logs.");
+            log.setRolling(segmentMB * 1024 * 1024, 
+                    segmentHours * 60 * 60 * 1000, retainMB * 1024 * 1024);
+        }
+        
+        // Levels for single packages or classes, such as
+        //+ `log.level.com.pekinsoft.northwind.basic.modules=DEBUG`, apply to
+        //+ the loggers of those packages and classes only.
+        Properties baseline = props;
+        try {
+            log.configure(props);
+        } catch ( InvalidLoggingLevelException ex ) {
+            log.config("Logging levels not set from the properties file: " 
+                    + ex.getMessage());
+            baseline = new Properties();
+        }
+        
+        // The levels can also be changed while the application runs, by
+        //+ saving them to the logging properties file. Its levels are laid
+        //+ over the ones above, which stay in force for any name it leaves
+        //+ out.
+        LogLevelWatcher watcher = null;
+        try {
+            watcher = LogLevelWatcher.start(log, 
+                    Paths.get(TOP_LEVEL_DIR, "logging.properties"), baseline);
+        } catch ( IOException ex ) {
+            log.config("Not watching for logging level changes: " 
+                    + ex.getMessage());
+        }
+        levelWatcher = watcher;
+        
+        // Repeats of the same exception are only counted, at most once per
+        //+ interval, after the first full report. Zero turns this off. A
+        //+ class of exception can be given its own interval, such as
+        //+ `log.error.summary.seconds.java.lang.NumberFormatException=60`.
+        long summarySeconds = longProperty("log.error.summary.seconds", 10);
+        log.setErrorSummaryInterval(summarySeconds * 1000);
+        String summaryPrefix = "log.error.summary.seconds.";
+        for ( String key : props.stringPropertyNames() ) {
+            if ( key.startsWith(summaryPrefix) ) {
+                log.setErrorSummaryInterval(key.substring(
+                        summaryPrefix.length()), longProperty(key,
+                                summarySeconds) * 1000);
+            }
+        }
+        
+        // Unless turned off in the properties file, hand the log entries to a
+        //+ background writer so that logging never waits on the disk.
+        if ( Boolean.parseBoolean(props.getProperty("log.async", "true")) ) {
+            OverflowPolicy policy;
+            try {
+                policy = OverflowPolicy.valueOf(props.getProperty(
+                        "log.async.overflow", "BLOCK").toUpperCase());
+            } catch ( IllegalArgumentException ex ) {
+                log.config("Unknown log.async.overflow value: " 
+                        + props.getProperty("log.async.overflow") 
+                        + ". Using BLOCK instead.");
+                policy = OverflowPolicy.BLOCK;
+            }
+            int capacity = Integer.valueOf(props.getProperty(
+                    "log.async.capacity", "8192"));
+            log.config("Starting asynchronous logging with a buffer of " 
+                    + capacity + " entries and the " + policy 
+                    + " overflow policy.");
+            log.setAsynchronous(capacity, policy);
+        }
+        
         long bui = Long.valueOf(props.getProperty("app.build", "0"));
         int rev = Integer.valueOf(props.getProperty("app.revision", "0"));
         int min = Integer.valueOf(props.getProperty("app.minor", "1"));
@@ -272,6 +394,12 @@ public class Application {
         log.debug("Calling System.exit(" + exitStatus.toInt() + ")");
         log.debug("---> Exit Status: " + exitStatus.toString());
         log.exit("com.is2300.northwind.Application", "exit", exitStatus.toInt());
+        
+        // Make sure every entry still waiting to be written makes it to disk.
+        if ( levelWatcher != null ) {
+            levelWatcher.close();
+        }
+        log.close();
         System.exit(exitStatus.toInt());
     }
     
@@ -293,4 +421,25 @@ public class Application {
         return sb.toString();
     }
     //</editor-fold>
+    
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    /**
+     * Reads a whole number from the properties. A value that is not one is
+     * noted in the log and the default used instead, so that a typing error
+     * in the properties file cannot keep the application from starting.
+     */
+    private static long longProperty(String key, long defaultValue) {
+        String value = props.getProperty(key);
+        if ( value == null ) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch ( NumberFormatException ex ) {
+            log.config("Invalid " + key + " value: " + value + ". Using " 
+                    + defaultValue + " instead.");
+            return defaultValue;
+        }
+    }
+    //</editor-fold>
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ManifestParser.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 11:40:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.basic.modules;
+
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Locale;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads the `manifest.xml` of a module jar. The manifest is streamed, and
+ * reading stops as soon as the name, version, master class and scope have 
+ * been found, so no document is ever built for it. The scope is optional, and
+ * is `prototype` unless given; as it follows the master class, a manifest
+ * without one is read no further than the element after the master class, or
+ * the end of the `module` element.
+ * <p>
+ * When the `modules.validate` property is `true`, each manifest is first 
+ * checked against `manifest.xsd`, and a manifest that does not match it is
+ * refused. The schema is compiled the first time it is needed, and then 
+ * shared by every manifest.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ManifestParser {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final Logger log = Application.log.getLogger(
+            ManifestParser.class);
+    
+    // Configured once, here, and only used to create readers afterwards,
+    //+ which the StAX implementations allow from several threads at once.
+    private static final XMLInputFactory factory;
+    
+    private static final boolean validate = Boolean.parseBoolean(
+            Application.getProperty("modules.validate", "false"));
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Fields">
+    private static volatile Schema schema;
+    //</editor-fold>
+
+    static {
+        factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+                false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private ManifestParser() {
+        // No instances.
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Static Methods">
+    /**
+     * Reads a module manifest. May be called by several threads at once.
+     *
+     * @param in the manifest; it is not closed.
+     * @param source where the manifest came from, for error messages.
+     * @return what the manifest says.
+     * @throws IOException in the event the manifest cannot be read, is not
+     *         valid, does not name the module, its version and its master
+     *         class, or gives an unknown scope.
+     */
+    static Manifest parse(InputStream in, String source) throws IOException {
+        if ( validate ) {
+            byte[] content = in.readAllBytes();
+            validate(content, source);
+            in = new ByteArrayInputStream(content);
+        }
+        
+        String name = null;
+        String version = null;
+        String masterClass = null;
+        String scope = null;
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                // Only the children of the `module` element, at depth two 
+                //+ (2), are read.
+                int depth = 0;
+                while ( reader.hasNext() && (name == null || version == null 
+                        || masterClass == null || scope == null) ) {
+                    int event = reader.next();
+                    if ( event == XMLStreamConstants.END_ELEMENT 
+                            && --depth == 0 ) {
+                        break;      // The end of the `module` element.
+                    }
+                    if ( event != XMLStreamConstants.START_ELEMENT 
+                            || ++depth != 2 ) {
+                        continue;
+                    }
+                    
+                    String element = reader.getLocalName();
+                    if ( name != null && version != null 
+                            && masterClass != null 
+                            && !element.equals("scope") ) {
+                        break;      // No scope follows the master class.
+                    }
+                    switch ( element ) {
+                        case "name":
+                            name = text(reader, name);
+                            break;
+                        case "version":
+                            version = text(reader, version);
+                            break;
+                        case "masterClass":
+                            masterClass = text(reader, masterClass);
+                            break;
+                        case "scope":
+                            scope = text(reader, scope);
+                            break;
+                        default:
+                            continue;   // Its end element is still to come.
+                    }
+                    depth--;    // The text was read up to the end element.
+                }
+            } finally {
+                reader.close();
+            }
+        } catch ( XMLStreamException ex ) {
+            throw new IOException("Cannot read " + source + ": " 
+                    + ex.getMessage(), ex);
+        }
+        
+        if ( name == null || version == null || masterClass == null ) {
+            throw new IOException(source + " must give the name, version and "
+                    + "masterClass of the module.");
+        }
+        try {
+            return new Manifest(name, version, masterClass, scope == null 
+                    ? ServiceRegistry.Scope.PROTOTYPE 
+                    : ServiceRegistry.Scope.valueOf(
+                            scope.toUpperCase(Locale.ROOT)));
+        } catch ( IllegalArgumentException ex ) {
+            throw new IOException(source + " gives an unknown scope: " + scope,
+                    ex);
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    /**
+     * Reads the text of the current element, unless an earlier element of the
+     * same name was already read, as only the first one counts. Either way,
+     * the reader is left on the element's end.
+     */
+    private static String text(XMLStreamReader reader, String found) 
+            throws XMLStreamException {
+        String text = reader.getElementText().trim();
+        return found != null ? found : text;
+    }
+
+    private static void validate(byte[] content, String source) 
+            throws IOException {
+        try {
+            getSchema().newValidator().validate(new StreamSource(
+                    new ByteArrayInputStream(content)));
+        } catch ( SAXException ex ) {
+            throw new IOException(source + " is not a valid manifest: " 
+                    + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Compiles the manifest schema the first time it is needed. A schema is
+     * thread-safe once compiled, so all manifests share it.
+     */
+    private static Schema getSchema() throws IOException {
+        Schema compiled = schema;
+        if ( compiled == null ) {
+            synchronized ( ManifestParser.class ) {
+                compiled = schema;
+                if ( compiled == null ) {
+                    URL xsd = ManifestParser.class.getResource("manifest.xsd");
+                    if ( xsd == null ) {
+                        throw new IOException("manifest.xsd is missing.");
+                    }
+                    try {
+                        compiled = SchemaFactory.newInstance(
+                                XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                                .newSchema(xsd);
+                    } catch ( SAXException ex ) {
+                        throw new IOException("Cannot compile manifest.xsd: "
+                                + ex.getMessage(), ex);
+                    }
+                    log.config("Validating module manifests against {}.", 
+                            xsd);
+                    schema = compiled;
+                }
+            }
+        }
+        return compiled;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Manifest">
+    /**
+     * What a module manifest says about its module.
+     */
+    static final class Manifest {
+        final String name;
+        final String version;
+        final String masterClass;
+        final ServiceRegistry.Scope scope;
+
+        Manifest(String name, String version, String masterClass, 
+                ServiceRegistry.Scope scope) {
+            this.name = name;
+            this.version = version;
+            this.masterClass = masterClass;
+            this.scope = scope;
+        }
+    }
+    //</editor-fold>
+}
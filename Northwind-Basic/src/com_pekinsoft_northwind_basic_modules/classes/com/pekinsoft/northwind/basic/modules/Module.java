@@ -17,24 +17,34 @@
 package com.pekinsoft.northwind.basic.modules;
 
 import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import org.w3c.dom.Document;
 
 /**
  * Class representing an additional Northwind Traders module.
+ * <p>
+ * Only the manifest of the module is read when it is loaded. The classes of
+ * the module are not loaded until an instance of one of them is first asked
+ * for, so a module that is never used costs no more than reading its manifest.
+ * </p>
  *
  * @author Jiří Kovalský &lt;jiri dot kovalsky at centrum dot cz&gt;
  */
 public class Module {
 
+    /**
+     * Logger for this class, whose level can be set for the modules package
+     */
+    private static final Logger log = Application.log.getLogger(Module.class);
+
     /**
      * Identifier of the Northwind Traders module
      */
@@ -46,77 +56,269 @@ public class Module {
     private final String version;
 
     /**
-     * Array of additional classes this module provides
+     * The *.jar file the module was loaded from
+     */
+    private final File file;
+
+    /**
+     * Fully qualified name of the master class of the module
+     */
+    private final String masterClassName;
+
+    /**
+     * Canonical names of the interfaces the master class implements, read
+     * from its class file without loading it
+     */
+    private final String[] interfaces;
+
+    /**
+     * Whether one instance of the master class is shared, or a new one is
+     * created whenever asked for
+     */
+    private final ServiceRegistry.Scope scope;
+
+    /**
+     * Array of additional classes this module provides, or null until they
+     * are first needed. Empty if they could not be loaded.
      */
-    private final Class[] classes;
+    private Class[] classes;
 
     /**
-     * Private constructor of the module.
+     * Constructor of the module, used when loading it from its *.jar file or
+     * from the {@link ModuleIndex}.
      *
      * @param name Module identifier
      * @param version Module specification version e.g. 1.2
-     * @param classes Classes provided by this module
+     * @param file The *.jar file the module is loaded from
+     * @param masterClassName Name of the master class of the module
+     * @param interfaces Interfaces implemented by the master class
+     * @param scope Scope of the instances of the master class
      */
-    private Module(String name, String version, Class[] classes) {
+    Module(String name, String version, File file, String masterClassName,
+            String[] interfaces, ServiceRegistry.Scope scope) {
         this.name = name;
         this.version = version;
-        this.classes = classes;
+        this.file = file;
+        this.masterClassName = masterClassName;
+        this.interfaces = interfaces;
+        this.scope = scope;
     }
 
     /**
-     * Loads module from given *.jar file identifier.
+     * Loads module from given *.jar file identifier. Only the manifest is
+     * read; the classes of the module are loaded when they are first needed.
+     * This method may be called for several files at once, from different
+     * threads.
      *
      * @param file Handler of *.jar file to load module from
-     * @return Loaded module or null in case of I/O or class loader errors.
+     * @return Loaded module or null in case of I/O or parser errors.
      */
     public static Module loadModule(File file) {
-        try {
-            ZipFile jarFile = new ZipFile(file);
-            ZipEntry manifest = jarFile.getEntry("manifest.xml");
-            InputStream reader = jarFile.getInputStream(manifest);
-            DocumentBuilderFactory xmlReaderFactory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder documentBuilder = xmlReaderFactory.newDocumentBuilder();
-            Document xmlDocument = documentBuilder.parse(reader);
-
-            String name = xmlDocument.getElementsByTagName("name").item(0).getTextContent();
-            String version = xmlDocument.getElementsByTagName("version").item(0).getTextContent();
-            String masterClassName = xmlDocument.getElementsByTagName("masterClass").item(0).getTextContent();
-
-            URLClassLoader urlClassLoader = new URLClassLoader(new URL[]{file.toURI().toURL()});
-            Class<?> masterClass = urlClassLoader.loadClass(masterClassName);
-            Class[] classes = new Class[]{masterClass};
-            System.out.println(name + " [" + version + "] module loaded.");
-            return new Module(name, version, classes);
+        try (ZipFile jarFile = new ZipFile(file)) {
+            ZipEntry manifestEntry = jarFile.getEntry("manifest.xml");
+            if (manifestEntry == null) {
+                throw new IOException("No manifest.xml in " + file.getName());
+            }
+            ManifestParser.Manifest manifest;
+            try (InputStream reader = jarFile.getInputStream(manifestEntry)) {
+                manifest = ManifestParser.parse(reader, file.getName() + "!/manifest.xml");
+            }
+
+            String name = manifest.name;
+            String version = manifest.version;
+            String masterClassName = manifest.masterClass;
+            String[] interfaces = readInterfaces(jarFile, masterClassName);
+
+            log.config("{} [{}] module found.", name, version);
+            return new Module(name, version, file, masterClassName, 
+                    interfaces, manifest.scope);
         } catch (Exception ex) {
-            Application.log.error(ex, "Cannot open custom Northwind module: " + file.getAbsolutePath());
+            log.error(ex, "Cannot open custom Northwind module: " + file.getAbsolutePath());
             return null;
         }
     }
 
     /**
-     * Returns instance of module class implementing given interface.
+     * Returns identifier of the module, as given in its manifest.
+     *
+     * @return Module identifier
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns version of the module, as given in its manifest.
+     *
+     * @return Module specification version e.g. 1.2
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the *.jar file the module was loaded from.
+     *
+     * @return Handler of the module *.jar file
+     */
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns name of the master class of the module.
+     *
+     * @return Fully qualified name of the master class
+     */
+    String getMasterClassName() {
+        return masterClassName;
+    }
+
+    /**
+     * Returns canonical names of the interfaces the master class implements.
+     *
+     * @return Interfaces of the master class; must not be modified
+     */
+    String[] getInterfaces() {
+        return interfaces;
+    }
+
+    /**
+     * Returns scope of the instances of the master class, as given in the
+     * manifest.
+     *
+     * @return Scope of the master class instances
+     */
+    public ServiceRegistry.Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * Tells whether the module provides a class implementing given interface.
+     * The classes of the module are not loaded to find out.
+     *
+     * @param interfaceName Name of interface to search module classes for
+     * @return true if the master class implements specified interface
+     */
+    public boolean provides(String interfaceName) {
+        for (String provided : interfaces) {
+            if (provided.equals(interfaceName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns instance of module class implementing given interface. The
+     * classes of the module are loaded by the first call. Instances are
+     * created, or shared, by the {@link ServiceRegistry}, according to the
+     * scope of the module.
      *
      * @param interfaceName Name of interface to search module classes for
      * @return Instance of module class implementing specified interface
      */
     public Object getInstanceOf(String interfaceName) {
-        for (Class clazz : classes) {
-            Class[] interfaces = clazz.getInterfaces();
-            for (Class classInterface : interfaces) {
-                if (classInterface.getCanonicalName().equals(interfaceName)) {
-                    Constructor<?> constructor;
-                    try {
-                        constructor = clazz.getConstructor();
-                        Object instance = constructor.newInstance();
-                        return instance;
-                    } catch (Exception ex) {
-                        Application.log.error(ex, "Cannot instantiate Northwind module class: " + clazz.getCanonicalName());
-                        return null;
-                    }
+        return ServiceRegistry.getDefault().getInstance(this, interfaceName);
+    }
+
+    /**
+     * Returns the master class of the module, loading it the first time.
+     *
+     * @return The master class or null in case of class loader errors.
+     */
+    Class<?> getMasterClass() {
+        Class[] loaded = getClasses();
+        return loaded.length == 0 ? null : loaded[0];
+    }
+
+    /**
+     * Loads the classes of the module, the first time it is called.
+     *
+     * @return Classes provided by this module, which is empty in case of class
+     *         loader errors.
+     */
+    private synchronized Class[] getClasses() {
+        if (classes == null) {
+            try {
+                URLClassLoader urlClassLoader = new URLClassLoader(new URL[]{file.toURI().toURL()});
+                Class<?> masterClass = urlClassLoader.loadClass(masterClassName);
+                classes = new Class[]{masterClass};
+                log.config("{} [{}] module loaded.", name, version);
+            } catch (Exception ex) {
+                log.error(ex, "Cannot load custom Northwind module: " + file.getAbsolutePath());
+                classes = new Class[0];
+            }
+        }
+        return classes;
+    }
+    
+    /**
+     * Reads the interfaces a class implements straight from its class file, so
+     * that they are known without loading the class. Only the constant pool and
+     * the interfaces table are read.
+     *
+     * @param jarFile The *.jar file containing the class
+     * @param className Fully qualified name of the class
+     * @return Canonical names of the interfaces the class implements
+     * @throws IOException in case the class is missing or its file is damaged
+     */
+    private static String[] readInterfaces(ZipFile jarFile, String className)
+            throws IOException {
+        ZipEntry entry = jarFile.getEntry(className.replace('.', '/') + ".class");
+        if (entry == null) {
+            throw new IOException("Master class not found: " + className);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                jarFile.getInputStream(entry)))) {
+            if (in.readInt() != 0xCAFEBABE) {
+                throw new IOException("Not a class file: " + entry.getName());
+            }
+            byte[] skipped = new byte[8];
+            in.readFully(skipped, 0, 4);            // Minor and major version
+
+            // Only the UTF-8 and class constants are kept; the sizes of the
+            //+ others are known from their tags, so they are skipped.
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            int[] classNames = new int[count];
+            for (int index = 1; index < count; index++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1:                         // Utf8
+                        utf8[index] = in.readUTF();
+                        break;
+                    case 7:                         // Class
+                        classNames[index] = in.readUnsignedShort();
+                        break;
+                    case 8: case 16: case 19: case 20:
+                        in.readFully(skipped, 0, 2);
+                        break;
+                    case 15:                        // MethodHandle
+                        in.readFully(skipped, 0, 3);
+                        break;
+                    case 3: case 4: case 9: case 10: case 11: case 12: 
+                    case 17: case 18:
+                        in.readFully(skipped, 0, 4);
+                        break;
+                    case 5: case 6:                 // Long and Double
+                        in.readFully(skipped, 0, 8);
+                        index++;
+                        break;
+                    default:
+                        throw new IOException("Unknown constant pool tag " 
+                                + tag + " in " + entry.getName());
                 }
             }
+            in.readFully(skipped, 0, 6);            // Access, this and super
+
+            String[] names = new String[in.readUnsignedShort()];
+            for (int index = 0; index < names.length; index++) {
+                names[index] = utf8[classNames[in.readUnsignedShort()]]
+                        .replace('/', '.').replace('$', '.');
+            }
+            return names;
         }
-        return null;
     }
     
     /**
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ModuleIndex.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 11:05:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.basic.modules;
+
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compact, binary record of what the manifests of the installed modules
+ * said, kept in the top-level folder so that unchanged modules can be
+ * registered at startup without opening their jars.
+ * <p>
+ * Each entry is keyed by the path of its jar, with the size, the time it was
+ * last modified and a SHA-256 hash of its content. A jar whose size and time
+ * are unchanged is taken from the index as it is. A jar whose size or time 
+ * has changed is hashed, and is only read again if its content has changed
+ * too; this way a module that was merely copied or touched is not read 
+ * again.</p>
+ * <p>
+ * An index is read once, looked up by several threads at once while the
+ * modules are loaded, and then written back holding only the jars that are
+ * still installed.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ModuleIndex {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final Logger log = Application.log.getLogger(
+            ModuleIndex.class);
+    
+    private static final int MAGIC = 0x4E574D49;        // "NWMI"
+    private static final int FORMAT = 2;
+    private static final int HASH_LENGTH = 32;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final File file;
+    
+    // The entries read from the file, and those of the modules loaded now,
+    //+ which are all that is written back.
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    private volatile boolean changed;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private ModuleIndex(File file, Map<String, Entry> previous) {
+        this.file = file;
+        this.previous = previous;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Static Methods">
+    /**
+     * Reads the index from the given file. An index that is missing, was
+     * written in another format, or is damaged is treated as empty, so every
+     * module is read from its jar and the index is written again.
+     *
+     * @param file the file the index is kept in.
+     * @return the index.
+     */
+    static ModuleIndex read(File file) {
+        Map<String, Entry> entries = new HashMap<>();
+        if ( file.isFile() ) {
+            try ( DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new FileInputStream(file))) ) {
+                if ( in.readInt() == MAGIC && in.readInt() == FORMAT ) {
+                    int count = in.readInt();
+                    for ( int idx = 0; idx < count; idx++ ) {
+                        Entry entry = Entry.read(in);
+                        entries.put(entry.path, entry);
+                    }
+                } else {
+                    log.config("Ignoring module index of another format: {}",
+                            file);
+                }
+            } catch ( IOException ex ) {
+                log.warning("Ignoring damaged module index {}: {}", file, 
+                        ex.getMessage());
+                entries.clear();
+            }
+        }
+        return new ModuleIndex(file, entries);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Finds the module kept in the index for the given jar, without opening
+     * the jar if it is unchanged. May be called by several threads at once.
+     *
+     * @param jar the module jar.
+     * @return the module, or {@code null} if the jar is not in the index, or
+     *         its content has changed since.
+     */
+    Module find(File jar) {
+        Entry entry = previous.get(jar.getAbsolutePath());
+        if ( entry == null ) {
+            return null;
+        }
+        
+        long size = jar.length();
+        long modified = jar.lastModified();
+        if ( entry.size != size || entry.modified != modified ) {
+            byte[] hash = hash(jar);
+            if ( hash == null || !Arrays.equals(hash, entry.hash) ) {
+                return null;
+            }
+            entry = new Entry(entry.path, size, modified, hash, entry.name,
+                    entry.version, entry.masterClass, entry.interfaces, 
+                    entry.scope);
+            changed = true;
+        }
+        
+        current.put(entry.path, entry);
+        return new Module(entry.name, entry.version, jar, entry.masterClass,
+                entry.interfaces, entry.scope);
+    }
+
+    /**
+     * Adds a module that was read from its jar to the index. May be called by
+     * several threads at once.
+     *
+     * @param module the module read from its jar.
+     */
+    void put(Module module) {
+        File jar = module.getFile();
+        long size = jar.length();
+        long modified = jar.lastModified();
+        byte[] hash = hash(jar);
+        if ( hash != null ) {
+            current.put(jar.getAbsolutePath(), new Entry(
+                    jar.getAbsolutePath(), size, modified, hash, 
+                    module.getName(), module.getVersion(), 
+                    module.getMasterClassName(), module.getInterfaces(),
+                    module.getScope()));
+            changed = true;
+        }
+    }
+
+    /**
+     * Writes the index back to its file if any module was added, changed or
+     * removed since it was read. The file is replaced in one step, so it is
+     * never left half-written.
+     */
+    void write() {
+        if ( !changed && current.keySet().equals(previous.keySet()) ) {
+            return;
+        }
+        
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            try ( DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(temp))) ) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeInt(current.size());
+                for ( Entry entry : current.values() ) {
+                    entry.write(out);
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), 
+                    StandardCopyOption.REPLACE_EXISTING, 
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch ( IOException ex ) {
+            log.warning("Cannot write module index {}: {}", file, 
+                    ex.getMessage());
+            temp.delete();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods">
+    /**
+     * Works out the SHA-256 hash of the content of the given file.
+     *
+     * @return the hash, or {@code null} if the file cannot be read.
+     */
+    private static byte[] hash(File jar) {
+        try ( InputStream in = new FileInputStream(jar) ) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ( (read = in.read(buffer)) > 0 ) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch ( IOException | NoSuchAlgorithmException ex ) {
+            log.warning("Cannot hash module {}: {}", jar, ex.getMessage());
+            return null;
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Entry">
+    /**
+     * What the index keeps for one module jar.
+     */
+    private static final class Entry {
+        final String path;
+        final long size;
+        final long modified;
+        final byte[] hash;
+        final String name;
+        final String version;
+        final String masterClass;
+        final String[] interfaces;
+        final ServiceRegistry.Scope scope;
+
+        Entry(String path, long size, long modified, byte[] hash, String name,
+                String version, String masterClass, String[] interfaces,
+                ServiceRegistry.Scope scope) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+            this.name = name;
+            this.version = version;
+            this.masterClass = masterClass;
+            this.interfaces = interfaces;
+            this.scope = scope;
+        }
+
+        static Entry read(DataInputStream in) throws IOException {
+            String path = in.readUTF();
+            long size = in.readLong();
+            long modified = in.readLong();
+            byte[] hash = new byte[HASH_LENGTH];
+            in.readFully(hash);
+            String name = in.readUTF();
+            String version = in.readUTF();
+            String masterClass = in.readUTF();
+            String[] interfaces = new String[in.readUnsignedShort()];
+            for ( int idx = 0; idx < interfaces.length; idx++ ) {
+                interfaces[idx] = in.readUTF();
+            }
+            ServiceRegistry.Scope scope;
+            try {
+                scope = ServiceRegistry.Scope.valueOf(in.readUTF());
+            } catch ( IllegalArgumentException ex ) {
+                throw new IOException("Unknown scope in module index.", ex);
+            }
+            return new Entry(path, size, modified, hash, name, version, 
+                    masterClass, interfaces, scope);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeUTF(path);
+            out.writeLong(size);
+            out.writeLong(modified);
+            out.write(hash);
+            out.writeUTF(name);
+            out.writeUTF(version);
+            out.writeUTF(masterClass);
+            out.writeShort(interfaces.length);
+            for ( String provided : interfaces ) {
+                out.writeUTF(provided);
+            }
+            out.writeUTF(scope.name());
+        }
+    }
+    //</editor-fold>
+}
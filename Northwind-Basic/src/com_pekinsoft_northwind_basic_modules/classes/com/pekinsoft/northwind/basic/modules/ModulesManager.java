@@ -18,8 +18,12 @@ package com.pekinsoft.northwind.basic.modules;
 
 import com.pekinsoft.northwind.basic.Application;
 import java.io.File;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Singleton for managing repository of additional Northwind Traders modules
@@ -34,16 +38,16 @@ public class ModulesManager {
     private static ModulesManager manager;
 
     /**
-     * Array with all custom Northwind Traders modules
+     * All custom Northwind Traders modules, or null until they are loaded
      */
-    private ArrayList<Module> modules = new ArrayList<Module>();
+    private volatile List<Module> modules;
 
     /**
      * Returns the only available instance of this modules manager
      *
      * @return Default instance of the Northwind Traders modules manager
      */
-    public static ModulesManager getDefault() {
+    public static synchronized ModulesManager getDefault() {
         if (manager == null) {
             manager = new ModulesManager();
         }
@@ -52,25 +56,73 @@ public class ModulesManager {
 
     /**
      * Loads all custom *.jar modules from default Northwind Traders directory e.g. /home/cesilko/.northwind/modules
+     * <p>
+     * The manifests of the modules are read in parallel, and the classes of
+     * each module are not loaded until they are first used, so this takes
+     * about as long for many modules as for one. Modules whose *.jar has not
+     * changed since the last run are taken from the {@link ModuleIndex} kept in
+     * the top-level directory, without opening the *.jar at all. Only the first
+     * call does any work; later calls return at once.
+     * </p>
      */
     public void loadModules() {
-        File[] modulesDir = new File(Application.TOP_LEVEL_DIR + Application.FILE_SEPARATOR + "modules").listFiles();
-        for (File file : modulesDir) {
-            if (file.isFile() & file.getName().endsWith(".jar")) {
-                Module module = Module.loadModule(file);
-                if (module != null) {
-                    modules.add(module);
+        if (modules != null) {
+            return;
+        }
+        synchronized (this) {
+            if (modules == null) {
+                File[] modulesDir = new File(Application.TOP_LEVEL_DIR + Application.FILE_SEPARATOR + "modules").listFiles();
+                if (modulesDir == null) {
+                    ServiceRegistry.getDefault().register(Collections.emptyList());
+                    modules = Collections.emptyList();
+                    return;
                 }
+                // Sorted, so the menus are in the same order on every run.
+                Arrays.sort(modulesDir);
+                ModuleIndex index = ModuleIndex.read(new File(Application.TOP_LEVEL_DIR + "modules.idx"));
+                List<Module> loaded = Collections.unmodifiableList(Arrays.stream(modulesDir)
+                        .parallel()
+                        .filter(file -> file.isFile() && file.getName().endsWith(".jar"))
+                        .map(file -> loadModule(index, file))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+                index.write();
+
+                // Registered before they are published, so the registry is
+                //+ ready as soon as another thread sees the modules.
+                ServiceRegistry.getDefault().register(loaded);
+                modules = loaded;
+            }
+        }
+    }
+
+    /**
+     * Takes a module from the index, or loads it from its *.jar file and adds
+     * it to the index.
+     *
+     * @param index Index of the modules found on the last run
+     * @param file Handler of *.jar file to load module from
+     * @return Loaded module or null in case of I/O or parser errors.
+     */
+    private static Module loadModule(ModuleIndex index, File file) {
+        Module module = index.find(file);
+        if (module == null) {
+            module = Module.loadModule(file);
+            if (module != null) {
+                index.put(module);
             }
         }
+        return module;
     }
 
     /**
-     * Returns iterator with all loaded Northwind Traders custom modules.
+     * Returns iterator with all loaded Northwind Traders custom modules. The
+     * modules are loaded first, if that has not been done yet.
      *
      * @return Iterator with all custom Northwind Traders modules
      */
     public Iterator<Module> getModules() {
+        loadModules();
         return modules.iterator();
     }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ServiceRegistry.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 11:55:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.basic.modules;
+
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the modules that provide a given interface, and creates the instances
+ * of their master classes.
+ * <p>
+ * The interfaces each master class implements are known from the module 
+ * index or the class file, so the registry maps every interface to the 
+ * modules providing it as the modules are loaded, without loading any of 
+ * their classes. A module's class is loaded, and the `MethodHandle` for its
+ * public no-argument constructor looked up, the first time an instance is
+ * asked for. From then on, a `singleton` module hands back the one instance 
+ * it created, and a `prototype` module creates a new instance through the 
+ * handle each time.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class ServiceRegistry {
+    //<editor-fold defaultstate="collapsed" desc="Public Enums">
+    /**
+     * How many instances of a module's master class there are, as given by
+     * the `scope` element of its manifest.
+     */
+    public enum Scope {
+        /** One instance, created when first asked for, is always returned. */
+        SINGLETON,
+        /** A new instance is created every time one is asked for. */
+        PROTOTYPE
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final Logger log = Application.log.getLogger(
+            ServiceRegistry.class);
+    
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(
+            void.class);
+    private static final MethodType FACTORY = MethodType.methodType(
+            Object.class);
+    
+    private static final ServiceRegistry registry = new ServiceRegistry();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    // Both replaced as a whole when modules are registered, so lookups never
+    //+ need a lock.
+    private volatile Map<String, List<Provider>> byInterface 
+            = Collections.emptyMap();
+    private volatile Map<Module, Provider> byModule = Collections.emptyMap();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private ServiceRegistry() {
+        // Only the default registry.
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Static Methods">
+    /**
+     * Returns the registry of the modules loaded by the 
+     * {@link ModulesManager}.
+     *
+     * @return the default registry.
+     */
+    public static ServiceRegistry getDefault() {
+        return registry;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Methods">
+    /**
+     * Returns the providers of the given interface, in the order the modules
+     * were loaded. The modules are loaded first, if that has not been done 
+     * yet.
+     *
+     * @param service the interface.
+     * @return the providers of the interface, which may be empty; the list
+     *         cannot be modified.
+     */
+    public List<Provider> getProviders(Class<?> service) {
+        return getProviders(service.getCanonicalName());
+    }
+
+    /**
+     * Returns the providers of the named interface, in the order the modules
+     * were loaded. The modules are loaded first, if that has not been done 
+     * yet.
+     *
+     * @param interfaceName the canonical name of the interface.
+     * @return the providers of the interface, which may be empty; the list
+     *         cannot be modified.
+     */
+    public List<Provider> getProviders(String interfaceName) {
+        ModulesManager.getDefault().loadModules();
+        List<Provider> providers = byInterface.get(interfaceName);
+        return providers == null ? Collections.emptyList() : providers;
+    }
+
+    /**
+     * Returns an instance of the master class of the given module, if it
+     * implements the named interface.
+     *
+     * @param module the module.
+     * @param interfaceName the canonical name of the interface.
+     * @return the instance, or {@code null} if the module does not provide
+     *         the interface, was not registered, or its class cannot be 
+     *         created.
+     */
+    public Object getInstance(Module module, String interfaceName) {
+        Provider provider = byModule.get(module);
+        if ( provider == null || !module.provides(interfaceName) ) {
+            return null;
+        }
+        return provider.getInstance();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Registers the given modules, replacing any registered before. Called by
+     * the {@link ModulesManager} once the modules are loaded.
+     *
+     * @param modules the loaded modules, in order.
+     */
+    void register(List<Module> modules) {
+        Map<String, List<Provider>> interfaces = new HashMap<>();
+        Map<Module, Provider> providers = new IdentityHashMap<>();
+        for ( Module module : modules ) {
+            Provider provider = new Provider(module);
+            providers.put(module, provider);
+            for ( String provided : module.getInterfaces() ) {
+                interfaces.computeIfAbsent(provided, key -> new ArrayList<>())
+                        .add(provider);
+            }
+        }
+        for ( Map.Entry<String, List<Provider>> entry 
+                : interfaces.entrySet() ) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        
+        byModule = providers;
+        byInterface = interfaces;
+        log.config("Registered {} modules providing {} interfaces.", 
+                providers.size(), interfaces.size());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Provider">
+    /**
+     * A module, as a provider of the interfaces its master class implements.
+     */
+    public static final class Provider {
+        //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+        private final Module module;
+        
+        // Both set the first time an instance is asked for. Once the class
+        //+ has failed to load or construct, `failed` keeps it from being
+        //+ tried, and reported, again.
+        private MethodHandle constructor;
+        private boolean failed;
+        private volatile Object singleton;
+        //</editor-fold>
+
+        //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+        private Provider(Module module) {
+            this.module = module;
+        }
+        //</editor-fold>
+
+        //<editor-fold defaultstate="collapsed" desc="Public Methods">
+        /**
+         * Returns the module that provides the interface.
+         *
+         * @return the module.
+         */
+        public Module getModule() {
+            return module;
+        }
+
+        /**
+         * Returns an instance of the module's master class as the given
+         * interface: the shared one for a `singleton` module, or a new one
+         * for a `prototype` module.
+         *
+         * @param <T> the interface type.
+         * @param service the interface, which the master class implements.
+         * @return the instance, or {@code null} if the class cannot be 
+         *         loaded or created, or does not implement the interface.
+         */
+        public <T> T getInstance(Class<T> service) {
+            Object instance = getInstance();
+            if ( instance != null && !service.isInstance(instance) ) {
+                log.warning("{} does not implement {}.", 
+                        module.getMasterClassName(), service.getName());
+                return null;
+            }
+            return service.cast(instance);
+        }
+        //</editor-fold>
+
+        //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+        private Object getInstance() {
+            if ( module.getScope() == Scope.PROTOTYPE ) {
+                return create();
+            }
+            
+            Object instance = singleton;
+            if ( instance == null ) {
+                synchronized ( this ) {
+                    instance = singleton;
+                    if ( instance == null ) {
+                        instance = create();
+                        singleton = instance;
+                    }
+                }
+            }
+            return instance;
+        }
+
+        private Object create() {
+            MethodHandle handle = getConstructor();
+            if ( handle == null ) {
+                return null;
+            }
+            try {
+                return (Object) handle.invokeExact();
+            } catch ( Error ex ) {
+                throw ex;
+            } catch ( Throwable ex ) {
+                log.error(ex instanceof Exception ? (Exception) ex 
+                        : new InvocationTargetException(ex), 
+                        "Cannot instantiate Northwind module class: " 
+                        + module.getMasterClassName());
+                return null;
+            }
+        }
+
+        /**
+         * Loads the master class and looks up its constructor, the first time
+         * it is called.
+         */
+        private synchronized MethodHandle getConstructor() {
+            if ( constructor == null && !failed ) {
+                Class<?> master = module.getMasterClass();
+                if ( master == null ) {
+                    failed = true;
+                    return null;
+                }
+                try {
+                    constructor = MethodHandles.publicLookup()
+                            .findConstructor(master, CONSTRUCTOR)
+                            .asType(FACTORY);
+                } catch ( NoSuchMethodException | IllegalAccessException ex ) {
+                    log.error(ex, "Cannot instantiate Northwind module class: "
+                            + module.getMasterClassName());
+                    failed = true;
+                }
+            }
+            return constructor;
+        }
+        //</editor-fold>
+    }
+    //</editor-fold>
+}
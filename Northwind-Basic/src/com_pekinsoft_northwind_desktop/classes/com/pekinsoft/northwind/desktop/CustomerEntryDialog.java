@@ -20,7 +20,7 @@
  *  Class      :   CustomerEntryDialog.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 14, 2020 @ 7:38:56 PM
- *  Modified   :   Mar 14, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -29,25 +29,31 @@
  *  WHEN          BY                  REASON
  *  ------------  ------------------- ------------------------------------------
  *  Mar 14, 2020  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Logged through a `Logger` of its own, so
+ *                                    its level can be set for the desktop
+ *                                    package.
  * *****************************************************************************
  */
 package com.pekinsoft.northwind.desktop;
 
 import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
 
 /**
  *
  * @author Sean Carrick
  */
 public class CustomerEntryDialog extends javax.swing.JInternalFrame {
+    private static final Logger log = Application.log.getLogger(
+            CustomerEntryDialog.class);
 
     /**
      * Creates new form CustomerEntryDialog
      */
     public CustomerEntryDialog() {
-        Application.log.enter(CustomerEntryDialog.class.getName(), "Constructor");
+        log.enter(CustomerEntryDialog.class.getName(), "Constructor");
         initComponents();
-        Application.log.exit(CustomerEntryDialog.class.getName(), "Constructor");
+        log.exit(CustomerEntryDialog.class.getName(), "Constructor");
     }
 
     /**
@@ -286,13 +292,13 @@ public class CustomerEntryDialog extends javax.swing.JInternalFrame {
     }// </editor-fold>//GEN-END:initComponents
 
     private void CancelButton_Clicked(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_CancelButton_Clicked
-        Application.log.enter(CustomerEntryDialog.class.getName(), "CancelBut"
+        log.enter(CustomerEntryDialog.class.getName(), "CancelBut"
                 + "ton_Clicked", evt);
         
-        Application.log.debug("Closing the dialog...");
-        Application.log.info("Cancel button clicked, so changes have not been "
+        log.debug("Closing the dialog...");
+        log.info("Cancel button clicked, so changes have not been "
                 + "saved.");
-        Application.log.exit(CustomerEntryDialog.class.getName(), "CancelButton"
+        log.exit(CustomerEntryDialog.class.getName(), "CancelButton"
                 + "_Clicked");
         this.dispose();
     }//GEN-LAST:event_CancelButton_Clicked
@@ -20,7 +20,7 @@
  *  Class      :   LoadEntryDialog.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 16, 2020 @ 10:59:13 AM
- *  Modified   :   Mar 16, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -29,17 +29,46 @@
  *  WHEN          BY                  REASON
  *  ------------  ------------------- ------------------------------------------
  *  Mar 16, 2020  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Logged through a `Logger` of its own, so
+ *                                    its level can be set for the desktop
+ *                                    package.
+ *  Oct 17, 2026  Sean Carrick        Posted the load's revenue to the General
+ *                                    Ledger when it is saved.
+ *  Oct 17, 2026  Sean Carrick        Added the saved load to the `LoadStore`
+ *                                    for the per mile reports.
+ *  Oct 17, 2026  Sean Carrick        Stored the load before posting it, and
+ *                                    kept a retry from storing it twice.
  * *****************************************************************************
  */
 package com.pekinsoft.northwind.desktop;
 
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.accounting.ledger.Account;
+import com.pekinsoft.northwind.accounting.ledger.GeneralLedger;
+import com.pekinsoft.northwind.accounting.ledger.Posting;
+import com.pekinsoft.northwind.accounting.loads.Load;
+import com.pekinsoft.northwind.accounting.loads.LoadStore;
 import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.Logger;
+import com.pekinsoft.northwind.utils.MessageBox;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import javax.swing.SwingWorker;
 
 /**
  *
  * @author Sean Carrick
  */
 public class LoadEntryDialog extends javax.swing.JInternalFrame {
+    private static final Logger log = Application.log.getLogger(
+            LoadEntryDialog.class);
+    
+    // The load already in the `LoadStore` when posting it failed, which a 
+    //+ retry posts without storing it again. Only used on the EDT.
+    private Load storedLoad;
 
     /**
      * Creates new form LoadEntryDialog
@@ -572,31 +601,180 @@ public class LoadEntryDialog extends javax.swing.JInternalFrame {
     }// </editor-fold>//GEN-END:initComponents
 
     private void CancelButton_Clicked(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_CancelButton_Clicked
-        Application.log.enter(LoadEntryDialog.class.getName(), "CancelButton"
+        log.enter(LoadEntryDialog.class.getName(), "CancelButton"
                 + "_Click", evt);
-        Application.log.debug("Closing the \"New Load Entry\" dialog WITHOUT "
+        log.debug("Closing the \"New Load Entry\" dialog WITHOUT "
                 + "saving the new load information...");
-        Application.log.exit(LoadEntryDialog.class.getName(), "CancelButton"
+        log.exit(LoadEntryDialog.class.getName(), "CancelButton"
                 + "_Clicked");
         this.dispose();
     }//GEN-LAST:event_CancelButton_Clicked
 
     private void SaveButton_Clicked(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_SaveButton_Clicked
-        // TODO add your handling code here:
+        log.enter(LoadEntryDialog.class.getName(), "SaveButton_Clicked", 
+                evt);
+        Money pay;
+        long miles;
+        try {
+            txtTruckPay.commitEdit();
+            txtMiles.commitEdit();
+            pay = Money.of(((Number) txtTruckPay.getValue()).doubleValue());
+            miles = txtMiles.getValue() == null ? 0L 
+                    : ((Number) txtMiles.getValue()).longValue();
+        } catch ( ParseException ex ) {
+            MessageBox.showWarning("Please enter the truck pay and the miles "
+                    + "of the load.", "Invalid Load");
+            log.exit(LoadEntryDialog.class.getName(), "SaveButton_Clicked");
+            return;
+        }
+        if ( pay.signum() <= 0 ) {
+            MessageBox.showWarning("The truck pay of the load must be more "
+                    + "than zero.", "Invalid Load");
+            log.exit(LoadEntryDialog.class.getName(), "SaveButton_Clicked");
+            return;
+        }
+        
+        // The load is earned when it is delivered.
+        LocalDate delivered = toLocalDate(txtEarlyDateDel.getValue());
+        if ( delivered == null ) {
+            delivered = LocalDate.now();
+        }
+        
+        // Posting may open the ledger for the first time, and always waits
+        //+ for the journal to reach the disk, so it is done in the background.
+        //+ The dialog stays open, but cannot be saved or cancelled, until the
+        //+ load is posted.
+        new LoadPoster(storedLoad != null ? storedLoad 
+                : readLoad(pay, miles, delivered)).execute();
+        btnSave.setEnabled(false);
+        btnCancel.setEnabled(false);
+        setCursor(java.awt.Cursor.getPredefinedCursor(
+                java.awt.Cursor.WAIT_CURSOR));
+        
+        log.exit(LoadEntryDialog.class.getName(), "SaveButton_Clicked");
     }//GEN-LAST:event_SaveButton_Clicked
 
+    /**
+     * Adds a load to the load store and then posts it to the General Ledger,
+     * off the event dispatch thread, then closes the dialog, or reports the
+     * failure and lets the user try again.
+     * <p>
+     * The revenue is posted last, so a failure never leaves it in the ledger
+     * without the load. A load that was stored before the posting failed is
+     * kept in `storedLoad`, and the retry only posts it.</p>
+     */
+    private class LoadPoster extends SwingWorker<Long, Void> {
+        private final Load load;
+        private final boolean stored;
+        private volatile boolean storedNow;
+        
+        LoadPoster(Load load) {
+            this.load = load;
+            this.stored = load == storedLoad;
+        }
+        
+        @Override
+        protected Long doInBackground() throws Exception {
+            if ( !stored ) {
+                LoadStore.getDefault().add(load);
+                storedNow = true;
+            }
+            Money pay = load.getTruckPay();
+            long miles = load.getMiles();
+            return GeneralLedger.getDefault().post(
+                    load.getDeliveryDate(), 
+                    Posting.debit(Account.ACCOUNTS_RECEIVABLE, pay, miles),
+                    Posting.credit(Account.FREIGHT_REVENUE, pay, miles));
+        }
+        
+        @Override
+        protected void done() {
+            setCursor(java.awt.Cursor.getDefaultCursor());
+            if ( storedNow ) {
+                storedLoad = load;
+            }
+            try {
+                log.debug("Posted the load as transaction {}.", get());
+                dispose();
+            } catch ( InterruptedException | ExecutionException ex ) {
+                Throwable cause = ex instanceof ExecutionException 
+                        ? ex.getCause() : ex;
+                Exception error = cause instanceof Exception 
+                        ? (Exception) cause : ex;
+                // Once stored, saving it again only posts it.
+                String title = storedLoad != null ? "Load Not Posted" 
+                        : "Load Not Saved";
+                log.error(error, title + ": saving the load.");
+                MessageBox.showError(error, title);
+                btnSave.setEnabled(true);
+                btnCancel.setEnabled(true);
+            }
+        }
+    }
+
+    private Load readLoad(Money pay, long miles, LocalDate delivered) {
+        Load load = new Load();
+        load.setTrip(txtTrip.getText());
+        load.setOrder(txtOrder.getText());
+        // An empty masked field still holds its placeholders, such as
+        //+ "(   )    -    ", which must not become an agent of its own.
+        load.setAgent(txtAgentPhone.getText().matches(".*\\d.*") 
+                ? txtAgentPhone.getText() : null);
+        load.setCommodity(textOrNull(txtCommodity.getText()));
+        // The load's customer is the customer of its first stop. The dialog
+        //+ has no truck field yet, so the truck is left unset, and reports
+        //+ grouped by truck find nothing until one is added.
+        if ( StopsTable.getRowCount() > 0 ) {
+            Object customer = StopsTable.getModel().getValueAt(0, 1);
+            load.setCustomer(customer == null ? null 
+                    : textOrNull(customer.toString()));
+        }
+        load.setBeginOdometer(intValue(txtBeginOdo.getValue()));
+        load.setEndOdometer(intValue(txtEndOdo.getValue()));
+        load.setMiles((int) miles);
+        load.setWeight(intValue(txtWeight.getValue()));
+        load.setPickupDate(toLocalDate(txtEarlyDatePU.getValue()));
+        load.setDeliveryDate(delivered);
+        load.setTruckPay(pay);
+        if ( txtPerMile.getValue() instanceof Number ) {
+            load.setRatePerMile(((Number) txtPerMile.getValue())
+                    .doubleValue());
+        }
+        load.setFlags((chkTarp.isSelected() ? Load.TARP : 0)
+                | (chkHazMat.isSelected() ? Load.HAZMAT : 0)
+                | (chkTWIC.isSelected() ? Load.TWIC : 0)
+                | (chkLTL.isSelected() ? Load.LTL : 0));
+        return load;
+    }
+    
+    private static String textOrNull(String text) {
+        return text == null || text.trim().isEmpty() ? null : text.trim();
+    }
+    
+    private static int intValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+    
+    private static LocalDate toLocalDate(Object value) {
+        if ( !(value instanceof Date) ) {
+            return null;
+        }
+        return ((Date) value).toInstant().atZone(ZoneId.systemDefault())
+                .toLocalDate();
+    }
+    
     private void AddStop_Clicked(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_AddStop_Clicked
-        Application.log.enter(StopEntryDialog.class.getName(), "AddStop_Clicked",
+        log.enter(StopEntryDialog.class.getName(), "AddStop_Clicked",
                 evt);
-        Application.log.debug("Creating an instance of the StopEntryDialog...");
+        log.debug("Creating an instance of the StopEntryDialog...");
         StopEntryDialog dlg = new StopEntryDialog(null, true);
-        Application.log.debug("Packing and showing the StopEntryDialog...");
+        log.debug("Packing and showing the StopEntryDialog...");
         dlg.pack();
         dlg.setVisible(true);
-        Application.log.debug("Need to implement getting the data from the "
+        log.debug("Need to implement getting the data from the "
                 + "StopEntryDialog and into the table on this dialog.");
         
-        Application.log.exit(StopEntryDialog.class.getName(), "AddStop_Clicked");
+        log.exit(StopEntryDialog.class.getName(), "AddStop_Clicked");
     }//GEN-LAST:event_AddStop_Clicked
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
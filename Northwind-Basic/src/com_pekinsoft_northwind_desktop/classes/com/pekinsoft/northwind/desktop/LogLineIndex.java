@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogLineIndex.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 2:05:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.desktop;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The lines of a text log file, read straight from a memory-mapped view of the
+ * file. Only the offset at which each line starts is kept in memory; the text
+ * of a line is decoded when it is asked for. The offsets are found a step at a
+ * time by {@link #index(int)}, so that a viewer can show the first lines of a
+ * large file at once and the rest as they are found.
+ * <p>
+ * The live log, the one the application is still writing, is never mapped.
+ * Windows will not let the log be cut short or renamed while another mapping
+ * of it is open, so the log would not roll while the viewer is open. It is
+ * read through the file instead, a block at a time.</p>
+ * <p>
+ * The log file is written through a memory-mapped window of its own, which
+ * leaves the file padded with zeros past the last entry. The first zero byte
+ * is therefore taken as the end of the data.</p>
+ * <p>
+ * All of the methods are safe to call from more than one thread.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class LogLineIndex implements AutoCloseable {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    // The file is mapped in chunks, as a single mapping cannot be larger than
+    //+ two gigabytes.
+    private static final int CHUNK_SHIFT = 28;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    // Longer lines are cut off when shown; the log wraps its own lines at
+    //+ eighty (80) columns, so only a damaged file gets anywhere near this.
+    private static final int MAX_LINE_BYTES = 64 * 1024;
+    
+    // How much of the live log is read at a time.
+    private static final int BLOCK_SIZE = 64 * 1024;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Path path;
+    private final boolean live;
+    private FileChannel channel;
+    private Object fileKey;             // To notice that the log has rolled.
+    private MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+    private long size;                  // The mapped length of the file.
+    
+    // The part of the live log that was read last.
+    private final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+    private long blockStart;
+    
+    private long[] starts = new long[4096];
+    private int lines;                  // Complete lines found so far.
+    private long indexed;               // Where the search for lines resumes.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Opens the given file. No lines are found until {@link #index(int)} is
+     * called.
+     *
+     * @param path the log file.
+     * @param live {@code true} if the application is still writing the file,
+     *             in which case it is read instead of mapped.
+     * @throws IOException in the event the file cannot be opened.
+     */
+    LogLineIndex(Path path, boolean live) throws IOException {
+        this.path = Objects.requireNonNull(path);
+        this.live = live;
+        open();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Catches up with a file that is still being written to. The new part of
+     * the file is mapped, so that the next calls to {@link #index(int)} find
+     * the lines in it.
+     *
+     * @return {@code true} if the file was replaced or cut short since the
+     *         last call, such as when the log rolls, in which case every line
+     *         found so far is forgotten; {@code false} otherwise.
+     * @throws IOException in the event the file cannot be read.
+     */
+    synchronized boolean refresh() throws IOException {
+        Object key = Files.readAttributes(path, BasicFileAttributes.class)
+                .fileKey();
+        boolean replaced = (key != null && !key.equals(fileKey))
+                || channel.size() < indexed;
+        if ( replaced ) {
+            channel.close();
+            open();
+            lines = 0;
+            indexed = 0;
+        }
+        map();
+        return replaced;
+    }
+
+    /**
+     * Finds up to the given number of further lines.
+     *
+     * @param maxLines the most lines to find before returning.
+     * @return the number of lines found by this call; zero (0) once the end of
+     *         the data that has been mapped is reached.
+     * @throws IOException in the event the live log cannot be read.
+     */
+    synchronized int index(int maxLines) throws IOException {
+        int found = 0;
+        long pos = indexed;
+        long lineStart = lines == 0 ? 0 : starts[lines];
+        while ( pos < size && found < maxLines ) {
+            byte b = byteAt(pos);
+            if ( b == 0 ) {
+                break;
+            }
+            pos++;
+            if ( b == '\n' ) {
+                addLine(lineStart, pos);
+                lineStart = pos;
+                found++;
+            }
+        }
+        indexed = pos;
+        return found;
+    }
+
+    /**
+     * @return the number of complete lines found so far. A last line that is
+     *         not yet ended by a line feed is not counted until it is.
+     */
+    synchronized int getLineCount() {
+        return lines;
+    }
+
+    /**
+     * Decodes one line of the file.
+     *
+     * @param line the line number, starting at zero (0).
+     * @return the text of the line, without its line ending.
+     */
+    synchronized String getLine(int line) {
+        if ( line < 0 || line >= lines ) {
+            return "";
+        }
+        long from = starts[line];
+        long to = starts[line + 1] - 1;     // Leave off the line feed.
+        try {
+            if ( to > from && byteAt(to - 1) == '\r' ) {
+                to--;
+            }
+
+            byte[] bytes = new byte[(int) Math.min(to - from, MAX_LINE_BYTES)];
+            read(from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch ( IOException ex ) {
+            // The live log rolled since the last refresh, which starts over.
+            return "";
+        }
+    }
+
+    /**
+     * @return the log file.
+     */
+    Path getPath() {
+        return path;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        chunks = new MappedByteBuffer[0];
+        size = 0;
+        channel.close();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileKey = Files.readAttributes(path, BasicFileAttributes.class)
+                .fileKey();
+        chunks = new MappedByteBuffer[0];
+        size = 0;
+        block.clear().limit(0);
+    }
+
+    /**
+     * Maps whatever the file has grown by since the last call. Only the last,
+     * partly filled chunk and any new ones are mapped again.
+     */
+    private void map() throws IOException {
+        long newSize = channel.size();
+        if ( newSize == size ) {
+            return;
+        }
+        if ( live ) {
+            size = newSize;
+            block.clear().limit(0);     // The last block may have grown.
+            return;
+        }
+        
+        int count = (int) ((newSize + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        MappedByteBuffer[] mapped = Arrays.copyOf(chunks, count);
+        int first = size == 0 ? 0 : (int) ((size - 1) >>> CHUNK_SHIFT);
+        for ( int idx = first; idx < count; idx++ ) {
+            long start = (long) idx << CHUNK_SHIFT;
+            mapped[idx] = channel.map(FileChannel.MapMode.READ_ONLY, start, 
+                    Math.min(CHUNK_SIZE, newSize - start));
+        }
+        chunks = mapped;
+        size = newSize;
+    }
+
+    private byte byteAt(long pos) throws IOException {
+        if ( pos >= size ) {
+            return 0;
+        }
+        if ( !live ) {
+            return chunks[(int) (pos >>> CHUNK_SHIFT)]
+                    .get((int) (pos & CHUNK_MASK));
+        }
+        
+        if ( pos < blockStart || pos >= blockStart + block.limit() ) {
+            block.clear();
+            fill(block, pos);
+            block.flip();
+            blockStart = pos;
+            if ( !block.hasRemaining() ) {
+                return 0;       // Cut short since the last refresh.
+            }
+        }
+        return block.get((int) (pos - blockStart));
+    }
+
+    /**
+     * Copies the bytes of the file starting at the given offset.
+     */
+    private void read(long from, byte[] bytes) throws IOException {
+        if ( live ) {
+            fill(ByteBuffer.wrap(bytes), from);
+            return;
+        }
+        
+        int chunk = (int) (from >>> CHUNK_SHIFT);
+        int offset = (int) (from & CHUNK_MASK);
+        if ( offset + bytes.length <= chunks[chunk].limit() ) {
+            // A view, so that the shared chunk's position is left alone.
+            ByteBuffer view = chunks[chunk].duplicate();
+            view.position(offset);
+            view.get(bytes);
+        } else {
+            // The line crosses from one chunk into the next.
+            for ( int idx = 0; idx < bytes.length; idx++ ) {
+                bytes[idx] = byteAt(from + idx);
+            }
+        }
+    }
+
+    /**
+     * Reads the live log into the given buffer, until it is full or the end
+     * of the file is reached.
+     */
+    private void fill(ByteBuffer target, long from) throws IOException {
+        while ( target.hasRemaining()
+                && channel.read(target, from + target.position()) > 0 ) {
+            // Keep reading until the buffer is full.
+        }
+    }
+
+    /**
+     * Records a complete line. `starts[lines]` always holds the start of the
+     * line after the last complete one, which is also where the last one ends.
+     */
+    private void addLine(long start, long next) {
+        if ( lines + 2 > starts.length ) {
+            starts = Arrays.copyOf(starts, starts.length * 2);
+        }
+        starts[lines] = start;
+        starts[++lines] = next;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,493 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogViewerFrame.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 2:40:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.desktop;
+
+import com.pekinsoft.northwind.basic.Application;
+import com.pekinsoft.northwind.utils.LogDecoder;
+import com.pekinsoft.northwind.utils.Logger;
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Font;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.swing.AbstractListModel;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JLabel;
+import javax.swing.JList;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.JToolBar;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.InternalFrameAdapter;
+import javax.swing.event.InternalFrameEvent;
+
+/**
+ * Shows the application log inside the main window, and keeps showing the new
+ * entries as they are written.
+ * <p>
+ * The log is never read into memory. It is read in place by a 
+ * {@link LogLineIndex}, which finds the lines a step at a time on a background
+ * thread, and the list only decodes the lines that are on the screen. A log of
+ * several hundred megabytes therefore opens at once, and the lines further
+ * down fill in while the user reads the first ones.</p>
+ * <p>
+ * The search box takes a regular expression and searches as it is typed, also
+ * on a background thread, starting at the selected line. A new keystroke
+ * cancels the search that is still running for the last one.</p>
+ * <p>
+ * A binary log is decoded into a temporary file first, and is shown as it was
+ * when the viewer was opened.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class LogViewerFrame extends javax.swing.JInternalFrame {
+    private static final Logger log = Application.log.getLogger(
+            LogViewerFrame.class);
+    
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final long serialVersionUID = 1L;
+    
+    // The lines found per step, between two updates of the list.
+    private static final int INDEX_STEP = 64 * 1024;
+    // How often a search checks whether it has been cancelled.
+    private static final int SEARCH_STEP = 4096;
+    // How often the log is checked for new entries, and how long typing must
+    //+ pause before the search starts, in milliseconds.
+    private static final int TAIL_DELAY = 1000;
+    private static final int SEARCH_DELAY = 250;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final File file;
+    private volatile LogLineIndex index;
+    private volatile Path decoded;      // The decoded copy of a binary log.
+    private volatile boolean binary;
+    
+    private final LineModel model = new LineModel();
+    private final JList<String> lines = new JList<>(model);
+    private final JTextField searchField = new JTextField(30);
+    private final JCheckBox matchCase = new JCheckBox("Match Case");
+    private final JCheckBox follow = new JCheckBox("Follow", true);
+    private final JLabel status = new JLabel(" ");
+    
+    private final Timer tailTimer = new Timer(TAIL_DELAY, evt -> tail());
+    private final Timer searchTimer = new Timer(SEARCH_DELAY, 
+            evt -> search(Math.max(0, lines.getSelectedIndex()), true));
+    private Indexer indexer;
+    private Searcher searcher;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates a viewer for the given log file. The file is opened, and its
+     * lines found, once the viewer is shown.
+     * 
+     * @param path the log file, which may be a text or a binary log.
+     */
+    public LogViewerFrame(String path) {
+        super("Application Log - " + new File(path).getName(), true, true, 
+                true, true);
+        this.file = new File(path);
+        initComponents();
+        
+        addInternalFrameListener(new InternalFrameAdapter() {
+            @Override
+            public void internalFrameOpened(InternalFrameEvent evt) {
+                startIndexer();
+            }
+            @Override
+            public void internalFrameClosed(InternalFrameEvent evt) {
+                release();
+            }
+        });
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void initComponents() {
+        lines.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        lines.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        // With a prototype, the list sizes every row from this one value, 
+        //+ instead of decoding every line of the log to measure it.
+        lines.setPrototypeCellValue("W".repeat(100));
+        
+        searchField.setToolTipText("A regular expression to search for. The "
+                + "search starts as you type.");
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent evt) {
+                searchTimer.restart();
+            }
+            @Override
+            public void removeUpdate(DocumentEvent evt) {
+                searchTimer.restart();
+            }
+            @Override
+            public void changedUpdate(DocumentEvent evt) {
+            }
+        });
+        searchField.addActionListener(evt -> findNext(true));
+        searchTimer.setRepeats(false);
+        matchCase.addActionListener(evt -> searchTimer.restart());
+        
+        JButton previous = new JButton("Previous");
+        previous.addActionListener(evt -> findNext(false));
+        JButton next = new JButton("Next");
+        next.addActionListener(evt -> findNext(true));
+        follow.setToolTipText("Keep the newest entries in view.");
+        follow.addActionListener(evt -> {
+            if ( follow.isSelected() ) {
+                scrollToEnd();
+            }
+        });
+        
+        JToolBar toolBar = new JToolBar();
+        toolBar.setFloatable(false);
+        toolBar.add(new JLabel("Find: "));
+        toolBar.add(searchField);
+        toolBar.add(previous);
+        toolBar.add(next);
+        toolBar.add(matchCase);
+        toolBar.addSeparator();
+        toolBar.add(follow);
+        
+        getContentPane().setLayout(new BorderLayout());
+        getContentPane().add(toolBar, BorderLayout.NORTH);
+        getContentPane().add(new JScrollPane(lines), BorderLayout.CENTER);
+        getContentPane().add(status, BorderLayout.SOUTH);
+        setSize(800, 500);
+    }
+    
+    private void startIndexer() {
+        if ( indexer == null || indexer.isDone() ) {
+            indexer = new Indexer();
+            indexer.execute();
+        }
+    }
+    
+    private void tail() {
+        if ( !binary ) {
+            startIndexer();
+        }
+    }
+    
+    private void scrollToEnd() {
+        int count = model.getSize();
+        if ( count > 0 ) {
+            lines.ensureIndexIsVisible(count - 1);
+        }
+    }
+    
+    private void findNext(boolean forward) {
+        int selected = lines.getSelectedIndex();
+        search(selected < 0 ? 0 : selected + (forward ? 1 : -1), forward);
+    }
+    
+    /**
+     * Starts a search at the given line, in place of any search that is still
+     * running.
+     */
+    private void search(int from, boolean forward) {
+        if ( searcher != null ) {
+            searcher.cancel(false);
+            searcher = null;
+        }
+        String text = searchField.getText();
+        searchField.setForeground(Color.BLACK);
+        if ( text.isEmpty() || index == null ) {
+            status.setText(" ");
+            return;
+        }
+        
+        Pattern pattern;
+        try {
+            pattern = Pattern.compile(text, matchCase.isSelected() 
+                    ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        } catch ( PatternSyntaxException ex ) {
+            searchField.setForeground(Color.RED);
+            status.setText("Invalid expression: " + ex.getDescription());
+            return;
+        }
+        
+        // Following the tail would pull the view away from the match.
+        follow.setSelected(false);
+        status.setText("Searching...");
+        searcher = new Searcher(pattern, from, forward, model.getSize());
+        searcher.execute();
+    }
+    
+    private void release() {
+        tailTimer.stop();
+        searchTimer.stop();
+        if ( searcher != null ) {
+            searcher.cancel(false);
+        }
+        if ( indexer != null ) {
+            indexer.cancel(false);
+        }
+        try {
+            if ( index != null ) {
+                index.close();
+            }
+            if ( decoded != null ) {
+                Files.deleteIfExists(decoded);
+            }
+        } catch ( IOException ex ) {
+            log.warning("Could not release the log viewer's files: {}", 
+                    ex.getMessage());
+        }
+    }
+    
+    /**
+     * Renders a binary log into a temporary text file.
+     */
+    private static Path decode(File file) throws IOException {
+        Path out = Files.createTempFile("northwind-", ".log");
+        out.toFile().deleteOnExit();
+        try ( InputStream in = new BufferedInputStream(
+                    new FileInputStream(file));
+                Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(out.toFile()), 
+                    StandardCharsets.UTF_8)) ) {
+            LogDecoder.decode(in, writer);
+        }
+        return out;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Line Model">
+    /**
+     * Hands the list the lines that it is about to paint, and nothing more.
+     * Its size only changes on the event dispatch thread, as lines are found.
+     */
+    private class LineModel extends AbstractListModel<String> {
+        private static final long serialVersionUID = 1L;
+        
+        private int size;
+        
+        @Override
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String getElementAt(int line) {
+            LogLineIndex lineIndex = index;
+            return lineIndex == null ? "" : lineIndex.getLine(line);
+        }
+        
+        void setSize(int newSize) {
+            int old = size;
+            if ( newSize < old ) {
+                size = 0;
+                fireIntervalRemoved(this, 0, old - 1);
+                old = 0;
+            }
+            if ( newSize > old ) {
+                size = newSize;
+                fireIntervalAdded(this, old, newSize - 1);
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Background Workers">
+    /**
+     * Opens the log the first time it runs, catches up with whatever has been
+     * written since the last run, and finds the new lines a step at a time.
+     */
+    private class Indexer extends SwingWorker<Void, Integer> {
+        @Override
+        protected Void doInBackground() throws Exception {
+            LogLineIndex lineIndex = index;
+            if ( lineIndex == null ) {
+                Path source = file.toPath();
+                binary = LogDecoder.isBinaryLog(file);
+                if ( binary ) {
+                    publish(-1);
+                    decoded = decode(file);
+                    source = decoded;
+                }
+                // Only the decoded copy, which nothing else writes, is
+                //+ mapped; a mapping of the live log would keep it from
+                //+ rolling on Windows.
+                lineIndex = new LogLineIndex(source, !binary);
+                index = lineIndex;
+            }
+            
+            if ( lineIndex.refresh() ) {
+                publish(0);     // The log rolled, so start over.
+            }
+            while ( !isCancelled() && lineIndex.index(INDEX_STEP) > 0 ) {
+                publish(lineIndex.getLineCount());
+            }
+            return null;
+        }
+
+        @Override
+        protected void process(List<Integer> counts) {
+            int count = counts.get(counts.size() - 1);
+            if ( count < 0 ) {
+                status.setText("Decoding the binary log...");
+                follow.setSelected(false);
+                follow.setEnabled(false);
+                return;
+            }
+            model.setSize(count);
+            status.setText(String.format("%,d lines", count));
+            if ( follow.isSelected() ) {
+                scrollToEnd();
+            }
+        }
+
+        @Override
+        protected void done() {
+            if ( isCancelled() ) {
+                return;
+            }
+            try {
+                get();
+                model.setSize(index.getLineCount());
+                if ( searcher == null ) {
+                    status.setText(String.format("%,d lines", 
+                            model.getSize()));
+                }
+                if ( follow.isSelected() ) {
+                    scrollToEnd();
+                }
+                if ( !binary && !tailTimer.isRunning() ) {
+                    tailTimer.start();
+                }
+            } catch ( InterruptedException ex ) {
+                Thread.currentThread().interrupt();
+            } catch ( ExecutionException ex ) {
+                tailTimer.stop();
+                status.setText("Could not read " + file + ": " 
+                        + ex.getCause().getMessage());
+                log.warning("The log viewer could not read {}: {}", file, 
+                        ex.getCause());
+            }
+        }
+    }
+    
+    /**
+     * Looks for the next line that matches, going through the whole log once
+     * from the starting line and wrapping around at the end.
+     */
+    private class Searcher extends SwingWorker<Integer, Void> {
+        private final Pattern pattern;
+        private final int from;
+        private final boolean forward;
+        private final int count;
+        
+        Searcher(Pattern pattern, int from, boolean forward, int count) {
+            this.pattern = pattern;
+            this.from = from;
+            this.forward = forward;
+            this.count = count;
+        }
+
+        @Override
+        protected Integer doInBackground() {
+            LogLineIndex lineIndex = index;
+            Matcher matcher = pattern.matcher("");
+            int step = forward ? 1 : -1;
+            int line = Math.floorMod(from, Math.max(1, count));
+            
+            for ( int seen = 0; seen < count; seen++ ) {
+                if ( seen % SEARCH_STEP == 0 && isCancelled() ) {
+                    return -1;
+                }
+                if ( matcher.reset(lineIndex.getLine(line)).find() ) {
+                    return line;
+                }
+                line += step;
+                if ( line == count ) {
+                    line = 0;
+                } else if ( line < 0 ) {
+                    line = count - 1;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        protected void done() {
+            if ( isCancelled() || searcher != this ) {
+                return;
+            }
+            searcher = null;
+            try {
+                int line = get();
+                if ( line < 0 ) {
+                    status.setText("Not found: " + pattern.pattern());
+                } else {
+                    lines.setSelectedIndex(line);
+                    lines.ensureIndexIsVisible(line);
+                    status.setText(String.format("Line %,d of %,d", line + 1,
+                            model.getSize()));
+                }
+            } catch ( InterruptedException ex ) {
+                Thread.currentThread().interrupt();
+            } catch ( ExecutionException ex ) {
+                status.setText("Search failed: " + ex.getCause().getMessage());
+            }
+        }
+    }
+    //</editor-fold>
+}
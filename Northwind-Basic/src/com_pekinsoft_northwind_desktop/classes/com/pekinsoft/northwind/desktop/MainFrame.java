@@ -20,7 +20,7 @@
  *  Class      :   MainFrame.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 11, 2020 @ 5:35:06 PM
- *  Modified   :   Mar 11, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -32,45 +32,84 @@
  *  Mar 14, 2020  Sean Carrick        Added the New menu, under the File menu,
  *                                    as well as the Customer Entry menu item,
  *                                    under the New menu.
+ *  Oct 17, 2026  Sean Carrick        Logged through a `Logger` of its own, so
+ *                                    its level can be set for the desktop
+ *                                    package.
+ *  Oct 17, 2026  Sean Carrick        Added the Logging Level menu, under the
+ *                                    File menu, to change the level of the
+ *                                    running application's log.
+ *  Oct 17, 2026  Sean Carrick        Added the Application Log menu item, under
+ *                                    the File menu, which opens the log viewer.
+ *  Oct 17, 2026  Sean Carrick        Showed the General Ledger totals in the
+ *                                    status bar, updated as loads are posted.
+ *  Oct 17, 2026  Sean Carrick        Deferred loading each module until its
+ *                                    menu is first opened.
+ *  Oct 17, 2026  Sean Carrick        Found the module menus through the
+ *                                    `ServiceRegistry`.
  * *****************************************************************************
  */
 package com.pekinsoft.northwind.desktop;
 
+import com.pekinsoft.northwind.accounting.Money;
+import com.pekinsoft.northwind.accounting.ledger.GeneralLedger;
+import com.pekinsoft.northwind.accounting.ledger.LedgerTotals;
 import com.pekinsoft.northwind.basic.Application;
 import com.pekinsoft.northwind.basic.MenuProvider;
 import com.pekinsoft.northwind.basic.modules.ModulesManager;
 import com.pekinsoft.northwind.basic.modules.Module;
+import com.pekinsoft.northwind.basic.modules.ServiceRegistry;
+import com.pekinsoft.northwind.utils.Logger;
 import com.pekinsoft.northwind.utils.Utils;
 import com.pekinsoft.northwind.utils.enums.SysExits;
+import com.pekinsoft.northwind.utils.exceptions.InvalidLoggingLevelException;
 import java.awt.Toolkit;
+import java.io.IOException;
+import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 
 /**
  *
  * @author Sean Carrick
  */
 public class MainFrame extends javax.swing.JFrame {
+    private static final Logger log = Application.log.getLogger(
+            MainFrame.class);
+    
+    // Set while a refresh of the status bar totals is waiting on the event
+    //+ dispatch thread, so a burst of postings only refreshes it once.
+    private final AtomicBoolean totalsPending = new AtomicBoolean();
 
     /**
      * Creates new form MainFrame
      */
     public MainFrame() {
-        Application.log.enter(MainFrame.class.getCanonicalName(), "Constructor");
-        Application.log.debug("Initializing frame components...");
+        log.enter(MainFrame.class.getCanonicalName(), "Constructor");
+        log.debug("Initializing frame components...");
         initComponents();
         
-        // Application is being started. Let's load all additional modules bought by the user of the Northwind Traders software
-        Iterator<Module> modules = ModulesManager.getDefault().getModules();
-        
-        // Let's customize the main menu bar by loaded modules
-        while (modules.hasNext()) {
-            Module module = modules.next();
-            MenuProvider menuProvider = (MenuProvider) module.getInstanceOf("com.pekinsoft.northwind.basic.MenuProvider");
-            jMenuBar1.add(menuProvider.getMenu(this.MainDesktop));
+        // Application is being started. Let's customize the main menu bar by
+        //+ the additional modules bought by the user of the Northwind Traders
+        //+ software that provide a menu. Each module's classes are only loaded
+        //+ once its menu is opened.
+        for ( ServiceRegistry.Provider provider : ServiceRegistry.getDefault()
+                .getProviders(MenuProvider.class) ) {
+            jMenuBar1.add(createModuleMenu(provider));
         }
         
-        Application.log.debug("Setting the MainFrame icon to:\n\n\t"
+        log.debug("Adding the log menus to the File menu...");
+        int logMenus = FileMenu.getPopupMenu().getComponentIndex(jSeparator7);
+        FileMenu.insert(createLogViewerMenuItem(), logMenus);
+        FileMenu.insert(createLoggingLevelMenu(), logMenus + 1);
+        
+        log.debug("Showing the General Ledger totals in the status bar...");
+        watchLedgerTotals();
+        
+        log.debug("Setting the MainFrame icon to:\n\n\t"
                 + "/com/pekinsoft/northwind/desktop/graphics/x16/Northwind.png");
         this.setIconImage(Toolkit
                 .getDefaultToolkit()
@@ -81,7 +120,7 @@ public class MainFrame extends javax.swing.JFrame {
         this.setTitle(Application.TITLE + " " + Application.EDITION 
                 + " (Build " + Application.BUILD + ")");
         
-        Application.log.exit(MainFrame.class.getCanonicalName(), "Constructor");
+        log.exit(MainFrame.class.getCanonicalName(), "Constructor");
     }
 
     /**
@@ -275,13 +314,13 @@ public class MainFrame extends javax.swing.JFrame {
     }// </editor-fold>                        
 
     private void ExitMenuItemActionPerformed(java.awt.event.ActionEvent evt) {                                                                                        
-        Application.log.enter(MainFrame.class.getName(), "ExitMenuItemAction"
+        log.enter(MainFrame.class.getName(), "ExitMenuItemAction"
                 + "Performed", evt);
-        Application.log.debug("Setting the MainFrame to no longer being "
+        log.debug("Setting the MainFrame to no longer being "
                 + "visible...");
         this.setVisible(false);
-        Application.log.debug("Calling the Application.exit() method...");
-        Application.log.exit(MainFrame.class.getName(), "ExitMenuItemAction"
+        log.debug("Calling the Application.exit() method...");
+        log.exit(MainFrame.class.getName(), "ExitMenuItemAction"
                 + "Performed");
         Application.exit(SysExits.EX_OK);
     }                                                                                        
@@ -297,42 +336,235 @@ public class MainFrame extends javax.swing.JFrame {
     }                                                                                
 
     private void NewCustomerMenuItem_Clicked(java.awt.event.ActionEvent evt) {                                                                                          
-        Application.log.enter(MainFrame.class.getName(), "NewCustomerMenuItem"
+        log.enter(MainFrame.class.getName(), "NewCustomerMenuItem"
                 + "_Clicked", evt);
-        Application.log.debug("Creating an instance of the CustomerEntryDialog...");
+        log.debug("Creating an instance of the CustomerEntryDialog...");
         CustomerEntryDialog dlg = new CustomerEntryDialog();
-        Application.log.debug("Adding the new CustomerEntryDialog to the "
+        log.debug("Adding the new CustomerEntryDialog to the "
                 + "MainDesktop for display...");
         this.MainDesktop.add(dlg);
-        Application.log.debug("Packing and showing the CustomerEntryDialog...");
+        log.debug("Packing and showing the CustomerEntryDialog...");
         dlg.pack();
         dlg.setLocation(Utils.getCenterPoint(this.MainDesktop.getSize(), dlg.getSize()));
         dlg.setVisible(true);
-        Application.log.exit(MainFrame.class.getName(), "NewCustomerMenuItem"
+        log.exit(MainFrame.class.getName(), "NewCustomerMenuItem"
                 + "_Clicked");
     }                                                                                        
 
     private void NewLoadMenuItem_Clicked(java.awt.event.ActionEvent evt) {                                                                                  
-        Application.log.enter(MainFrame.class.getName(), "NewLoadMenuItem"
+        log.enter(MainFrame.class.getName(), "NewLoadMenuItem"
                 + "_Clicked", evt);
-        Application.log.debug("Creating an instance of the LoadEntryDialog...");
+        log.debug("Creating an instance of the LoadEntryDialog...");
         LoadEntryDialog dlg = new LoadEntryDialog();
-        Application.log.debug("Adding the new LoadEntryDialog to the "
+        log.debug("Adding the new LoadEntryDialog to the "
                 + "MainDesktop for display...");
         this.MainDesktop.add(dlg);
-        Application.log.debug("Packing and showing the LoadEntryDialog...");
+        log.debug("Packing and showing the LoadEntryDialog...");
         dlg.pack();
         dlg.setLocation(Utils.getCenterPoint(this.MainDesktop.getSize(), dlg.getSize()));
         dlg.setVisible(true);
-        Application.log.exit(MainFrame.class.getName(), "NewLoadMenuItem_Clicked");
+        log.exit(MainFrame.class.getName(), "NewLoadMenuItem_Clicked");
     }                                                                                
 
+    /**
+     * Builds a menu, named for the module of the given provider, that stands
+     * in for the menu the module provides. The module is not loaded until the
+     * menu is first opened, at which point the items of the module's own menu
+     * are moved into it.
+     */
+    private javax.swing.JMenu createModuleMenu(
+            ServiceRegistry.Provider provider) {
+        Module module = provider.getModule();
+        javax.swing.JMenu menu = new javax.swing.JMenu(module.getName());
+        menu.addMenuListener(new javax.swing.event.MenuListener() {
+            public void menuSelected(javax.swing.event.MenuEvent evt) {
+                menu.removeMenuListener(this);
+                log.debug("Loading the {} module...", module);
+                MenuProvider menuProvider = provider.getInstance(
+                        MenuProvider.class);
+                if ( menuProvider == null ) {
+                    menu.setEnabled(false);
+                    return;
+                }
+                javax.swing.JMenu provided = menuProvider.getMenu(
+                        MainDesktop);
+                menu.setText(provided.getText());
+                menu.setMnemonic(provided.getMnemonic());
+                for ( java.awt.Component item : provided.getMenuComponents() ) {
+                    menu.add(item);
+                }
+            }
+            public void menuDeselected(javax.swing.event.MenuEvent evt) {
+            }
+            public void menuCanceled(javax.swing.event.MenuEvent evt) {
+            }
+        });
+        return menu;
+    }
+
+    /**
+     * Builds the Application Log menu item, which shows the log file in a
+     * {@link LogViewerFrame}.
+     */
+    private javax.swing.JMenuItem createLogViewerMenuItem() {
+        javax.swing.JMenuItem item = new javax.swing.JMenuItem(
+                "Application Log");
+        item.setMnemonic('A');
+        item.addActionListener(evt -> ApplicationLogMenuItem_Clicked(evt));
+        item.addMouseListener(new java.awt.event.MouseAdapter() {
+            public void mouseEntered(java.awt.event.MouseEvent evt) {
+                StatusLabel.setText("<html>Click this menu item to view the "
+                        + "application log, as it is being written.");
+            }
+            public void mouseExited(java.awt.event.MouseEvent evt) {
+                StatusLabel.setText("<html>Watch here for helpful tips...");
+            }
+        });
+        return item;
+    }
+    
+    private void ApplicationLogMenuItem_Clicked(java.awt.event.ActionEvent evt) {
+        log.enter(MainFrame.class.getName(), "ApplicationLogMenuItem"
+                + "_Clicked", evt);
+        log.debug("Creating an instance of the LogViewerFrame...");
+        LogViewerFrame viewer = new LogViewerFrame(Application.log.getPath());
+        log.debug("Adding the new LogViewerFrame to the MainDesktop for "
+                + "display...");
+        this.MainDesktop.add(viewer);
+        viewer.setLocation(Utils.getCenterPoint(this.MainDesktop.getSize(), 
+                viewer.getSize()));
+        viewer.setVisible(true);
+        log.exit(MainFrame.class.getName(), "ApplicationLogMenuItem"
+                + "_Clicked");
+    }
+
+    /**
+     * Builds the Logging Level menu, which changes the default level of the
+     * application log without a restart. Levels for single packages are set in
+     * the `logging.properties` file instead, which the application also picks
+     * up while it runs, so the menu refreshes its selection every time it is
+     * opened.
+     */
+    private javax.swing.JMenu createLoggingLevelMenu() {
+        javax.swing.JMenu menu = new javax.swing.JMenu("Logging Level");
+        menu.setMnemonic('L');
+        javax.swing.ButtonGroup group = new javax.swing.ButtonGroup();
+        String[] names = { "Debug", "Config", "Info", "Warning", "Error", 
+            "Critical", "Off" };
+        int[] levels = { Logger.DEBUG, Logger.CONFIG, Logger.INFO, Logger.WARN,
+            Logger.ERROR, Logger.CRITICAL, Logger.OFF };
+        javax.swing.JRadioButtonMenuItem[] items = 
+                new javax.swing.JRadioButtonMenuItem[levels.length];
+        
+        for ( int idx = 0; idx < levels.length; idx++ ) {
+            int level = levels[idx];
+            String name = names[idx];
+            items[idx] = new javax.swing.JRadioButtonMenuItem(names[idx]);
+            items[idx].addActionListener(evt -> setLoggingLevel(level, name));
+            items[idx].addMouseListener(new java.awt.event.MouseAdapter() {
+                public void mouseEntered(java.awt.event.MouseEvent evt) {
+                    StatusLabel.setText("<html>Click this menu item to log "
+                            + "<strong>" + name + "</strong> entries and above from now on.");
+                }
+                public void mouseExited(java.awt.event.MouseEvent evt) {
+                    StatusLabel.setText("<html>Watch here for helpful tips...");
+                }
+            });
+            group.add(items[idx]);
+            menu.add(items[idx]);
+        }
+        
+        menu.addMenuListener(new javax.swing.event.MenuListener() {
+            public void menuSelected(javax.swing.event.MenuEvent evt) {
+                int current = Application.log.getLevel();
+                for ( int idx = 0; idx < levels.length; idx++ ) {
+                    items[idx].setSelected(levels[idx] == current);
+                }
+            }
+            public void menuDeselected(javax.swing.event.MenuEvent evt) {}
+            public void menuCanceled(javax.swing.event.MenuEvent evt) {}
+        });
+        
+        return menu;
+    }
+    
+    /**
+     * Shows the totals of the General Ledger in the status bar, and keeps them
+     * up to date as transactions are posted. The ledger keeps the totals 
+     * itself, so refreshing them does not depend on how much has been posted.
+     */
+    private void watchLedgerTotals() {
+        // Opening the ledger replays its journal, which takes as long as the
+        //+ history is, so it is opened in the background and the totals are
+        //+ shown once it is ready.
+        new SwingWorker<GeneralLedger, Void>() {
+            @Override
+            protected GeneralLedger doInBackground() throws IOException {
+                return GeneralLedger.getDefault();
+            }
+            
+            @Override
+            protected void done() {
+                GeneralLedger ledger;
+                try {
+                    ledger = get();
+                } catch ( InterruptedException | ExecutionException ex ) {
+                    Throwable cause = ex instanceof ExecutionException 
+                            ? ex.getCause() : ex;
+                    log.error(cause instanceof Exception 
+                            ? (Exception) cause : ex, 
+                            "Opening the General Ledger for the status bar.");
+                    return;
+                }
+                
+                showTotals(ledger.getTotals());
+                ledger.addTotalsListener(totals -> {
+                    if ( !totalsPending.getAndSet(true) ) {
+                        SwingUtilities.invokeLater(() -> {
+                            totalsPending.set(false);
+                            showTotals(ledger.getTotals());
+                        });
+                    }
+                });
+            }
+        }.execute();
+    }
+    
+    private void showTotals(LedgerTotals totals) {
+        NumberFormat currency = NumberFormat.getCurrencyInstance();
+        TotalRevenueLabel.setText(format(currency, totals.getRevenue()));
+        RevenuePerMileLabel.setText(format(currency, 
+                totals.getRevenuePerMile()));
+        TotalExpensesLabel.setText(format(currency, totals.getExpenses()));
+        ExpensesPerMileLabel.setText(format(currency, 
+                totals.getExpensesPerMile()));
+        TotalProfitLabel.setText(format(currency, totals.getProfit()));
+        ProfitPerMileLabel.setText(format(currency, 
+                totals.getProfitPerMile()));
+    }
+    
+    private static String format(NumberFormat currency, Money amount) {
+        return currency.format(amount.toBigDecimal());
+    }
+    
+    private void setLoggingLevel(int level, String name) {
+        log.enter(MainFrame.class.getName(), "setLoggingLevel", level);
+        try {
+            Application.log.setLevel(level);
+            log.config("Logging level changed from the menu to " + name 
+                    + ".");
+        } catch ( InvalidLoggingLevelException ex ) {
+            log.handledError(ex, "Invalid Logging Level: " + level);
+        }
+        log.exit(MainFrame.class.getName(), "setLoggingLevel");
+    }
+
     /**
      * @param args the command line arguments
      */
     public static void main(String args[]) {
-        Application.log.enter(MainFrame.class.getCanonicalName(), "main");
-        Application.log.config("Setting the look and feel to the system default.");
+        log.enter(MainFrame.class.getCanonicalName(), "main");
+        log.config("Setting the look and feel to the system default.");
         /* Set the Nimbus look and feel */
         //<editor-fold defaultstate="collapsed" desc=" Look and feel setting code (optional) ">
         /* If Nimbus (introduced in Java SE 6) is not available, stay with the default look and feel.
@@ -347,21 +579,21 @@ public class MainFrame extends javax.swing.JFrame {
 //            }
             javax.swing.UIManager.setLookAndFeel(javax.swing.UIManager.getSystemLookAndFeelClassName());
         } catch (ClassNotFoundException ex) {
-            Application.log.error(ex, "Class Not Found");
+            log.error(ex, "Class Not Found");
         } catch (InstantiationException ex) {
-            Application.log.error(ex, "Instantiation Error");
+            log.error(ex, "Instantiation Error");
         } catch (IllegalAccessException ex) {
-            Application.log.error(ex, "Illegal Access");
+            log.error(ex, "Illegal Access");
         } catch (javax.swing.UnsupportedLookAndFeelException ex) {
-            Application.log.error(ex, "Unsupported Look and Feel");
+            log.error(ex, "Unsupported Look and Feel");
         }
         //</editor-fold>
 
         /* Create and display the form */
-        Application.log.config("Starting the event queue...");
+        log.config("Starting the event queue...");
         java.awt.EventQueue.invokeLater(new Runnable() {
             public void run() {
-                Application.log.debug(">>>>>Displaying the MainFrame...<<<<<");
+                log.debug(">>>>>Displaying the MainFrame...<<<<<");
                 MainFrame mainFrame = new MainFrame();
                 mainFrame.setLocationRelativeTo(null);
                 mainFrame.setVisible(true);
@@ -373,11 +605,11 @@ while (mods.hasNext() ) {
     String e = mods.next().toString();
     modules.add(e);
 }
-        Application.log.critical(new Exception("Testing modules listing..."), "com.pekinsoft.northwind.desktop", MainFrame.class.getName(), "main", Application.EDITION, Application.MAJOR + "." + Application.MINOR + "." + Application.REVISION, Application.BUILD, modules.toArray());
+        log.critical(new Exception("Testing modules listing..."), "com.pekinsoft.northwind.desktop", MainFrame.class.getName(), "main", Application.EDITION, Application.MAJOR + "." + Application.MINOR + "." + Application.REVISION, Application.BUILD, modules.toArray());
         
                     }
         });
-        Application.log.exit(MainFrame.class.getCanonicalName(), "main");
+        log.exit(MainFrame.class.getCanonicalName(), "main");
     }
 
     // Variables declaration - do not modify                                          
@@ -20,7 +20,7 @@
  *  Class      :   module-info.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 11, 2020 @ 5:33:46 PM
- *  Modified   :   Mar 11, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -29,6 +29,7 @@
  *  WHEN          BY                  REASON
  *  ------------  ------------------- ------------------------------------------
  *  Mar 11, 2020  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Required the accounting module.
  * *****************************************************************************
  */
 
@@ -37,6 +38,7 @@ module com_pekinsoft_northwind_desktop {
     requires java.logging;
     requires com_pekinsoft_northwind_basic;
     requires com_pekinsoft_northwind_basic_modules;
+    requires com_pekinsoft_northwind_accounting;
     
     exports com.pekinsoft.northwind.desktop;
 }
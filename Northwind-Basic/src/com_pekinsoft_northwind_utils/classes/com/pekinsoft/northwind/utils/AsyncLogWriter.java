@@ -0,0 +1,462 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   AsyncLogWriter.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 10:02:00 AM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Split the ring into stripes, chosen by
+ *                                    thread, so that logging threads on
+ *                                    different cores no longer compete for the
+ *                                    same claim counter.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import com.pekinsoft.northwind.utils.enums.OverflowPolicy;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The background half of an asynchronous `Logger`. Logging threads claim a
+ * slot in a fixed-size ring of preallocated {@link LogEvent}s, fill it in and
+ * publish it; a single writer thread drains the published slots in batches,
+ * hands them to the {@link LogSink} and flushes once per batch instead of once
+ * per entry.
+ * <p>
+ * The ring is lock-free for the logging threads: claiming a slot is a single
+ * compare-and-set on the claim counter, and publishing is a single volatile
+ * write of the slot's sequence number.</p>
+ * <p>
+ * There is one ring, or stripe, per core, and each thread always logs into
+ * the stripe picked by its thread ID. Threads running on different cores
+ * therefore rarely touch the same claim counter, and each thread's entries
+ * stay in the order it logged them. The writer merges the stripes by
+ * timestamp, so the log still reads in time order.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class AsyncLogWriter implements Runnable {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    // The most entries written between two flushes of the sink.
+    private static final int BATCH_SIZE = 512;
+    // How long the writer sleeps when it has nothing to do, and how long a
+    //+ blocked logging thread waits before looking for a free slot again.
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FULL_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    // The most stripes, and the fewest slots in each one.
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_SIZE = 1024;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final long[] next;      // Next slot to write in each stripe; only
+                                    //+ touched by the writer thread.
+
+    private final LogSink sink;
+    private final OverflowPolicy policy;
+    private final String spillPath;
+    private final Object spillLock = new Object();
+    private LogSink spill;          // Opened on first overflow, guarded by
+                                    //+ spillLock.
+    private final LogEvent spillEvent = new LogEvent();
+    private final LogEvent note = new LogEvent();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean idle;
+    private boolean reported;       // Only touched by the writer thread.
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates and starts the writer thread.
+     *
+     * @param sink      where the writer thread sends the entries.
+     * @param capacity  the number of slots in all of the stripes together.
+     *                  Each stripe is rounded up to a power of two, and to at
+     *                  least 1,024 slots.
+     * @param policy    what to do with an entry when the ring is full.
+     * @param spillPath the file used for entries that overflow the ring when
+     *                  the policy is {@link OverflowPolicy#SPILL}.
+     */
+    AsyncLogWriter(LogSink sink, int capacity, OverflowPolicy policy,
+            String spillPath) {
+        int count = Math.min(MAX_STRIPES, powerOfTwo(
+                Runtime.getRuntime().availableProcessors()));
+        int size = powerOfTwo(Math.max(MIN_STRIPE_SIZE, capacity / count));
+        this.stripes = new Stripe[count];
+        for ( int idx = 0; idx < count; idx++ ) {
+            stripes[idx] = new Stripe(size);
+        }
+        this.stripeMask = count - 1;
+        this.next = new long[count];
+        this.sink = sink;
+        this.policy = policy;
+        this.spillPath = spillPath;
+
+        this.thread = new Thread(this, "Northwind Log Writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Hands an entry to the writer thread. This is called by the logging
+     * threads and only blocks when the ring is full and the overflow policy
+     * requires it.
+     *
+     * @return {@code true} if the entry will be written; {@code false} if it
+     *         was dropped, or if the writer has already been closed.
+     */
+    boolean offer(long timestamp, int level, int kind, String sourceClass,
+            String sourceMethod, String message) {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() 
+                & stripeMask];
+        // Counted as in flight before `running` is checked, so the writer,
+        //+ which checks them the other way around, cannot stop between this
+        //+ thread's check and its claim, and lose the entry.
+        stripe.offering.incrementAndGet();
+        try {
+            return publish(stripe, timestamp, level, kind, sourceClass,
+                    sourceMethod, message);
+        } finally {
+            stripe.offering.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every entry offered before this call has been written to
+     * the sink and the sink has been flushed.
+     */
+    void flush() {
+        for ( Stripe stripe : stripes ) {
+            long target = stripe.claimed.get();
+            while ( stripe.flushed < target && thread.isAlive() ) {
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(this, FULL_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Stops accepting entries, waits for the writer thread to drain
+     * everything that is already in the ring and closes the sink. Calling
+     * this more than once has no further effect.
+     */
+    void close() {
+        if ( !running ) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch ( InterruptedException ex ) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            sink.close();
+            synchronized ( spillLock ) {
+                if ( spill != null ) {
+                    spill.close();
+                }
+            }
+        } catch ( IOException ex ) {
+            MessageBox.showError(ex, "I/O Error: Log Not Closed");
+        }
+    }
+
+    /**
+     * @return the number of `DEBUG` entries discarded because the ring was
+     *         full.
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the number of entries written to the spill file because the
+     *         ring was full.
+     */
+    long getSpilledCount() {
+        return spilled.get();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Writer Thread">
+    @Override
+    public void run() {
+        while ( true ) {
+            int written = drain();
+
+            if ( written > 0 ) {
+                flushSink();
+                markFlushed();
+                continue;
+            }
+
+            // `running` is read before the entries in flight, the other way
+            //+ around from `offer`, so an entry is either seen here or refused.
+            if ( !running && !isOffering() && isEmpty() ) {
+                break;
+            }
+
+            // Nothing to do: sleep until a logging thread wakes us, or until
+            //+ the idle timeout passes, whichever comes first.
+            idle = true;
+            if ( running && isEmpty() ) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+            idle = false;
+        }
+
+        long lost = dropped.get();
+        if ( lost > 0 ) {
+            note.set(System.currentTimeMillis(), Logger.WARN, LogEvent.MESSAGE,
+                    null, null, lost + " DEBUG entries were dropped because "
+                    + "the log writer could not keep up.");
+            write(note);
+        }
+        long over = spilled.get();
+        if ( over > 0 ) {
+            note.set(System.currentTimeMillis(), Logger.WARN, LogEvent.MESSAGE,
+                    null, null, over + " entries were written to " + spillPath
+                    + " because the log writer could not keep up.");
+            write(note);
+        }
+        flushSink();
+        markFlushed();
+    }
+
+    /**
+     * Writes up to one batch of published entries, taking the oldest entry at
+     * the head of any stripe each time.
+     *
+     * @return the number of entries written.
+     */
+    private int drain() {
+        int count = 0;
+
+        while ( count < BATCH_SIZE ) {
+            LogEvent oldest = null;
+            int from = -1;
+            for ( int idx = 0; idx < stripes.length; idx++ ) {
+                Stripe stripe = stripes[idx];
+                LogEvent event = stripe.ring[(int) next[idx] & stripe.mask];
+                // A slot that is claimed, but not yet filled in by its logging
+                //+ thread, is picked up on a later pass.
+                if ( event.sequence == next[idx] + 1 && ( oldest == null 
+                        || event.timestamp < oldest.timestamp ) ) {
+                    oldest = event;
+                    from = idx;
+                }
+            }
+            if ( oldest == null ) {
+                break;
+            }
+            write(oldest);
+            oldest.clear();
+            next[from]++;
+            count++;
+        }
+
+        // Frees the slots for the logging threads.
+        for ( int idx = 0; idx < stripes.length; idx++ ) {
+            stripes[idx].consumed = next[idx];
+        }
+        return count;
+    }
+
+    /**
+     * Lets {@link #flush()} know that everything written so far has been
+     * flushed out of the sink.
+     */
+    private void markFlushed() {
+        for ( int idx = 0; idx < stripes.length; idx++ ) {
+            stripes[idx].flushed = next[idx];
+        }
+    }
+
+    private boolean isOffering() {
+        for ( Stripe stripe : stripes ) {
+            if ( stripe.offering.get() != 0 ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEmpty() {
+        for ( Stripe stripe : stripes ) {
+            if ( stripe.claimed.get() != stripe.consumed ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void write(LogEvent event) {
+        try {
+            sink.append(event);
+        } catch ( IOException ex ) {
+            report(ex);
+        }
+    }
+
+    private void flushSink() {
+        try {
+            sink.flush();
+        } catch ( IOException ex ) {
+            report(ex);
+        }
+    }
+
+    private void report(IOException ex) {
+        // One dialog is enough; a failing disk would otherwise bury the user
+        //+ under one message box per entry.
+        if ( !reported ) {
+            reported = true;
+            MessageBox.showError(ex, "I/O Error: Entry Not Written");
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    /**
+     * Claims a slot in the given stripe, fills it in and publishes it. Must
+     * only be called from {@link #offer}, while the entry is counted as in
+     * flight.
+     */
+    private boolean publish(Stripe stripe, long timestamp, int level, 
+            int kind, String sourceClass, String sourceMethod, 
+            String message) {
+        long seq;
+        while ( true ) {
+            if ( !running ) {
+                return false;
+            }
+            seq = stripe.claimed.get();
+            if ( seq - stripe.consumed >= stripe.ring.length ) {
+                // The ring is full, so the overflow policy decides.
+                if ( policy == OverflowPolicy.DROP_DEBUG
+                        && level == Logger.DEBUG ) {
+                    dropped.incrementAndGet();
+                    return false;
+                }
+                if ( policy == OverflowPolicy.SPILL ) {
+                    return spill(timestamp, level, kind, sourceClass,
+                            sourceMethod, message);
+                }
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(this, FULL_NANOS);
+                continue;
+            }
+            if ( stripe.claimed.compareAndSet(seq, seq + 1) ) {
+                break;
+            }
+        }
+
+        LogEvent event = stripe.ring[(int) seq & stripe.mask];
+        event.set(timestamp, level, kind, sourceClass, sourceMethod, message);
+        event.sequence = seq + 1;   // Publish the slot.
+
+        if ( idle ) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    private boolean spill(long timestamp, int level, int kind,
+            String sourceClass, String sourceMethod, String message) {
+        synchronized ( spillLock ) {
+            try {
+                if ( spill == null ) {
+                    spill = new TextLogSink(new BufferedWriter(
+                            new FileWriter(spillPath, true)));
+                }
+                spillEvent.set(timestamp, level, kind, sourceClass,
+                        sourceMethod, message);
+                spill.append(spillEvent);
+                spill.flush();
+                spillEvent.clear();
+                spilled.incrementAndGet();
+                return true;
+            } catch ( IOException ex ) {
+                MessageBox.showError(ex, "I/O Error: Entry Not Written");
+                return false;
+            }
+        }
+    }
+
+    private static int powerOfTwo(int value) {
+        return Integer.highestOneBit(Math.max(2, value) - 1) << 1;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Stripe">
+    /**
+     * One ring of the writer, with its own claim and consumed counters.
+     */
+    private static final class Stripe {
+        final LogEvent[] ring;
+        final int mask;
+        final AtomicLong claimed = new AtomicLong();    // Next slot to claim.
+        volatile long consumed;                         // Next slot to write.
+        volatile long flushed;                          // Next slot to flush.
+        // Logging threads between their check of `running` and publishing.
+        final AtomicInteger offering = new AtomicInteger();
+        // Keeps the counters of neighbouring stripes off of the same cache
+        //+ line, so that a claim in one stripe does not slow down the others.
+        long p1, p2, p3, p4, p5, p6, p7;
+
+        Stripe(int size) {
+            this.ring = new LogEvent[size];
+            for ( int idx = 0; idx < size; idx++ ) {
+                ring[idx] = new LogEvent();
+            }
+            this.mask = size - 1;
+        }
+    }
+    //</editor-fold>
+}
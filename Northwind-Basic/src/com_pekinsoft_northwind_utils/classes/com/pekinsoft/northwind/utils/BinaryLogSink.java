@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   BinaryLogSink.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 1:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes `Logger` entries in a compact binary encoding instead of the
+ * human-readable layout. Nothing is formatted, wrapped or decorated on the way
+ * out; {@link LogDecoder} does all of that later, and only when somebody
+ * actually wants to read the log.
+ * <p>
+ * A binary log starts with the four (4) bytes `NWLG`, a format version byte and
+ * the time the log was opened as a variable-length number. After that it is a
+ * series of records, each starting with a tag byte:</p>
+ * <dl>
+ * <dt>{@link #TAG_STRING}</dt>
+ * <dd>Defines a class or method name: the name's number, its length in bytes
+ * and the UTF-8 bytes. A name is defined the first time it is used, and every
+ * entry after that refers to it by number.</dd>
+ * <dt>{@link #TAG_ENTRY} plus kind and level</dt>
+ * <dd>A log entry. The kind and level are packed into the tag byte, and it is
+ * followed by the milliseconds since the previous entry, the class and method
+ * name numbers (zero (0) for none) and the message as a length (one (1) for
+ * none, otherwise the length plus two (2)) and the UTF-8 bytes.</dd>
+ * </dl>
+ * <p>
+ * Each record ends with the byte {@link #RECORD_END}.</p>
+ * <p>
+ * All numbers are unsigned LEB128 variable-length integers, so most of them
+ * take a single byte. The time between entries is zig-zag encoded first,
+ * because entries written by an asynchronous `Logger` can be a millisecond or
+ * two out of order. A zero (0) byte where a tag is expected marks the end of
+ * the data, so unused space at the end of a preallocated file is ignored. As
+ * every record ends in {@link #RECORD_END}, and not in a zero (0) byte, that
+ * space can also be trimmed off safely, even after a message or name whose
+ * last character is U+0000, or a name that is empty.</p>
+ * <p>
+ * Every time a log is opened for appending, a new header is written. The first
+ * byte of {@link #MAGIC} is not a valid entry tag, so a reader can tell where
+ * one run of the application ends and the next begins.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class BinaryLogSink extends LogSink {
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Static Constants">
+    /** The first bytes of every binary log. */
+    static final byte[] MAGIC = {'N', 'W', 'L', 'G'};
+    /** The version of the encoding written by this class. */
+    static final int VERSION = 2;
+    /** The oldest version that can still be read. */
+    static final int MIN_VERSION = 1;
+
+    /** Marks the end of the data. */
+    static final int TAG_END = 0x00;
+    /** The first entry tag; the kind and level are added to it. */
+    static final int TAG_ENTRY = 0x40;
+    /** Defines a class or method name. */
+    static final int TAG_STRING = 0x7F;
+    /** Ends every record, as of version 2; version 1 has none. */
+    static final int RECORD_END = 0xFF;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final OutputStream out;
+    private final Map<String, Integer> names = new HashMap<>();
+    private final byte[] scratch = new byte[10];
+    private long lastTimestamp;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates a sink that encodes entries to the given stream, and writes the
+     * log header. The stream should be buffered, as entries are written in
+     * several small pieces.
+     *
+     * @param out the stream to encode entries to.
+     * @throws IOException in the event the header cannot be written.
+     */
+    BinaryLogSink(OutputStream out) throws IOException {
+        this.out = out;
+        this.lastTimestamp = System.currentTimeMillis();
+
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarLong(lastTimestamp);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    @Override
+    void append(LogEvent event) throws IOException {
+        // The names have to be defined before the entry that uses them.
+        int classId = nameId(event.sourceClass);
+        int methodId = nameId(event.sourceMethod);
+
+        out.write(tagFor(event.kind, event.level));
+        long delta = event.timestamp - lastTimestamp;
+        writeVarLong((delta << 1) ^ (delta >> 63));
+        lastTimestamp = event.timestamp;
+        writeVarLong(classId);
+        writeVarLong(methodId);
+
+        if ( event.message == null ) {
+            writeVarLong(1);
+        } else {
+            byte[] text = event.message.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(text.length + 2L);
+            out.write(text);
+        }
+        out.write(RECORD_END);
+    }
+
+    @Override
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    void close() throws IOException {
+        out.flush();
+        out.close();
+    }
+
+    /**
+     * Packs the kind and level of an entry into its tag byte.
+     */
+    static int tagFor(int kind, int level) {
+        return TAG_ENTRY + (kind << 3) + level;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private int nameId(String name) throws IOException {
+        if ( name == null ) {
+            return 0;
+        }
+        Integer id = names.get(name);
+        if ( id != null ) {
+            return id;
+        }
+
+        id = names.size() + 1;
+        names.put(name, id);
+
+        byte[] text = name.getBytes(StandardCharsets.UTF_8);
+        out.write(TAG_STRING);
+        writeVarLong(id);
+        writeVarLong(text.length);
+        out.write(text);
+        out.write(RECORD_END);
+        return id;
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        int count = 0;
+        while ( (value & ~0x7FL) != 0 ) {
+            scratch[count++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        scratch[count++] = (byte) value;
+        out.write(scratch, 0, count);
+    }
+    //</editor-fold>
+}
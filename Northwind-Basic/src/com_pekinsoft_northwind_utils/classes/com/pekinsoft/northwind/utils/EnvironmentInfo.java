@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   EnvironmentInfo.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 3:05:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The system and Java information that `Logger` adds to its error reports.
+ * None of it can change while the application runs, so it is looked up and
+ * laid out once, the first time an error is reported, instead of on every
+ * report.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class EnvironmentInfo {
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Static Constants">
+    /**
+     * The system and Java sections of a report written by
+     * {@link Logger#error(Exception, String)}.
+     */
+    static final String ERROR_SECTION;
+
+    /**
+     * The system, Java and user sections of a report written by
+     * {@link Logger#critical}, already encoded for writing to the error file.
+     */
+    static final byte[] CRITICAL_SECTION;
+    //</editor-fold>
+
+    static {
+        StringBuilder src = new StringBuilder(2048);
+        src.append(" ".repeat(40 - ("SYSTEM INFORMATION".length() / 2)));
+        src.append("\n\n");
+        src.append("SYSTEM INFORMATION\n\n");
+        src.append("OS\t\t").append(System.getProperty("os.name"));
+        src.append("\nOS Version:\t").append(System.getProperty("os.version"));
+        src.append("\nArchitecture:\t").append(System.getProperty("os.arch"));
+        src.append("\n\n");
+        src.append(" ".repeat(40 - ("JAVA INFORMATION".length() / 2)));
+        src.append("\n\n");
+        src.append("JAVA INFORMATION\n\n");
+        src.append("Java Virtual Machine: ")
+                .append(System.getProperty("java.vm.name"));
+        src.append("\nJava VM Version:\t")
+                .append(System.getProperty("java.vm.version"));
+        src.append("\nJava Runtime:\t")
+                .append(System.getProperty("java.runtime.name"));
+        src.append("\nJava Runtime Version: ")
+                .append(System.getProperty("java.runtime.version"));
+        src.append("\nJava Specification:\t")
+                .append(System.getProperty("java.specification.name"));
+        src.append("\nJava Spec. Version:\t")
+                .append(System.getProperty("java.specification.version"));
+        src.append("\n\n");
+        src.append("JDK Module Path:\t")
+                .append(System.getProperty("jdk.module.path"));
+        src.append("\n\n");
+        src.append("Java Library Path:\t")
+                .append(System.getProperty("java.library.path"));
+        src.append("\n");
+        ERROR_SECTION = src.toString();
+
+        src.setLength(0);
+        src.append("\n\n");
+        src.append(" ".repeat(24));
+        src.append("S Y S T E M   I N F O R M A T I O N");
+        src.append("\n\n");
+        src.append("OS.................");
+        src.append(System.getProperty("os.name"));
+        src.append("\nOS Version.........");
+        src.append(System.getProperty("os.version"));
+        src.append("\nArchitecture.......");
+        src.append(System.getProperty("os.arch"));
+        src.append("\n\n");
+        src.append(" ".repeat(26));
+        src.append("J A V A   I N F O R M A T I O N");
+        src.append("\n\n");
+        src.append("Java Virtual Machine.....");
+        src.append(System.getProperty("java.vm.name"));
+        src.append("\nJava VM Version..........");
+        src.append(System.getProperty("java.vm.version"));
+        src.append("\nJava Runtime Name........");
+        src.append(System.getProperty("java.runtime.name"));
+        src.append("\nJava Runtime Version.....");
+        src.append(System.getProperty("java.runtime.version"));
+        src.append("\nJava Specification.......");
+        src.append(System.getProperty("java.specification.name"));
+        src.append("\nJava Spec. Version.......");
+        src.append(System.getProperty("java.specification.version"));
+        src.append("\nJava Vendor..............");
+        src.append(System.getProperty("java.vendor"));
+        src.append("\nJava Version.............");
+        src.append(System.getProperty("java.version"));
+        src.append("\nJava Version Date........");
+        src.append(System.getProperty("java.version.date"));
+        src.append("\nJava Class Path..........");
+        src.append(System.getProperty("java.class.path"));
+        src.append("\nJava Class Version.......");
+        src.append(System.getProperty("java.class.version"));
+        src.append("\nJava Library Path........");
+        src.append(System.getProperty("java.library.path"));
+        src.append("\n\n");
+        src.append(" ".repeat(26));
+        src.append("\n\n");
+        src.append("User Country.............");
+        src.append(System.getProperty("user.country"));
+        src.append("\nUser Language............");
+        src.append(System.getProperty("user.language"));
+        src.append("\n\n~~~ END OF ERROR REPORT ~~~");
+        CRITICAL_SECTION = src.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private EnvironmentInfo () {
+        // Privatized to prevent this class from being instantiated.
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   ErrorThrottle.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 3:40:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps an error storm, such as the same validation exception thrown for every
+ * row of a bulk recalculation, from flooding the log. Each exception is given
+ * a fingerprint made from its class and the top frames of its stack trace. The
+ * first exception with a given fingerprint is reported in full; after that,
+ * the `Logger` only writes a one-line count of how many more times it was
+ * seen, and no more than once per interval for each fingerprint.
+ * <p>
+ * The interval may be set apart for a class of exception, which then also
+ * covers its subclasses unless they are given an interval of their own. An
+ * interval of zero (0) has every exception of that class reported in full.
+ * </p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ErrorThrottle {
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Static Constants">
+    /** {@link #check} result: write the full report. */
+    static final long REPORT = -1;
+    /** {@link #check} result: write nothing. */
+    static final long SUPPRESS = 0;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    // How many stack frames, from the top, go into a fingerprint.
+    private static final int FRAMES = 5;
+    // The most fingerprints remembered. Past this, the ones that have gone
+    //+ unseen the longest are forgotten, a batch at a time so that the search
+    //+ for them is rare, at the cost of one more full report for each if it
+    //+ comes back.
+    private static final int MAX_FINGERPRINTS = 1024;
+    private static final int EVICT_BATCH = MAX_FINGERPRINTS / 8;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private volatile long interval;
+    // The intervals set apart, by exception class name.
+    private final Map<String, Long> intervals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Fingerprint> seen
+            = new ConcurrentHashMap<>();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * @param interval the fewest milliseconds between two counts written for
+     *                 the same fingerprint, or zero (0) to report every
+     *                 exception in full.
+     */
+    ErrorThrottle(long interval) {
+        this.interval = interval;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Sets the interval of every class of exception that has none of its own.
+     * Exceptions already seen are counted afresh.
+     *
+     * @param interval the fewest milliseconds between two counts, or zero (0)
+     *                 to report every exception in full.
+     */
+    void setInterval(long interval) {
+        this.interval = interval;
+        seen.clear();
+    }
+
+    /**
+     * Sets the interval of a class of exception and its subclasses, in place
+     * of the one set by {@link #setInterval(long)}. Exceptions already seen
+     * are counted afresh.
+     *
+     * @param className the fully qualified name of the exception class.
+     * @param interval  the fewest milliseconds between two counts, zero (0)
+     *                  to report every exception of the class in full, or a
+     *                  negative number to go back to the general interval.
+     */
+    void setInterval(String className, long interval) {
+        if ( interval < 0 ) {
+            intervals.remove(className);
+        } else {
+            intervals.put(className, interval);
+        }
+        seen.clear();
+    }
+
+    /**
+     * Decides what to write for an exception that is about to be reported.
+     *
+     * @param ex      the exception.
+     * @param handled whether it is being reported as a handled error, which is
+     *                counted apart from the same exception reported as an
+     *                error.
+     * @param now     the current time, in milliseconds.
+     * @return {@link #REPORT} to write the full report, {@link #SUPPRESS} to
+     *         write nothing, or otherwise the number of times it has been
+     *         seen since the last report or count, to be written as a count.
+     */
+    long check(Exception ex, boolean handled, long now) {
+        StackTraceElement[] stack = ex.getStackTrace();
+        Long key = fingerprint(ex, stack, handled);
+
+        Fingerprint print = seen.get(key);
+        if ( print == null ) {
+            long limit = intervalOf(ex.getClass());
+            if ( limit <= 0 ) {
+                return REPORT;
+            }
+            if ( seen.size() >= MAX_FINGERPRINTS ) {
+                evictOldest();
+            }
+            print = new Fingerprint(describe(ex, stack), limit, now);
+            if ( seen.putIfAbsent(key, print) == null ) {
+                return REPORT;
+            }
+            print = seen.get(key);
+            if ( print == null ) {
+                return REPORT;      // Already forgotten; report it again.
+            }
+        }
+
+        print.lastSeen = now;
+        print.pending.incrementAndGet();
+        long last = print.lastWritten.get();
+        if ( now - last >= print.interval
+                && print.lastWritten.compareAndSet(last, now) ) {
+            return print.pending.getAndSet(0);
+        }
+        return SUPPRESS;
+    }
+
+    /**
+     * Collects the counts that have not been written yet, so that they can be
+     * written before the log is closed.
+     *
+     * @return one line for each fingerprint seen since its last count.
+     */
+    List<String> drain() {
+        List<String> lines = new ArrayList<>();
+        for ( Fingerprint print : seen.values() ) {
+            long count = print.pending.getAndSet(0);
+            if ( count > 0 ) {
+                lines.add(summary(print.label, count, null));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Builds the one-line count written in place of a full report.
+     *
+     * @param ex    the latest exception with the fingerprint.
+     * @param count how many times it has been seen since the last line.
+     * @return the line.
+     */
+    String summary(Exception ex, long count) {
+        return summary(describe(ex, ex.getStackTrace()), count,
+                ex.getMessage());
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    /**
+     * Finds the interval of the nearest class, going up from the exception's
+     * own, that has one set apart.
+     */
+    private long intervalOf(Class<?> type) {
+        if ( !intervals.isEmpty() ) {
+            for ( Class<?> cls = type; cls != null;
+                    cls = cls.getSuperclass() ) {
+                Long limit = intervals.get(cls.getName());
+                if ( limit != null ) {
+                    return limit;
+                }
+            }
+        }
+        return interval;
+    }
+
+    /**
+     * Forgets the fingerprints that have gone unseen the longest. Their counts
+     * that are still pending are lost with them.
+     */
+    private void evictOldest() {
+        // The times are copied first, as other threads keep moving them.
+        long[] times = new long[seen.size()];
+        int count = 0;
+        for ( Fingerprint print : seen.values() ) {
+            if ( count == times.length ) {
+                break;
+            }
+            times[count++] = print.lastSeen;
+        }
+        if ( count == 0 ) {
+            return;
+        }
+        Arrays.sort(times, 0, count);
+        long cutoff = times[Math.min(EVICT_BATCH, count) - 1];
+        seen.values().removeIf(print -> print.lastSeen <= cutoff);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods and Functions">
+    private static String summary(String label, long count, String message) {
+        StringBuilder line = new StringBuilder(160);
+        line.append(label).append(" seen ").append(count)
+                .append(count == 1 ? " more time" : " more times")
+                .append(" since it was last reported");
+        if ( message != null ) {
+            line.append("; latest: ").append(message);
+        }
+        return line.toString();
+    }
+
+    private static Long fingerprint(Exception ex, StackTraceElement[] stack,
+            boolean handled) {
+        long hash = ex.getClass().getName().hashCode();
+        int frames = Math.min(FRAMES, stack.length);
+        for ( int idx = 0; idx < frames; idx++ ) {
+            StackTraceElement frame = stack[idx];
+            hash = hash * 31 + frame.getClassName().hashCode();
+            hash = hash * 31 + frame.getMethodName().hashCode();
+            hash = hash * 31 + frame.getLineNumber();
+        }
+        return handled ? ~hash : hash;
+    }
+
+    private static String describe(Exception ex, StackTraceElement[] stack) {
+        return stack.length == 0
+                ? ex.getClass().getName()
+                : ex.getClass().getName() + " at " + stack[0];
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Fingerprint Class">
+    private static final class Fingerprint {
+        final String label;
+        final long interval;
+        final AtomicLong pending = new AtomicLong();
+        final AtomicLong lastWritten;
+        volatile long lastSeen;
+
+        Fingerprint(String label, long interval, long reported) {
+            this.label = label;
+            this.interval = interval;
+            this.lastWritten = new AtomicLong(reported);
+            this.lastSeen = reported;
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LevelTable.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 4:15:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The logging levels of a `Logger` and all of the named loggers created from
+ * it by {@link Logger#getLogger(String)}.
+ * <p>
+ * Levels are set for package or class names, and apply to every logger whose
+ * name is that name or starts with it, unless a longer name has a level of its
+ * own. Working that out on every message would be far too slow, so it is done
+ * whenever a level changes or a logger is added, and the answers are kept in
+ * an array with one slot for each logger. The array is never changed once it
+ * has been published; a change builds a new one and replaces it. A logger
+ * checking its level therefore only reads the array reference, which is
+ * volatile, and its own slot, without ever taking a lock.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class LevelTable {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    // The effective level of each logger, by slot.
+    private volatile int[] effective;
+
+    // Everything below is guarded by `this`.
+    private int defaultLevel;
+    private final Map<String, Integer> thresholds = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates the table, with slot zero (0) for the root `Logger`, whose name
+     * is the empty string.
+     *
+     * @param defaultLevel the level of every logger that has no level set for
+     *                     its name.
+     */
+    LevelTable(int defaultLevel) {
+        this.defaultLevel = defaultLevel;
+        this.names.add("");
+        publish();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * @param slot the logger's slot.
+     * @return the level of the logger in the given slot.
+     */
+    int get(int slot) {
+        return effective[slot];
+    }
+
+    /**
+     * Adds a logger to the table.
+     *
+     * @param name the logger's name.
+     * @return the logger's slot.
+     */
+    synchronized int register(String name) {
+        names.add(name);
+        publish();
+        return names.size() - 1;
+    }
+
+    synchronized int getDefault() {
+        return defaultLevel;
+    }
+
+    synchronized void setDefault(int level) {
+        defaultLevel = level;
+        publish();
+    }
+
+    synchronized void set(String name, int level) {
+        thresholds.put(name, level);
+        publish();
+    }
+
+    synchronized void clear(String name) {
+        if ( thresholds.remove(name) != null ) {
+            publish();
+        }
+    }
+
+    /**
+     * Replaces the default level and every level set by name in one step, so
+     * that no logger ever sees some of the new levels and some of the old.
+     *
+     * @param level      the new default level.
+     * @param thresholds the new levels, by package or class name.
+     */
+    synchronized void replace(int level, Map<String, Integer> thresholds) {
+        this.defaultLevel = level;
+        this.thresholds.clear();
+        this.thresholds.putAll(thresholds);
+        publish();
+    }
+
+    /**
+     * @return a copy of the levels that have been set, by name.
+     */
+    synchronized Map<String, Integer> getThresholds() {
+        return new HashMap<>(thresholds);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void publish() {
+        int[] next = new int[names.size()];
+        for ( int slot = 0; slot < next.length; slot++ ) {
+            next[slot] = resolve(names.get(slot));
+        }
+        effective = next;
+    }
+
+    /**
+     * Finds the level set for the longest name that the given name is, or is
+     * inside of.
+     */
+    private int resolve(String name) {
+        int level = defaultLevel;
+        int matched = -1;
+        for ( Map.Entry<String, Integer> threshold : thresholds.entrySet() ) {
+            String prefix = threshold.getKey();
+            if ( prefix.length() > matched && (name.equals(prefix)
+                    || (name.startsWith(prefix)
+                    && name.charAt(prefix.length()) == '.')) ) {
+                level = threshold.getValue();
+                matched = prefix.length();
+            }
+        }
+        return level;
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogDecoder.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 1:25:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ *  Oct 17, 2026  Sean Carrick        Added `isBinaryLog`, for the log viewer.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import com.pekinsoft.northwind.utils.enums.SysExits;
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.SequenceInputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Renders a binary log, as written by a `Logger` using
+ * {@link com.pekinsoft.northwind.utils.enums.LogFormat#BINARY}, in the same
+ * human-readable layout as a text log.
+ * <p>
+ * From the command line:</p>
+ * <pre>
+ * java -p &lt;modules&gt; -m com_pekinsoft_northwind_utils/com.pekinsoft.northwind.utils.LogDecoder &lt;log file&gt; [output file]
+ * </pre>
+ * <p>
+ * The rendered log is written to the output file, if one is given, or to
+ * standard output otherwise. A log that is not in the binary format is copied
+ * through unchanged, so the decoder can be pointed at any log file. Rolled
+ * logs, whose names end in `.gz`, are uncompressed on the way.</p>
+ * <p>
+ * A log whose last entry was cut short, for example because the application
+ * was killed while writing it, is rendered up to the last complete entry.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class LogDecoder {
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private LogDecoder () {
+        // Privatized to prevent this class from being instantiated.
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Methods and Functions">
+    /**
+     * Decodes the log named on the command line.
+     *
+     * @param args the log file to decode, and optionally the file to write the
+     *             rendered log to.
+     */
+    public static void main(String[] args) {
+        if ( args.length < 1 || args.length > 2 ) {
+            System.err.println("Usage: LogDecoder <log file> [output file]");
+            System.exit(SysExits.EX_USAGE.toInt());
+        }
+
+        try ( InputStream in = open(args[0]) ) {
+            // The log is decoded as UTF-8, so it is written as UTF-8 too,
+            //+ whatever the platform's default encoding is.
+            Writer out = new BufferedWriter(new OutputStreamWriter(
+                    args.length == 2 ? new FileOutputStream(args[1]) 
+                            : System.out, StandardCharsets.UTF_8));
+            decode(in, out);
+            if ( args.length == 2 ) {
+                out.close();
+            }
+        } catch ( FileNotFoundException ex ) {
+            System.err.println("LogDecoder: " + ex.getMessage());
+            System.exit(SysExits.EX_NOINPUT.toInt());
+        } catch ( IllegalArgumentException ex ) {
+            System.err.println("LogDecoder: " + args[0] + ": "
+                    + ex.getMessage());
+            System.exit(SysExits.EX_DATAERR.toInt());
+        } catch ( IOException ex ) {
+            System.err.println("LogDecoder: " + ex.getMessage());
+            System.exit(SysExits.EX_IOERR.toInt());
+        }
+    }
+
+    /**
+     * Determines whether the given file is a binary log, by its first bytes
+     * rather than by its name.
+     *
+     * @param file the log file.
+     * @return {@code true} if the file is a binary log that needs to be
+     *         decoded; {@code false} if it is a text log, or is empty.
+     * @throws IOException in the event the file cannot be read.
+     */
+    public static boolean isBinaryLog(File file) throws IOException {
+        byte[] magic = new byte[BinaryLogSink.MAGIC.length];
+        try ( InputStream in = new FileInputStream(file) ) {
+            return in.readNBytes(magic, 0, magic.length) == magic.length 
+                    && isMagic(magic);
+        }
+    }
+
+    /**
+     * Renders a log in the human-readable layout. The writer is flushed, but
+     * neither stream is closed.
+     *
+     * @param in  the log. It is copied through unchanged if it is not a binary
+     *            log.
+     * @param out where the rendered log is written.
+     * @return the number of entries rendered, or {@code -1} if the log was
+     *         not a binary log.
+     * @throws IOException in the event the log cannot be read or the rendered
+     *         log cannot be written.
+     * @throws IllegalArgumentException in the event the log is a binary log,
+     *         but of a newer version, or is damaged.
+     */
+    public static long decode(InputStream in, Writer out) throws IOException {
+        byte[] magic = new byte[BinaryLogSink.MAGIC.length];
+        int read = in.readNBytes(magic, 0, magic.length);
+        if ( read < magic.length || !isMagic(magic) ) {
+            // A text log: hand it over as it is.
+            new InputStreamReader(new SequenceInputStream(
+                    new ByteArrayInputStream(magic, 0, read), in),
+                    StandardCharsets.UTF_8).transferTo(out);
+            out.flush();
+            return -1;
+        }
+
+        int version = in.read();
+        checkVersion(version);
+
+        TextLogSink sink = new TextLogSink(out);
+        LogEvent event = new LogEvent();
+        List<String> names = new ArrayList<>();
+        names.add(null);        // Number zero (0) means "no name".
+        long count = 0;
+
+        try {
+            long timestamp = readVarLong(in);
+            while ( true ) {
+                int tag = in.read();
+                if ( tag == -1 || tag == BinaryLogSink.TAG_END ) {
+                    break;
+                }
+
+                if ( tag == BinaryLogSink.MAGIC[0] ) {
+                    // The application was started again and appended to the
+                    //+ log, so the names start over.
+                    if ( in.readNBytes(magic, 1, magic.length - 1)
+                            < magic.length - 1 ) {
+                        throw new EOFException();
+                    }
+                    if ( !isMagic(magic) ) {
+                        throw new IllegalArgumentException("damaged header");
+                    }
+                    version = in.read();
+                    checkVersion(version);
+                    timestamp = readVarLong(in);
+                    names.subList(1, names.size()).clear();
+                    continue;
+                }
+
+                if ( tag == BinaryLogSink.TAG_STRING ) {
+                    int id = (int) readVarLong(in);
+                    String name = readString(in, (int) readVarLong(in));
+                    if ( id != names.size() ) {
+                        throw new IllegalArgumentException("name " + id
+                                + " defined out of order");
+                    }
+                    readRecordEnd(in, version);
+                    names.add(name);
+                    continue;
+                }
+
+                int code = tag - BinaryLogSink.TAG_ENTRY;
+                if ( code < 0 || code > (LogEvent.RAW << 3) + Logger.CRITICAL ) {
+                    throw new IllegalArgumentException("unknown record tag "
+                            + tag);
+                }
+
+                long delta = readVarLong(in);
+                timestamp += (delta >>> 1) ^ -(delta & 1);
+                String cls = names.get((int) readVarLong(in));
+                String method = names.get((int) readVarLong(in));
+                long length = readVarLong(in);
+                String message = length <= 1
+                        ? null
+                        : readString(in, (int) (length - 2));
+                readRecordEnd(in, version);
+
+                event.set(timestamp, code & 0x07, code >>> 3, cls, method,
+                        message);
+                sink.append(event);
+                count++;
+            }
+        } catch ( EOFException ex ) {
+            // The last entry was cut short; everything before it is fine.
+        } catch ( IndexOutOfBoundsException ex ) {
+            throw new IllegalArgumentException("entry refers to an undefined "
+                    + "name");
+        }
+
+        sink.flush();
+        return count;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Static Methods and Functions">
+    private static void checkVersion(int version) {
+        if ( version < BinaryLogSink.MIN_VERSION 
+                || version > BinaryLogSink.VERSION ) {
+            throw new IllegalArgumentException("unsupported binary log "
+                    + "version " + version);
+        }
+    }
+
+    /**
+     * Reads the byte that ends each record, which version 1 logs do not have.
+     */
+    private static void readRecordEnd(InputStream in, int version) 
+            throws IOException {
+        if ( version < 2 ) {
+            return;
+        }
+        int end = in.read();
+        if ( end == -1 ) {
+            throw new EOFException();
+        }
+        if ( end != BinaryLogSink.RECORD_END ) {
+            throw new IllegalArgumentException("damaged record");
+        }
+    }
+
+    private static InputStream open(String path) throws IOException {
+        // Rolled logs are compressed.
+        InputStream in = new BufferedInputStream(new FileInputStream(path));
+        return path.endsWith(".gz") ? new GZIPInputStream(in) : in;
+    }
+
+    private static boolean isMagic(byte[] bytes) {
+        for ( int idx = 0; idx < bytes.length; idx++ ) {
+            if ( bytes[idx] != BinaryLogSink.MAGIC[idx] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for ( int shift = 0; shift < 64; shift += 7 ) {
+            int b = in.read();
+            if ( b == -1 ) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ( (b & 0x80) == 0 ) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed number");
+    }
+
+    private static String readString(InputStream in, int length)
+            throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if ( bytes.length < length ) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogEvent.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:20:00 AM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+/**
+ * A single, reusable log entry. The `Logger` keeps these in a preallocated
+ * ring so that logging an entry only fills in the fields of an existing object
+ * instead of formatting and writing the text on the calling thread.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class LogEvent {
+    //<editor-fold defaultstate="collapsed" desc="Entry Kinds">
+    /** A single leveled message, such as `debug` or `info`. */
+    static final int MESSAGE = 0;
+    /** Entry into a method. */
+    static final int ENTER = 1;
+    /** Exit from a method. */
+    static final int EXIT = 2;
+    /** A preformatted block, such as an error report, written as-is. */
+    static final int BLOCK = 3;
+    /** Preformatted text written with no header or footer at all. */
+    static final int RAW = 4;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Member Fields">
+    long timestamp;         // Milliseconds since the epoch.
+    int level;              // The `Logger` level of the entry.
+    int kind;               // One of the entry kinds above.
+    String sourceClass;     // May be null for messages and blocks.
+    String sourceMethod;    // May be null for messages and blocks.
+    String message;         // The text, or the parameter/return detail.
+
+    // The ring sequence number this slot was last published with. Written last
+    //+ by the producer and read first by the writer thread, so it doubles as
+    //+ the "this slot is ready" flag.
+    volatile long sequence;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    void set(long timestamp, int level, int kind, String sourceClass,
+            String sourceMethod, String message) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.kind = kind;
+        this.sourceClass = sourceClass;
+        this.sourceMethod = sourceMethod;
+        this.message = message;
+    }
+
+    /**
+     * Drops the references held by this slot so that the strings can be
+     * collected while the slot waits to be reused.
+     */
+    void clear() {
+        this.sourceClass = null;
+        this.sourceMethod = null;
+        this.message = null;
+    }
+    //</editor-fold>
+}
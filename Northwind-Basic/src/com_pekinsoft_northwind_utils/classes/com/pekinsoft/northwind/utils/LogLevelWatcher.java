@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogLevelWatcher.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 4:50:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import com.pekinsoft.northwind.utils.exceptions.InvalidLoggingLevelException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+
+/**
+ * Watches a properties file of logging levels and applies it to a `Logger`
+ * whenever the file is saved, so that the levels can be changed while the
+ * application is running. The file uses the same keys as
+ * {@link Logger#configure(Properties)}:
+ * <pre>
+ * log.level=INFO
+ * log.level.com.pekinsoft.northwind.basic.modules=DEBUG
+ * log.level.com.pekinsoft.northwind.desktop=WARN
+ * </pre>
+ * <p>
+ * The file is laid over a set of baseline levels, such as those in the
+ * application's own properties, rather than replacing them: a level set in
+ * the file wins, and taking a level out of the file goes back to the baseline
+ * level for that name, if there is one.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class LogLevelWatcher implements Runnable {
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Logger logger;
+    private final Path file;
+    private final Properties baseline;
+    private final WatchService watcher;
+    private final Thread thread;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    private LogLevelWatcher(Logger logger, Path file, Properties baseline)
+            throws IOException {
+        this.logger = logger;
+        this.file = file.toAbsolutePath();
+        this.baseline = new Properties();
+        for ( String key : baseline.stringPropertyNames() ) {
+            if ( key.equals("log.level") || key.startsWith("log.level.") ) {
+                this.baseline.setProperty(key, baseline.getProperty(key));
+            }
+        }
+        this.watcher = this.file.getFileSystem().newWatchService();
+        this.file.getParent().register(watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this, "Northwind Log Level Watcher");
+        this.thread.setDaemon(true);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Static Methods and Functions">
+    /**
+     * Applies the levels in the given file, if it exists, and then watches it
+     * for changes. The folder holding the file must exist; the file itself
+     * may be created later.
+     *
+     * @param logger   the `Logger` whose levels are set from the file.
+     * @param file     the properties file of logging levels.
+     * @param baseline the levels that apply wherever the file does not say
+     *                 otherwise; any properties other than the `log.level`
+     *                 ones are ignored.
+     * @return the watcher, which may be closed to stop watching.
+     * @throws IOException in the event the folder cannot be watched.
+     */
+    public static LogLevelWatcher start(Logger logger, Path file,
+            Properties baseline) throws IOException {
+        LogLevelWatcher levels = new LogLevelWatcher(logger, file, baseline);
+        if ( Files.exists(levels.file) ) {
+            levels.reload();
+        }
+        levels.thread.start();
+        return levels;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Public Methods">
+    /**
+     * Stops watching the file. The levels already applied stay as they are.
+     */
+    public void close() {
+        try {
+            watcher.close();
+        } catch ( IOException ex ) {
+            // Nothing more can be done with it either way.
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while ( true ) {
+                WatchKey key = watcher.take();
+                boolean changed = false;
+                for ( WatchEvent<?> event : key.pollEvents() ) {
+                    if ( file.getFileName().equals(event.context()) ) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+
+                if ( changed ) {
+                    reload();
+                }
+            }
+        } catch ( ClosedWatchServiceException | InterruptedException ex ) {
+            // Closed: time to stop.
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void reload() {
+        Properties props = new Properties(baseline);
+        try ( Reader in = Files.newBufferedReader(file) ) {
+            props.load(in);
+            logger.configure(props);
+            logger.config("Logging levels reloaded from " + file);
+        } catch ( IOException | InvalidLoggingLevelException ex ) {
+            // A half-saved or mistyped file must not stop the watching; the
+            //+ levels stay as they were until it is saved correctly.
+            logger.warning("Logging levels not reloaded from {}: {}", file,
+                    ex.getMessage());
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogSink.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:31:00 AM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.io.IOException;
+
+/**
+ * The destination of `Logger` entries. A sink turns a {@link LogEvent} into
+ * whatever is stored on disk. Sinks are only ever used by one thread at a
+ * time: either the thread that is logging (under the `Logger`'s lock), or the
+ * background writer thread of an asynchronous `Logger`.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+abstract class LogSink {
+
+    /**
+     * Writes the given entry. The sink must not hold on to the event after
+     * this method returns, as it will be reused for a later entry.
+     *
+     * @param event the entry to write.
+     * @throws IOException in the event the entry cannot be written.
+     */
+    abstract void append(LogEvent event) throws IOException;
+
+    /**
+     * Makes sure everything appended so far has been handed to the operating
+     * system.
+     *
+     * @throws IOException in the event the data cannot be written.
+     */
+    abstract void flush() throws IOException;
+
+    /**
+     * Flushes and releases the underlying file.
+     *
+     * @throws IOException in the event the file cannot be closed.
+     */
+    abstract void close() throws IOException;
+}
@@ -20,7 +20,7 @@
  *  Class      :   Logger.java
  *  Author     :   Sean Carrick
  *  Created    :   Mar 8, 2020 @ 12:42:02 PM
- *  Modified   :   Mar 8, 2020
+ *  Modified   :   Oct 17, 2026
  *  
  *  Purpose:
  *  
@@ -32,18 +32,58 @@
  *  Mar 21, 2020 Sean Carrick        Added the parameter `modules` to the 
  *                                   `critical` function, so that installed
  *                                   modules may be added to the error log.
+ *  Oct 17, 2026 Sean Carrick        Added the asynchronous mode, where entries
+ *                                   are handed to a background writer through
+ *                                   a ring buffer instead of being written and
+ *                                   flushed on the calling thread.
+ *  Oct 17, 2026 Sean Carrick        Fixed the level checks so that a level
+ *                                   filters out everything below it, checked
+ *                                   the level before building any entry text,
+ *                                   and added `Supplier` and `{}` template
+ *                                   overloads for the message methods.
+ *  Oct 17, 2026 Sean Carrick        Added the binary log format, which is read
+ *                                   back with `LogDecoder`.
+ *  Oct 17, 2026 Sean Carrick        Honored the `append` flag, which was being
+ *                                   ignored, and added the rolling log.
+ *  Oct 17, 2026 Sean Carrick        Laid out the system and Java information
+ *                                   of the error reports once, and built the
+ *                                   rest in a reused buffer, and only when the
+ *                                   report is going to be written.
+ *  Oct 17, 2026 Sean Carrick        Reported repeats of the same exception as
+ *                                   counts instead of full reports.
+ *  Oct 17, 2026 Sean Carrick        Added named loggers, with levels set by
+ *                                   package or class, and made the level check
+ *                                   a lock-free read of precomputed levels.
+ *  Oct 17, 2026 Sean Carrick        Added `configure`, which replaces all of
+ *                                   the levels at once while running.
+ *  Oct 17, 2026 Sean Carrick        Gave each thread its own stripe of the
+ *                                   asynchronous ring and its own buffer for
+ *                                   building messages, so that threads do not
+ *                                   wait on one another to log.
+ *  Oct 17, 2026 Sean Carrick        Added `getPath`, for the log viewer.
  * *****************************************************************************
  */
 
 package com.pekinsoft.northwind.utils;
 
+import com.pekinsoft.northwind.utils.enums.LogFormat;
+import com.pekinsoft.northwind.utils.enums.OverflowPolicy;
 import com.pekinsoft.northwind.utils.exceptions.InvalidLoggingLevelException;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  *
@@ -98,13 +138,42 @@ public class Logger {
     private static final String LOG_PATH;
     private static final String ERR_PATH;
                                            
-    // Private constants to hold the message header and footer strings.
-    private static final String MSG_HDR = "=".repeat(40 - (
+    // Constants to hold the message header and footer strings. These are
+    //+ shared with the sinks that render the entries.
+    static final String MSG_HDR = "=".repeat(40 - (
             " BEGIN MESSAGE ".length() / 2)) + " B E G I N " + 
             "=".repeat((40 - (" BEGIN ".length() / 2)) - 1) + "\n";
-    private static final String MSG_FTR = "\n" + "-".repeat(40 - (
+    static final String MSG_FTR = "\n" + "-".repeat(40 - (
             " END MESSAGE ".length() / 2)) + "  E N D " + 
             "-".repeat(40 - (" END ".length() / 2)) + "\n";
+    
+    // The banners around the exception part of an error report.
+    private static final String ERROR_BANNER = "#".repeat(80) + "\n"
+            + "#".repeat(40 - (" E R R O R ".length() / 2)) + " E R R O R "
+            + "#".repeat(39 - (" E R R O R ".length() / 2)) + "\n";
+    private static final String END_OF_ERROR_BANNER = "#".repeat(40 
+            - (" E N D   O F   E R R O R ".length() / 2)) 
+            + " E N D   O F   E R R O R " + "#".repeat(39 
+            - (" E N D   O F   E R R O R ".length() / 2));
+    
+    // Each thread builds its error reports in the same buffer, rather than in
+    //+ a new one each time. A buffer that has grown past the limit, for an
+    //+ unusually deep stack trace, is not kept.
+    private static final int REPORT_CAPACITY = 4096;
+    private static final int REPORT_LIMIT = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> REPORT 
+            = ThreadLocal.withInitial(() -> new StringBuilder(REPORT_CAPACITY));
+    
+    // The same for the text of ordinary messages, such as filled-in templates
+    //+ and parameter lists.
+    private static final int TEXT_CAPACITY = 256;
+    private static final int TEXT_LIMIT = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> TEXT 
+            = ThreadLocal.withInitial(() -> new StringBuilder(TEXT_CAPACITY));
+    
+    // By default, an exception that keeps recurring is counted at most once
+    //+ every ten seconds after its first full report.
+    private static final long DEFAULT_ERROR_INTERVAL = 10_000;
     //</editor-fold>
 
     static {
@@ -129,10 +198,33 @@ public class Logger {
     }
     
     //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
-    private FileWriter log; // The file to which messages will be written.
-    private FileWriter err; // The file to which errors will be written.
+    private RollingLogSink log; // The sink to which messages are written.
     private boolean append; // Whether or not to append to existing file.
-    private int level;      // Level at which to log messages.
+    private final String path;  // The path of the log file.
+    private final LogFormat format; // The layout of the entries on disk.
+    
+    // The background writer, once `setAsynchronous` has been called. Until
+    //+ then, entries are written on the calling thread.
+    private volatile AsyncLogWriter async;
+    // The entry reused by synchronous writes, guarded by `this`.
+    private final LogEvent event = new LogEvent();
+    private boolean closed;
+    
+    // Turns repeats of the same exception into counts. Shared by the named
+    //+ loggers, like the levels.
+    private final ErrorThrottle throttle;
+    
+    // The levels of this `Logger` and all of the named loggers created from
+    //+ it, which share the table, and this one's slot in it.
+    private final LevelTable levels;
+    private final int slot;
+    
+    // The `Logger` that owns the log file, and the name of this one. For the
+    //+ root `Logger`, the root is itself and the name is empty. Named loggers
+    //+ are only ever created, and looked up, through the root.
+    private final Logger root;
+    private final String name;
+    private final ConcurrentHashMap<String, Logger> children;
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
@@ -209,22 +301,51 @@ public class Logger {
      *               of this application run.
      */
     public Logger(String path, int level, boolean append) {
+        this ( path, level, append, LogFormat.TEXT );
+    }
+    
+    /**
+     * Creates a `Logger` object that places the log file in the path specified
+     * by the calling application, logs all messages at the provided logging
+     * level or higher, has its ability to append messages from future runs
+     * of the application set by the calling application, and stores its
+     * entries in the given format.
+     * <p>
+     * A {@link LogFormat#BINARY} log is a fraction of the size of a
+     * {@link LogFormat#TEXT} log and much cheaper to write, but has to be read
+     * through {@link LogDecoder}, which renders it in the text layout.</p>
+     * 
+     * @param path   The path to the folder where the log file is to be placed.
+     * @param level  The minimum level at which to write messages to the log.
+     * @param append Whether to append messages from future application runs to
+     *               the same log file, or to create a new log file at the time
+     *               of this application run.
+     * @param format The layout in which to store the entries.
+     */
+    public Logger(String path, int level, boolean append, LogFormat format) {
         // The first thing we are going to do is to set our log field to null.
         this.log = null;    //+ In this way, it is "initialized" even though it
         //+ initialized to nothing (null), it will prevent some design-time 
         //+ errors from showing up.
         
         // Set our logging level to the level provided.
-        this.level = level;
+        this.levels = new LevelTable(level);
+        this.slot = 0;
+        this.root = this;
+        this.name = "";
+        this.children = new ConcurrentHashMap<>();
+        this.throttle = new ErrorThrottle(DEFAULT_ERROR_INTERVAL);
         
         // Set our appending ability to the appending ability provided.
         this.append = append;
+        this.path = path;
+        this.format = format;
         
         // In order to ACTUALLY initialize our log field, we will need to
         //+ enclose it in a try...catch() block. We will also need to do this
         //+ anytime we use the log field.
         try {            
-            this.log = new FileWriter(path);
+            this.log = new RollingLogSink(Paths.get(path), format, append);
         } catch (IOException ex) {
             // We are going to simply show a message box to the user explaining
             //+ that logging setup failed and then we will turn off logging.
@@ -234,10 +355,247 @@ public class Logger {
             
             // Now that we've told the calling application that there was an 
             //+ error, we can turn logging off.
-            this.level = OFF;
+            this.levels.setDefault(OFF);
         }
     }
+    
+    /**
+     * Creates a named logger that writes to the root `Logger`'s log file.
+     * 
+     * @param root The `Logger` that owns the log file.
+     * @param name The package or class name of the new logger.
+     */
+    private Logger(Logger root, String name) {
+        this.root = root;
+        this.name = name;
+        this.levels = root.levels;
+        this.slot = root.levels.register(name);
+        this.throttle = root.throttle;
+        this.children = null;
+        this.path = root.path;
+        this.format = root.format;
+    }
     //</editor-fold>
+    
+    /**
+     * Retrieves the logger for the given package or class name, creating it
+     * the first time it is asked for. Named loggers write to the same log file
+     * as this `Logger`, but take their level from the most specific level set
+     * through {@link #setLevel(String, int)} for their name or any package
+     * that contains it, or from this `Logger`'s own level if there is none.
+     * <p>
+     * This allows, for example, debugging messages to be written for one
+     * package only, without paying the cost of debugging everywhere else.</p>
+     * 
+     * @param name The fully qualified package or class name.
+     * @return the logger for the name.
+     */
+    public Logger getLogger(String name) {
+        if ( this.root != this ) {
+            return this.root.getLogger(name);
+        }
+        
+        Logger child = this.children.get(name);
+        if ( child == null ) {
+            child = this.children.computeIfAbsent(name, 
+                    key -> new Logger(this, key));
+        }
+        return child;
+    }
+    
+    /**
+     * Retrieves the logger for the given class. This is the same as 
+     * {@link #getLogger(String)} with the class's fully qualified name.
+     * 
+     * @param cls The class that will be using the logger.
+     * @return the logger for the class.
+     */
+    public Logger getLogger(Class<?> cls) {
+        return getLogger(cls.getName());
+    }
+    
+    /**
+     * Retrieves the package or class name of this logger.
+     * 
+     * @return the name, which is empty for the root `Logger`.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Switches this `Logger` to a rolling log. The log file is replaced by a
+     * fresh file once it reaches the given size or age. The full file is
+     * renamed with the time it was rolled and compressed in the background,
+     * and the oldest compressed files are deleted once together they take more
+     * than the allowed space. As the log is written through a memory-mapped
+     * window, writing an entry costs the same however large the file has
+     * grown.
+     * <p>
+     * This must be called before {@link #setAsynchronous(int, OverflowPolicy)}.
+     * Calling it more than once, after that method, or on a `Logger` that
+     * could not open its log file, has no effect.</p>
+     * 
+     * @param maxSegmentBytes  The size, in bytes, at which the log is rolled.
+     * @param maxSegmentMillis The age, in milliseconds, at which the log is
+     *                         rolled.
+     * @param maxRetainedBytes The most space, in bytes, that the compressed
+     *                         rolled logs may take together.
+     */
+    public synchronized void setRolling(long maxSegmentBytes,
+            long maxSegmentMillis, long maxRetainedBytes) {
+        if ( this.root != this ) {
+            this.root.setRolling(maxSegmentBytes, maxSegmentMillis, 
+                    maxRetainedBytes);
+            return;
+        }
+        if ( this.async != null || this.log == null || this.closed ) {
+            return;
+        }
+
+        if ( !log.isRolling() ) {
+            log.setLimits(maxSegmentBytes, maxSegmentMillis, maxRetainedBytes);
+        }
+    }
+
+    /**
+     * Switches this `Logger` into asynchronous mode. From then on, the logging
+     * methods only place the entry into a ring buffer of preallocated slots and
+     * return; a single background thread writes the entries out in batches and
+     * flushes the file once per batch, instead of once per entry. This keeps
+     * the Swing event dispatch thread, and anything else that logs heavily,
+     * from waiting on the disk.
+     * <p>
+     * The ring buffer is split into one stripe per core, and each thread logs
+     * into its own stripe without taking any lock, so threads logging at the
+     * same time do not wait on one another. Each entry is written whole, and
+     * the entries are written in the order of their timestamps.</p>
+     * <p>
+     * Everything that has been logged is written out by {@link #close()}, or
+     * when the JVM shuts down, whichever comes first.</p>
+     * <p>
+     * Calling this method more than once, or on a `Logger` that could not open
+     * its log file, has no effect.</p>
+     *
+     * @param capacity  The number of entries the ring buffer holds, across all
+     *                  of its stripes. Each stripe is rounded up to a power of
+     *                  two.
+     * @param policy    What to do with new entries while the ring buffer is
+     *                  full.
+     */
+    public synchronized void setAsynchronous(int capacity,
+            OverflowPolicy policy) {
+        if ( this.root != this ) {
+            this.root.setAsynchronous(capacity, policy);
+            return;
+        }
+        if ( this.async != null || this.log == null || this.closed ) {
+            return;
+        }
+
+        try {
+            // Anything already written synchronously goes out first, so that
+            //+ entries stay in order.
+            log.flush();
+        } catch ( IOException ex ) {
+            String ttl = "I/O Error: Entry Not Written";
+            MessageBox.showError(ex, ttl);
+        }
+
+        this.async = new AsyncLogWriter(log, capacity, policy,
+                path + ".spill");
+
+        // The writer thread is a daemon, so make sure that whatever is still in
+        //+ the ring buffer gets written out, however the application exits.
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close,
+                "Northwind Log Shutdown"));
+    }
+
+    /**
+     * Sets how repeats of the same exception are reported by 
+     * {@link #error(Exception, String)} and 
+     * {@link #handledError(Exception, String)}. Two exceptions are the same if 
+     * they are of the same class and were thrown from the same place, which 
+     * is judged by the top few frames of their stack traces.
+     * <p>
+     * The first time an exception is reported, the full report is written. 
+     * After that, only a one-line count of how many more times it was seen is 
+     * written, and no more often than once per interval. Any counts still 
+     * pending are written when the `Logger` is closed. This keeps an error 
+     * storm, such as the same validation failure on every row of a bulk 
+     * recalculation, from burying the log and the disk.</p>
+     * <p>
+     * By default, the interval is ten (10) seconds. A class of exception may
+     * be given an interval of its own with
+     * {@link #setErrorSummaryInterval(String, long)}.</p>
+     * 
+     * @param interval The fewest milliseconds between two counts for the same
+     *                 exception, or zero (0) to write every report in full.
+     */
+    public void setErrorSummaryInterval(long interval) {
+        this.throttle.setInterval(Math.max(0, interval));
+    }
+    
+    /**
+     * Sets how repeats of one class of exception, and of its subclasses that
+     * are not given an interval of their own, are reported, in place of the
+     * interval set by {@link #setErrorSummaryInterval(long)}. An exception 
+     * that is only ever thrown for bad input, for instance, can be counted 
+     * once a minute, while one that signals a real fault is always reported
+     * in full.
+     * 
+     * @param exceptionClass The fully qualified name of the exception class,
+     *                       such as `java.lang.NumberFormatException`.
+     * @param interval       The fewest milliseconds between two counts for 
+     *                       the same exception, zero (0) to write every 
+     *                       report in full, or a negative number to go back to
+     *                       the interval of all the others.
+     */
+    public void setErrorSummaryInterval(String exceptionClass, long interval) {
+        this.throttle.setInterval(exceptionClass, interval);
+    }
+
+    /**
+     * Determines whether entries are written by a background thread.
+     *
+     * @return {@code true} if {@link #setAsynchronous(int, OverflowPolicy)}
+     *         has been called; {@code false} otherwise.
+     */
+    public boolean isAsynchronous() {
+        return this.root.async != null;
+    }
+
+    /**
+     * Retrieves the layout in which this `Logger` stores its entries.
+     * 
+     * @return the log format.
+     */
+    public LogFormat getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Retrieves the path of the file this `Logger` writes to. When the log
+     * rolls, the rolled file is renamed and a new file is started at the same
+     * path, so this is always the current log.
+     * 
+     * @return the path of the log file.
+     */
+    public String getPath() {
+        return this.root.path;
+    }
+
+    /**
+     * Waits until every entry logged before this call has been handed to the
+     * operating system. In synchronous mode, every entry is already flushed
+     * when it is logged, so this returns immediately.
+     */
+    public void flush() {
+        AsyncLogWriter writer = this.root.async;
+        if ( writer != null ) {
+            writer.flush();
+        }
+    }
 
     /**
      * This is a convenience method to allow an application to log a 
@@ -248,34 +606,71 @@ public class Logger {
      */
     public void config(String msg) {
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off and level is set to config or higher.
-        if ( this.level != OFF && this.level >= CONFIG || this.level == DEBUG) {
+        //+ logging is not turned off and level is set to config or lower.
+        if ( isLoggable(CONFIG) ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("CONFIG: " + msg, 80) + "\n");
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(CONFIG, LogEvent.MESSAGE, null, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a configuration level message that is only built if the `Logger`
+     * is going to write it. Use this when building the message is expensive.
+     * 
+     * @param msg Supplies the message to log.
+     */
+    public void config(Supplier<String> msg) {
+        if ( isLoggable(CONFIG) ) {
+            publish(CONFIG, LogEvent.MESSAGE, null, null, msg.get());
         }
     }
     
+    /**
+     * Logs a configuration level message built from a template, in which each
+     * `{}` is replaced by the next argument. The message is only built if the
+     * `Logger` is going to write it.
+     * 
+     * @param fmt  The message template.
+     * @param args The values for the `{}` placeholders in the template.
+     */
+    public void config(String fmt, Object... args) {
+        if ( isLoggable(CONFIG) ) {
+            publish(CONFIG, LogEvent.MESSAGE, null, null, format(fmt, args));
+        }
+    }
+
     /**
      * Provides the calling application with a method to close the log file
      * prior to the application exiting.
+     * <p>
+     * When the `Logger` is asynchronous, this waits until the background
+     * writer has written every entry that was logged before this call. Once
+     * closed, the `Logger` quietly ignores any further entries.</p>
      */
-    public void close() {
-        // We need to try to close the log, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF && this.level >= CONFIG ) {
-            // We're good to log the message to the log file.
+    public synchronized void close() {
+        if ( this.root != this ) {
+            this.root.close();
+            return;
+        }
+        
+        // We need to try to close the log, however, we will only do so if
+        //+ the log was opened in the first place and has not been closed.
+        if ( this.log != null && !this.closed ) {
+            // Write out the counts of repeated errors that are still pending.
+            for ( String line : this.throttle.drain() ) {
+                publish(ERROR, LogEvent.MESSAGE, null, null, line);
+            }
+            
+            this.closed = true;
+
+            if ( this.async != null ) {
+                // The writer thread drains the ring and closes the sink.
+                this.async.close();
+                return;
+            }
+
             try {
-                log.flush(); // First, flush it to be sure all data is written.
-                log.close(); // Then close the file.
+                log.close(); // Flushes everything, then closes the file.
             } catch ( IOException ex ) {
                 // Let the user know that the message was not written.
                 String ttl = "I/O Error: Entry Not Written";
@@ -308,7 +703,7 @@ public class Logger {
      */
     public void critical(Exception ex, String pkg, String cls, String method,
             String edition, String version, long build, Object[] modules) {
-        StringBuilder src = new StringBuilder();
+        StringBuilder src = reportBuilder();
         String rule = "-".repeat(80);
         
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd-HH-mm-ss");
@@ -329,14 +724,7 @@ public class Logger {
         src.append("\nMessage:     ");
         src.append(ex.getMessage());
         src.append("\nStacktrace:\n");
-        
-        StackTraceElement[] stack = ex.getStackTrace();
-        
-        for ( StackTraceElement element : stack ) {
-            src.append(element.toString());
-            src.append("\n");
-        }
-        
+        appendStackTrace(src, ex);
         src.append(rule);
         src.append("\n\n");
         src.append(" ".repeat(21));
@@ -355,93 +743,37 @@ public class Logger {
             src.append(module.toString());
         }
         
-        src.append("\n\n");
-        src.append(" ".repeat(24));
-        src.append("S Y S T E M   I N F O R M A T I O N");
-        src.append("\n\n");
-        src.append("OS.................");
-        src.append(System.getProperty("os.name"));
-        src.append("\nOS Version.........");
-        src.append(System.getProperty("os.version"));
-        src.append("\nArchitecture.......");
-        src.append(System.getProperty("os.arch"));
-        src.append("\n\n");
-        src.append(" ".repeat(26));
-        src.append("J A V A   I N F O R M A T I O N");
-        src.append("\n\n");
-        src.append("Java Virtual Machine.....");
-        src.append(System.getProperty("java.vm.name"));
-        src.append("\nJava VM Version..........");
-        src.append(System.getProperty("java.vm.version"));
-        src.append("\nJava Runtime Name........");
-        src.append(System.getProperty("java.runtime.name"));
-        src.append("\nJava Runtime Version.....");
-        src.append(System.getProperty("java.runtime.version"));
-        src.append("\nJava Specification.......");
-        src.append(System.getProperty("java.specification.name"));
-        src.append("\nJava Spec. Version.......");
-        src.append(System.getProperty("java.specification.version"));
-        src.append("\nJava Vendor..............");
-        src.append(System.getProperty("java.vendor"));
-        src.append("\nJava Version.............");
-        src.append(System.getProperty("java.version"));
-        src.append("\nJava Version Date........");
-        src.append(System.getProperty("java.version.date"));
-        src.append("\nJava Class Path..........");
-        src.append(System.getProperty("java.class.path"));
-        src.append("\nJava Class Version.......");
-        src.append(System.getProperty("java.class.version"));
-        src.append("\nJava Library Path........");
-        src.append(System.getProperty("java.library.path"));
-        src.append("\n\n");
-        src.append(" ".repeat(26));
-        src.append("\n\n");
-        src.append("User Country.............");
-        src.append(System.getProperty("user.country"));
-        src.append("\nUser Language............");
-        src.append(System.getProperty("user.language"));
-        src.append("\n\n~~~ END OF ERROR REPORT ~~~");
-        
         // Make sure of the existence of the error log path.
         File errPath = new File(ERR_PATH);
         if ( !errPath.exists() ) {
             errPath.mkdirs();
         }
         
-        // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-//        if ( this.level != OFF ) {
-            // We're good to log the message to the log file.
-            try {
-                this.err = new FileWriter(ERR_PATH + 
-                        cls.substring(cls.lastIndexOf(".") + 1) + "_" + 
-                        "class_" + timeStamp + ".err");
+        // The error file is written whether or not logging is turned off. The
+        //+ system and Java information never changes, so it was laid out and
+        //+ encoded once, by `EnvironmentInfo`.
+        try ( OutputStream err = new BufferedOutputStream(new FileOutputStream(
+                ERR_PATH + cls.substring(cls.lastIndexOf(".") + 1) + "_" 
+                + "class_" + timeStamp + ".err")) ) {
+            err.write(src.toString().getBytes(StandardCharsets.UTF_8));
+            err.write(EnvironmentInfo.CRITICAL_SECTION);
+        } catch ( IOException e ) {
+            // Let the user know that the message was not written.
+            String ttl = "I/O Error: Entry Not Written";
+            MessageBox.showError(e, ttl);
+            return;
+        }
         
-//                err.write(MSG_HDR);
-                err.write(src.toString());
-//                err.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                err.flush();
-                src = new StringBuilder();
-                src.append(MSG_HDR);
-                src.append("See error log: ");
-                src.append(StringUtils.wrapAt(ERR_PATH, 80));
-                src.append(cls);
-                src.append("_");
-                src.append(timeStamp);
-                src.append(".err\n\n");
-                
-                log.write(src.toString());
-                
-                // Flush the log.
-                log.flush();
-            } catch ( IOException e ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(e, ttl);
-            }
-//        }
+        src.setLength(0);
+        src.append(MSG_HDR);
+        src.append("See error log: ");
+        src.append(StringUtils.wrapAt(ERR_PATH, 80));
+        src.append(cls);
+        src.append("_");
+        src.append(timeStamp);
+        src.append(".err\n\n");
+
+        publish(CRITICAL, LogEvent.RAW, null, null, src.toString());
     }
     
     /**
@@ -452,20 +784,67 @@ public class Logger {
      */
     public void debug(String msg) {
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off and the level is set to debugging or
-        //+ higher.
-        if ( this.level != OFF && this.level >= DEBUG ) {
+        //+ logging is not turned off and the level is set to debugging.
+        if ( isLoggable(DEBUG) ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("DEBUG: " + msg, 80) + "\n");
-
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.MESSAGE, null, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a debugging message that is only built if the `Logger` is enabled
+     * for debugging messages. Use this when building the message is expensive,
+     * for example, when it calls `toString` on a large object.
+     * 
+     * @param msg Supplies the message to log.
+     */
+    public void debug(Supplier<String> msg) {
+        if ( isLoggable(DEBUG) ) {
+            publish(DEBUG, LogEvent.MESSAGE, null, null, msg.get());
+        }
+    }
+    
+    /**
+     * Logs a debugging message built from a template, in which the `{}` is
+     * replaced by the given value. Nothing is built, and nothing is boxed, 
+     * unless the `Logger` is enabled for debugging messages.
+     * 
+     * @param fmt The message template.
+     * @param arg The value for the `{}` placeholder in the template.
+     */
+    public void debug(String fmt, double arg) {
+        if ( isLoggable(DEBUG) ) {
+            publish(DEBUG, LogEvent.MESSAGE, null, null, 
+                    format(fmt, new Object[] { arg }));
+        }
+    }
+    
+    /**
+     * Logs a debugging message built from a template, in which the `{}` is
+     * replaced by the given value. The message is only built if the `Logger`
+     * is enabled for debugging messages.
+     * 
+     * @param fmt The message template.
+     * @param arg The value for the `{}` placeholder in the template.
+     */
+    public void debug(String fmt, Object arg) {
+        if ( isLoggable(DEBUG) ) {
+            publish(DEBUG, LogEvent.MESSAGE, null, null, 
+                    format(fmt, new Object[] { arg }));
+        }
+    }
+    
+    /**
+     * Logs a debugging message built from a template, in which each `{}` is
+     * replaced by the next argument. The message is only built if the `Logger`
+     * is enabled for debugging messages.
+     * 
+     * @param fmt  The message template.
+     * @param args The values for the `{}` placeholders in the template.
+     */
+    public void debug(String fmt, Object... args) {
+        if ( isLoggable(DEBUG) ) {
+            publish(DEBUG, LogEvent.MESSAGE, null, null, format(fmt, args));
         }
     }
     
@@ -480,21 +859,9 @@ public class Logger {
     public void enter(String sourceClass, String sourceMethod) {
         // We need to try to log the message, however, we will only do so if 
         //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(MSG_HDR);
-                log.write(" -> " + LocalDateTime.now().toString() + "\n");
-                log.write(StringUtils.wrapAt("Entering: " + sourceClass + "." 
-                        + sourceMethod, 80) + "\n");
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, null);
         }
     }
     
@@ -508,25 +875,30 @@ public class Logger {
      * @param param         The parameter being passed to the method.
      */
     public void enter(String sourceClass, String sourceMethod, Object param) {
-        // We need to build our source before we write to the file.
-        String src = sourceClass + "." + sourceMethod + "( " + param + " )";
-        
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(MSG_HDR);
-                log.write(" -> " + LocalDateTime.now().toString() + "\n");
-                log.write(StringUtils.wrapAt("Entering: " + src, 80) + "\n");
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    "( " + param + " )");
+        }
+    }
+    
+    /**
+     * As long as the `Logger` is not `OFF`, then an entry message to a method
+     * will be written to the file, regardless of logging level. The parameters
+     * are only gathered when the message is actually going to be written.
+     * 
+     * @param sourceClass   The class the method being entered belongs to.
+     * @param sourceMethod  The name of the method being entered.
+     * @param params        Supplies the parameters passed to the method.
+     */
+    public void enter(String sourceClass, String sourceMethod, 
+            Supplier<Object[]> params) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, params.get(), 
+                            null));
         }
     }
     
@@ -540,119 +912,146 @@ public class Logger {
      * @param params        An array of the parameters passed to the method.
      */
     public void enter(String sourceClass, String sourceMethod, Object[] params) {
-        // We need to build our source before we write to the file.
-        String src = sourceClass + "." + sourceMethod + "( ";
-        String pars = "";
-        
-        for ( int idx = 0; idx < params.length; idx++ ) {
-            pars += params[idx];
-            if ( idx < params.length ) 
-                pars += "\n" + " ".repeat(src.length());
-            else
-                pars += " )";
-        }
-        
-        // Add our params to the source.
-        src += pars;
-        
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(MSG_HDR);
-                log.write(" -> " + LocalDateTime.now().toString() + "\n");
-                log.write(StringUtils.wrapAt("Entering: " + src, 80) + "\n");
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, params, null));
         }
     }
     
     /**
-     * Logs a non-critical error to the log file, typically, when it is thrown
-     * and just before the program recovers from it. This should only be used 
-     * for recoverable errors in the program. Any other errors, which are 
-     * unrecoverable, should be logged through the `critical` method, just 
-     * before the application exits.
-     * <p>
-     * The `extraData` parameter should contain information pertinent to the
-     * user within the context of your application. The `error` logging method
-     * places system and Java information into the message by default. All of
-     * this extraneous information should aid the software designers, programmers
-     * and engineers to be able to track down the error to a specific cause,
-     * thereby allowing them to correct the application easier and quicker.</p>
+     * As long as the `Logger` is not `OFF`, then an entry message to a method
+     * with two (2) `double` parameters will be written to the file, regardless
+     * of logging level. Nothing is boxed unless the message is written.
      * 
-     * @param ex        The `Exception` that was thrown.
-     * @param extraData Any extra data, such as user information, that may be
-     *                  critical to hunting down the error.
+     * @param sourceClass   The class the method being entered belongs to.
+     * @param sourceMethod  The name of the method being entered.
+     * @param param1        The first parameter passed to the method.
+     * @param param2        The second parameter passed to the method.
      */
-    public void error(Exception ex, String extraData) {
-        // We need to create our message with the Exception and extra data that
-        //+ has been provided.
-        String src = "#".repeat(80) + "\n";
-        src += "#".repeat(40 - (" E R R O R ".length() / 2)) + " E R R O R ";
-        src += "#".repeat(39 - (" E R R O R ".length() / 2)) + "\n";
-        src += "Message: " + ex.getMessage() + "\n";
-        if ( ex.getCause() != null )
-            src += "Source: " + ex.getCause().toString() + "\n";
-        src += extraData + "\n\nStacktrace:\n";
-        
-        StackTraceElement[] stack = ex.getStackTrace();
-        
-        for ( StackTraceElement element : stack ) {
-            src += element.toString() + "\n";
+    public void enter(String sourceClass, String sourceMethod, double param1,
+            double param2) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, 
+                            new Object[] { param1, param2 }, null));
         }
-        
-        src += "#".repeat(40 - (" E N D   O F   E R R O R ".length() / 2));
-        src += " E N D   O F   E R R O R ";
-        src += "#".repeat(39 - (" E N D   O F   E R R O R ".length() / 2)) + "\n\n";
-        src += " ".repeat(40 - ("USER INFORMATION".length() / 2));
-        src += "USER INFORMATION"+  "\n\n";
-        src += extraData + "\n";
-        src += " ".repeat(40 - ("SYSTEM INFORMATION".length() / 2)) + "\n\n";
-        src += "SYSTEM INFORMATION" + "\n\n";
-        src += "OS\t\t" + System.getProperty("os.name") + "\n";
-        src += "OS Version:\t" + System.getProperty("os.version") + "\n";
-        src += "Architecture:\t" + System.getProperty("os.arch") + "\n\n";
-        src += " ".repeat(40 - ("JAVA INFORMATION".length() / 2)) + "\n\n";
-        src += "JAVA INFORMATION" + "\n\n";
-        src += "Java Virtual Machine: " + System.getProperty("java.vm.name") + "\n";
-        src += "Java VM Version:\t" + System.getProperty("java.vm.version") + "\n";
-        src += "Java Runtime:\t" + System.getProperty("java.runtime.name") + "\n";
-        src += "Java Runtime Version: " + System.getProperty("java.runtime.version") + "\n";
-        src += "Java Specification:\t" + System.getProperty("java.specification.name") + "\n";
-        src += "Java Spec. Version:\t" + System.getProperty("java.specification.version") + "\n";
-        src += "\n";
-        src += "JDK Module Path:\t" + System.getProperty("jdk.module.path") + "\n";
-        src += "\n";
-        src += "Java Library Path:\t" + System.getProperty("java.library.path") + "\n";
-        src += "\n -> " + LocalDateTime.now().toString();
-        
-        // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
-            // We're good to log the message to the log file.
-            try {
-                log.write(MSG_HDR);
-                log.write(src);
-                log.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException e ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(e, ttl);
-            }
+    }
+    
+    /**
+     * As long as the `Logger` is not `OFF`, then an entry message to a method
+     * with three (3) `double` parameters will be written to the file, 
+     * regardless of logging level. Nothing is boxed unless the message is 
+     * written.
+     * 
+     * @param sourceClass   The class the method being entered belongs to.
+     * @param sourceMethod  The name of the method being entered.
+     * @param param1        The first parameter passed to the method.
+     * @param param2        The second parameter passed to the method.
+     * @param param3        The third parameter passed to the method.
+     */
+    public void enter(String sourceClass, String sourceMethod, double param1,
+            double param2, double param3) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, 
+                            new Object[] { param1, param2, param3 }, null));
         }
     }
     
+    /**
+     * As long as the `Logger` is not `OFF`, then an entry message to a method
+     * with two (2) parameters will be written to the file, regardless of 
+     * logging level. The parameter list is only built if the message is 
+     * written.
+     * 
+     * @param sourceClass   The class the method being entered belongs to.
+     * @param sourceMethod  The name of the method being entered.
+     * @param param1        The first parameter passed to the method.
+     * @param param2        The second parameter passed to the method.
+     */
+    public void enter(String sourceClass, String sourceMethod, Object param1,
+            Object param2) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, 
+                            new Object[] { param1, param2 }, null));
+        }
+    }
+    
+    /**
+     * As long as the `Logger` is not `OFF`, then an entry message to a method
+     * with three (3) parameters will be written to the file, regardless of 
+     * logging level. The parameter list is only built if the message is 
+     * written.
+     * 
+     * @param sourceClass   The class the method being entered belongs to.
+     * @param sourceMethod  The name of the method being entered.
+     * @param param1        The first parameter passed to the method.
+     * @param param2        The second parameter passed to the method.
+     * @param param3        The third parameter passed to the method.
+     */
+    public void enter(String sourceClass, String sourceMethod, Object param1,
+            Object param2, Object param3) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.ENTER, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, 
+                            new Object[] { param1, param2, param3 }, null));
+        }
+    }
+    
+    /**
+     * Logs a non-critical error to the log file, typically, when it is thrown
+     * and just before the program recovers from it. This should only be used 
+     * for recoverable errors in the program. Any other errors, which are 
+     * unrecoverable, should be logged through the `critical` method, just 
+     * before the application exits.
+     * <p>
+     * The `extraData` parameter should contain information pertinent to the
+     * user within the context of your application. The `error` logging method
+     * places system and Java information into the message by default. All of
+     * this extraneous information should aid the software designers, programmers
+     * and engineers to be able to track down the error to a specific cause,
+     * thereby allowing them to correct the application easier and quicker.</p>
+     * <p>
+     * Repeats of an exception that has already been reported are counted 
+     * instead; see {@link #setErrorSummaryInterval(long)}.</p>
+     * 
+     * @param ex        The `Exception` that was thrown.
+     * @param extraData Any extra data, such as user information, that may be
+     *                  critical to hunting down the error.
+     */
+    public void error(Exception ex, String extraData) {
+        // We need to try to log the message, however, we will only do so if 
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) == OFF || throttled(ex, false) ) {
+            return;
+        }
+        
+        // We need to create our message with the Exception and extra data that
+        //+ has been provided. The system and Java information never changes,
+        //+ so it was laid out once, by `EnvironmentInfo`.
+        StringBuilder src = reportBuilder();
+        src.append(ERROR_BANNER);
+        src.append("Message: ").append(ex.getMessage()).append("\n");
+        if ( ex.getCause() != null ) {
+            src.append("Source: ").append(ex.getCause()).append("\n");
+        }
+        src.append(extraData).append("\n\nStacktrace:\n");
+        appendStackTrace(src, ex);
+        src.append(END_OF_ERROR_BANNER).append("\n\n");
+        src.append(" ".repeat(40 - ("USER INFORMATION".length() / 2)));
+        src.append("USER INFORMATION\n\n");
+        src.append(extraData).append("\n");
+        src.append(EnvironmentInfo.ERROR_SECTION);
+        src.append("\n -> ").append(LocalDateTime.now());
+        
+        // We're good to log the message to the log file.
+        publish(ERROR, LogEvent.BLOCK, null, null, src.toString());
+    }
+    
     /**
      * As long as `Logging` is not `OFF`, then a message will be written to the
      * log file whenever control passes back out of the method that has no
@@ -664,21 +1063,9 @@ public class Logger {
     public void exit(String sourceClass, String sourceMethod) {
         // We need to try to log the message, however, we will only do so if 
         //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("Exiting: " + sourceClass + "." 
-                        + sourceMethod, 80));
-                log.write("\n -> " + LocalDateTime.now().toString());
-                log.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, null);
         }
     }
     
@@ -692,25 +1079,80 @@ public class Logger {
      * @param returnValue   The name of the return variable.
      */
     public void exit(String sourceClass, String sourceMethod, Object returnValue) {
-        // We need to build up our string to print.
-        String src = sourceClass + "." + sourceMethod + " :: " + returnValue;
-        
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("Exiting: " + src, 80));
-                log.write("\n -> " + LocalDateTime.now().toString());
-                log.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    " :: " + returnValue);
+        }
+    }
+    
+    /**
+     * As long as `Logging` is not `OFF`, then a message will be written to the
+     * log file whenever control passes back out of the method. The return 
+     * value is only gathered when the message is actually going to be written.
+     * 
+     * @param sourceClass   The class to which the method being exited belongs.
+     * @param sourceMethod  The name of the method being exited.
+     * @param returnValue   Supplies the value being returned.
+     */
+    public void exit(String sourceClass, String sourceMethod, 
+            Supplier<?> returnValue) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    " :: " + returnValue.get());
+        }
+    }
+    
+    /**
+     * As long as `Logging` is not `OFF`, then a message will be written to the
+     * log file whenever control passes back out of the method that returns a
+     * `double`. Nothing is boxed unless the message is written.
+     * 
+     * @param sourceClass   The class to which the method being exited belongs.
+     * @param sourceMethod  The name of the method being exited.
+     * @param returnValue   The value being returned.
+     */
+    public void exit(String sourceClass, String sourceMethod, 
+            double returnValue) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    " :: " + returnValue);
+        }
+    }
+    
+    /**
+     * As long as `Logging` is not `OFF`, then a message will be written to the
+     * log file whenever control passes back out of the method that returns a
+     * whole number. Nothing is boxed unless the message is written.
+     * 
+     * @param sourceClass   The class to which the method being exited belongs.
+     * @param sourceMethod  The name of the method being exited.
+     * @param returnValue   The value being returned.
+     */
+    public void exit(String sourceClass, String sourceMethod, 
+            long returnValue) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    " :: " + returnValue);
+        }
+    }
+    
+    /**
+     * As long as `Logging` is not `OFF`, then a message will be written to the
+     * log file whenever control passes back out of the method that returns a
+     * `boolean`.
+     * 
+     * @param sourceClass   The class to which the method being exited belongs.
+     * @param sourceMethod  The name of the method being exited.
+     * @param returnValue   The value being returned.
+     */
+    public void exit(String sourceClass, String sourceMethod, 
+            boolean returnValue) {
+        if ( levels.get(slot) != OFF ) {
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    " :: " + returnValue);
         }
     }
     
@@ -726,63 +1168,34 @@ public class Logger {
      */
     public void exit(String sourceClass, String sourceMethod, Object param,
                      Object returnValue) {
-        // We need to build up our string to print.
-        String src = sourceClass + "." + sourceMethod  + "(" + param;
-        src += ") :: " + returnValue;
-        
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("Exiting: " + src, 80));
-                log.write("\n -> " + LocalDateTime.now().toString());
-                log.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    "(" + param + ") :: " + returnValue);
         }
     }
     
-    
+    /**
+     * As long as `Logging` is not `OFF`, then a message will be written to the
+     * log file whenever control passes back out of the method that has a return
+     * value and multiple parameters.
+     * 
+     * @param sourceClass   The class to which the method being exited belongs.
+     * @param sourceMethod  The name of the method being exited.
+     * @param params        An array of the parameters passed to the method.
+     * @param returnValue   The name of the return variable.
+     */
     public void exit(String sourceClass, String sourceMethod, Object[] params, 
                      Object returnValue) {
-        // We need to build our source before we write to the file.
-        String src = sourceClass + "." + sourceMethod + "( ";
-        String pars = "";
-        
-        for ( int idx = 0; idx < params.length; idx++ ) {
-            pars += params[idx];
-            if ( idx < params.length ) 
-                pars += "\n" + " ".repeat(src.length());
-            else
-                pars += " )";
-        }
-        
-        // Add our params to the source.
-        src += pars + " :: " + returnValue;
-        
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) != OFF ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("Exiting: " + src, 80));
-                log.write("\n -> " + LocalDateTime.now().toString());
-                log.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(DEBUG, LogEvent.EXIT, sourceClass, sourceMethod, 
+                    parameterList(sourceClass, sourceMethod, params, 
+                            returnValue));
         }
     }
     
@@ -795,7 +1208,7 @@ public class Logger {
      * @return The currently set logging level.
      */
     public int getLevel() {
-        return this.level;
+        return levels.get(slot);
     }
     
     /**
@@ -807,53 +1220,39 @@ public class Logger {
      * <p>
      * The `extraData` parameter should contain information pertinent to the
      * user within the context of your application..</p>
+     * <p>
+     * Repeats of an exception that has already been reported are counted 
+     * instead; see {@link #setErrorSummaryInterval(long)}.</p>
      * 
      * @param ex        The `Exception` that was thrown.
      * @param extraData Any extra data, such as user information, that may be
      *                  critical to hunting down the error.
      */
     public void handledError(Exception ex, String extraData) {
+        // We need to try to log the message, however, we will only do so if 
+        //+ logging is not turned off. Nothing gets built until we know that.
+        if ( levels.get(slot) == OFF || throttled(ex, true) ) {
+            return;
+        }
+        
         // We need to create our message with the Exception and extra data that
         //+ has been provided.
-        String src = "#".repeat(80) + "\n";
-        src += "#".repeat(40 - (" E R R O R ".length() / 2)) + " E R R O R ";
-        src += "#".repeat(39 - (" E R R O R ".length() / 2)) + "\n";
-        src += "Message: " + ex.getMessage() + "\n";
-        if ( ex.getCause() != null )
-            src += "Source: " + ex.getCause().toString() + "\n";
-        src += " ".repeat(40 - ("Extra Data".length() / 2));
-        src += "EXTRA DATA"+  "\n\n";
-        src += extraData + "\n";
-        src += "\nStacktrace:\n";
-        
-        StackTraceElement[] stack = ex.getStackTrace();
-        
-        for ( StackTraceElement element : stack ) {
-            src += element.toString() + "\n";
+        StringBuilder src = reportBuilder();
+        src.append(ERROR_BANNER);
+        src.append("Message: ").append(ex.getMessage()).append("\n");
+        if ( ex.getCause() != null ) {
+            src.append("Source: ").append(ex.getCause()).append("\n");
         }
+        src.append(" ".repeat(40 - ("Extra Data".length() / 2)));
+        src.append("EXTRA DATA\n\n");
+        src.append(extraData).append("\n");
+        src.append("\nStacktrace:\n");
+        appendStackTrace(src, ex);
+        src.append(END_OF_ERROR_BANNER);
+        src.append("\n -> ").append(LocalDateTime.now());
         
-        src += "#".repeat(40 - (" E N D   O F   E R R O R ".length() / 2));
-        src += " E N D   O F   E R R O R ";
-        src += "#".repeat(39 - (" E N D   O F   E R R O R ".length() / 2));
-        src += "\n -> " + LocalDateTime.now().toString();
-        
-        // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off.
-        if ( this.level != OFF ) {
-            // We're good to log the message to the log file.
-            try {
-                log.write(MSG_HDR);
-                log.write(src);
-                log.write(MSG_FTR);
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException e ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(e, ttl);
-            }
-        }
+        // We're good to log the message to the log file.
+        publish(ERROR, LogEvent.BLOCK, null, null, src.toString());
     }
     
     /**
@@ -866,25 +1265,200 @@ public class Logger {
      */
     public void info(String msg) {
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off and the level is set to info or higher.
-        if ( this.level != OFF && this.level >= INFO || this.level == DEBUG ) {
+        //+ logging is not turned off and the level is set to info or lower.
+        if ( isLoggable(INFO) ) {
             // We're good to log the message to the log file.
-            try {
-                log.write(StringUtils.wrapAt("INFO: " + msg, 80) + "\n");
-                
-                // Now, flush the buffer to be sure the data was written.
-                log.flush();
-            } catch ( IOException ex ) {
-                // Let the user know that the message was not written.
-                String ttl = "I/O Error: Entry Not Written";
-                MessageBox.showError(ex, ttl);
-            }
+            publish(INFO, LogEvent.MESSAGE, null, null, msg);
         }
     }
     
+    /**
+     * Logs an informational message that is only built if the `Logger` is 
+     * going to write it.
+     * 
+     * @param msg Supplies the message to log.
+     */
+    public void info(Supplier<String> msg) {
+        if ( isLoggable(INFO) ) {
+            publish(INFO, LogEvent.MESSAGE, null, null, msg.get());
+        }
+    }
+    
+    /**
+     * Logs an informational message built from a template, in which each `{}`
+     * is replaced by the next argument. The message is only built if the
+     * `Logger` is going to write it.
+     * 
+     * @param fmt  The message template.
+     * @param args The values for the `{}` placeholders in the template.
+     */
+    public void info(String fmt, Object... args) {
+        if ( isLoggable(INFO) ) {
+            publish(INFO, LogEvent.MESSAGE, null, null, format(fmt, args));
+        }
+    }
     
+    /**
+     * Determines whether a message at the given level would be written to the
+     * log file. Callers that need to do real work to gather the data for a
+     * message can check this first, and skip that work when the message would
+     * be thrown away anyway.
+     * 
+     * @param msgLevel The level of the message.
+     * @return `true` if the message would be logged; `false` otherwise.
+     */
+    public boolean isLoggable(int msgLevel) {
+        // A single volatile read: the levels are worked out ahead of time.
+        int lvl = levels.get(slot);
+        return lvl != OFF && msgLevel >= lvl;
+    }
+    
+    /**
+     * Determines whether debugging messages are being written to the log file.
+     * 
+     * @return `true` if the level is `DEBUG`; `false` otherwise.
+     */
+    public boolean isDebugEnabled() {
+        return isLoggable(DEBUG);
+    }
+    
+    /**
+     * Determines whether method entry and exit messages are being written to
+     * the log file, which they are at every level, unless logging is `OFF`.
+     * 
+     * @return `true` if logging is not `OFF`; `false` otherwise.
+     */
+    public boolean isTracing() {
+        return levels.get(slot) != OFF;
+    }
+    
+
+    /**
+     * Sets the level of this logger. For the root `Logger`, this is the level
+     * of every named logger that has no level set for its name or any of its
+     * packages. For a named logger, it is the same as calling 
+     * {@link #setLevel(String, int)} with its name.
+     * 
+     * @param logLevel The new level.
+     * @throws InvalidLoggingLevelException in the event the level is not one
+     *         of the logging levels.
+     */
     public void setLevel(int logLevel) throws InvalidLoggingLevelException {
         // Validate the data before we set it to our field.
+        checkLevel(logLevel);
+        if ( this.root != this ) {
+            levels.set(this.name, logLevel);
+        } else {
+            levels.setDefault(logLevel);
+        }
+    }
+    
+    /**
+     * Sets the level for a package or class, which applies to every named 
+     * logger with that name or inside of that package, unless a more specific
+     * name has a level of its own. For example, with 
+     * `com.pekinsoft.northwind` set to `WARN` and 
+     * `com.pekinsoft.northwind.basic.modules` set to `DEBUG`, the modules 
+     * package writes debugging messages and the rest of the application only 
+     * writes warnings and errors.
+     * 
+     * @param name     The fully qualified package or class name.
+     * @param logLevel The level for the name.
+     * @throws InvalidLoggingLevelException in the event the level is not one
+     *         of the logging levels.
+     */
+    public void setLevel(String name, int logLevel) 
+            throws InvalidLoggingLevelException {
+        checkLevel(logLevel);
+        levels.set(name, logLevel);
+    }
+    
+    /**
+     * Removes the level set for a package or class, so that it takes its level
+     * from the package that contains it again.
+     * 
+     * @param name The fully qualified package or class name.
+     */
+    public void clearLevel(String name) {
+        levels.clear(name);
+    }
+    
+    /**
+     * Sets all of the levels at once from a set of properties. The property
+     * `log.level`, if present, sets the default level, and each property
+     * named `log.level.` followed by a package or class name sets the level
+     * for that name. Levels set by name that are not in the properties are
+     * removed.
+     * <p>
+     * The new levels take effect all at once: a message being logged on 
+     * another thread sees either all of the old levels or all of the new 
+     * ones. If any of the values is not a level, nothing is changed.</p>
+     * 
+     * @param props The properties holding the levels, such as those read from
+     *              a `logging.properties` file.
+     * @throws InvalidLoggingLevelException in the event any of the values is 
+     *         not the name of a logging level.
+     */
+    public void configure(Properties props) 
+            throws InvalidLoggingLevelException {
+        int defaultLevel = levels.getDefault();
+        Map<String, Integer> thresholds = new HashMap<>();
+        for ( String key : props.stringPropertyNames() ) {
+            if ( key.equals("log.level") ) {
+                defaultLevel = parseLevel(props.getProperty(key));
+            } else if ( key.startsWith("log.level.") ) {
+                thresholds.put(key.substring("log.level.".length()), 
+                        parseLevel(props.getProperty(key)));
+            }
+        }
+        levels.replace(defaultLevel, thresholds);
+    }
+    
+    /**
+     * Retrieves the levels that have been set by package or class name.
+     * 
+     * @return a copy of the levels, by name.
+     */
+    public Map<String, Integer> getLevels() {
+        return levels.getThresholds();
+    }
+    
+    /**
+     * Converts the name of a level, such as `DEBUG` or `warning`, to the 
+     * level. `WARNING` is accepted for `WARN`, as that is how warnings appear
+     * in the log.
+     * 
+     * @param levelName The name of the level, in any case.
+     * @return the level.
+     * @throws InvalidLoggingLevelException in the event the name is not the 
+     *         name of a logging level.
+     */
+    public static int parseLevel(String levelName) 
+            throws InvalidLoggingLevelException {
+        switch ( levelName.trim().toUpperCase() ) {
+            case "DEBUG":
+                return DEBUG;
+            case "CONFIG":
+                return CONFIG;
+            case "INFO":
+                return INFO;
+            case "WARN":
+            case "WARNING":
+                return WARN;
+            case "ERROR":
+                return ERROR;
+            case "CRITICAL":
+                return CRITICAL;
+            case "OFF":
+                return OFF;
+            default:
+                throw new InvalidLoggingLevelException("The level (" +
+                        levelName + ") is not a valid logging level.");
+        }
+    }
+    
+    private static void checkLevel(int logLevel) 
+            throws InvalidLoggingLevelException {
         switch ( logLevel ) {
             case DEBUG:
             case CONFIG:
@@ -893,7 +1467,6 @@ public class Logger {
             case ERROR:
             case CRITICAL:
             case OFF:
-                this.level = logLevel;
                 break;
             default:
                 throw new InvalidLoggingLevelException("The level (" +
@@ -916,19 +1489,198 @@ public class Logger {
      */
     public void warning(String msg) {
         // We need to try to log the message, however, we will only do so if 
-        //+ logging is not turned off and the level is set to warning or higher.
-        if ( this.level != OFF && this.level >= WARN || this.level == DEBUG ) {
+        //+ logging is not turned off and the level is set to warning or lower.
+        if ( isLoggable(WARN) ) {
             // We're good to log the message to the log file.
+            publish(WARN, LogEvent.MESSAGE, null, null, msg);
+        }
+    }
+    
+    /**
+     * Logs a warning message that is only built if the `Logger` is going to
+     * write it.
+     * 
+     * @param msg Supplies the warning message to log.
+     */
+    public void warning(Supplier<String> msg) {
+        if ( isLoggable(WARN) ) {
+            publish(WARN, LogEvent.MESSAGE, null, null, msg.get());
+        }
+    }
+    
+    /**
+     * Logs a warning message built from a template, in which each `{}` is
+     * replaced by the next argument. The message is only built if the `Logger`
+     * is going to write it.
+     * 
+     * @param fmt  The warning message template.
+     * @param args The values for the `{}` placeholders in the template.
+     */
+    public void warning(String fmt, Object... args) {
+        if ( isLoggable(WARN) ) {
+            publish(WARN, LogEvent.MESSAGE, null, null, format(fmt, args));
+        }
+    }
+    
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    /**
+     * Decides whether a full report is skipped because the same exception has
+     * been reported recently, writing the count of repeats if it is due.
+     * 
+     * @return {@code true} if the full report is not to be written.
+     */
+    private boolean throttled(Exception ex, boolean handled) {
+        ErrorThrottle errors = this.throttle;
+        long count = errors.check(ex, handled, System.currentTimeMillis());
+        if ( count == ErrorThrottle.REPORT ) {
+            return false;
+        }
+        if ( count > 0 ) {
+            publish(ERROR, LogEvent.MESSAGE, null, null, 
+                    errors.summary(ex, count));
+        }
+        return true;
+    }
+    
+    /**
+     * Hands out this thread's buffer for building an error report, emptied.
+     */
+    private static StringBuilder reportBuilder() {
+        StringBuilder src = REPORT.get();
+        if ( src.capacity() > REPORT_LIMIT ) {
+            src = new StringBuilder(REPORT_CAPACITY);
+            REPORT.set(src);
+        }
+        src.setLength(0);
+        return src;
+    }
+    
+    private static void appendStackTrace(StringBuilder src, Exception ex) {
+        for ( StackTraceElement element : ex.getStackTrace() ) {
+            src.append(element).append("\n");
+        }
+    }
+    
+    /**
+     * Builds the parameter list for a method entry or exit message, with each
+     * parameter on its own line, lined up under the first one.
+     * 
+     * @param returnValue   The value returned from the method, or `null` for
+     *                      an entry message.
+     */
+    private static String parameterList(String sourceClass, 
+            String sourceMethod, Object[] params, Object returnValue) {
+        int indent = sourceClass.length() + sourceMethod.length() + 3;
+        StringBuilder sb = textBuilder();
+        sb.append("( ");
+        
+        for ( int idx = 0; idx < params.length; idx++ ) {
+            if ( idx > 0 ) {
+                sb.append('\n');
+                for ( int col = 0; col < indent; col++ ) {
+                    sb.append(' ');
+                }
+            }
+            sb.append(params[idx]);
+        }
+        sb.append(" )");
+        
+        if ( returnValue != null ) {
+            sb.append(" :: ").append(returnValue);
+        }
+        
+        return release(sb);
+    }
+    
+    /**
+     * Fills in a message template by replacing each `{}` with the next of the
+     * given arguments. Placeholders without a matching argument are left as
+     * they are, and arguments without a placeholder are ignored.
+     */
+    private static String format(String fmt, Object[] args) {
+        if ( fmt == null || args == null || args.length == 0 ) {
+            return fmt;
+        }
+        
+        StringBuilder sb = textBuilder();
+        int argIdx = 0;
+        int start = 0;
+        int pos;
+        
+        while ( argIdx < args.length 
+                && (pos = fmt.indexOf("{}", start)) >= 0 ) {
+            sb.append(fmt, start, pos).append(args[argIdx++]);
+            start = pos + 2;
+        }
+        sb.append(fmt, start, fmt.length());
+        
+        return release(sb);
+    }
+    
+    /**
+     * Hands out this thread's buffer for building a message. An argument whose
+     * `toString` logs a message of its own can ask for the buffer while it is
+     * still being filled, in which case it gets a new one.
+     */
+    private static StringBuilder textBuilder() {
+        StringBuilder sb = TEXT.get();
+        return sb.length() == 0 ? sb : new StringBuilder(TEXT_CAPACITY);
+    }
+    
+    /**
+     * Takes the message out of a buffer from {@link #textBuilder()} and
+     * empties it for the next one. A buffer that has grown past the limit is
+     * not kept.
+     */
+    private static String release(StringBuilder sb) {
+        String text = sb.toString();
+        if ( sb == TEXT.get() ) {
+            if ( sb.capacity() > TEXT_LIMIT ) {
+                TEXT.set(new StringBuilder(TEXT_CAPACITY));
+            } else {
+                sb.setLength(0);
+            }
+        }
+        return text;
+    }
+    
+    /**
+     * Sends a single entry to the log. In asynchronous mode, the entry is only
+     * placed in the ring buffer for the writer thread; otherwise, it is written
+     * and flushed before this method returns.
+     */
+    private void publish(int lvl, int kind, String sourceClass,
+            String sourceMethod, String message) {
+        long now = System.currentTimeMillis();
+        
+        // Named loggers write through the root, which owns the log file.
+        Logger owner = this.root;
+        AsyncLogWriter writer = owner.async;
+        if ( writer != null ) {
+            writer.offer(now, lvl, kind, sourceClass, sourceMethod, message);
+            return;
+        }
+        
+        synchronized ( owner ) {
+            if ( owner.closed || owner.log == null ) {
+                return;
+            }
+            
             try {
-                log.write(StringUtils.wrapAt("WARNING: " + msg, 80) + "\n");
+                owner.event.set(now, lvl, kind, sourceClass, sourceMethod, 
+                        message);
+                owner.log.append(owner.event);
                 
                 // Now, flush the buffer to be sure the data was written.
-                log.flush();
+                owner.log.flush();
             } catch ( IOException ex ) {
                 // Let the user know that the message was not written.
                 String ttl = "I/O Error: Entry Not Written";
                 MessageBox.showError(ex, ttl);
+            } finally {
+                owner.event.clear();
             }
         }
     }
+    //</editor-fold>
 }
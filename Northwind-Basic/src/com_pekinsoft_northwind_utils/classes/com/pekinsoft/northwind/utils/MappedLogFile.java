@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   MappedLogFile.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 2:10:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An output stream that writes a log file through a memory-mapped window
+ * instead of through `write` calls to the operating system. Writing an entry
+ * is then just a copy into memory, no matter how large the file grows, and
+ * the operating system writes the pages out in the background.
+ * <p>
+ * Mapping a window past the end of the file grows the file, so until the
+ * stream is closed the file ends in unused, zero-filled space. Closing the
+ * stream cuts the file back to what was actually written. If the application
+ * dies before then, the next stream opened on the file for appending finds
+ * the real end by skipping back over the zeros. Neither log format ever ends
+ * an entry with a zero (0) byte, so this is always safe.</p>
+ * <p>
+ * Windows will not cut short or rename a file while any part of it is
+ * mapped, and Java only lets go of a mapping once the buffer is garbage
+ * collected. Each window is therefore unmapped by hand as soon as it is done
+ * with, so that the file can be cut back when it is closed, and renamed when
+ * the log rolls.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class MappedLogFile extends OutputStream {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    // The size of the mapped window. Moving the window costs a system call,
+    //+ so this is large enough for that to be rare.
+    private static final int WINDOW_SIZE = 1 << 20;
+    
+    // `Unsafe.invokeCleaner`, which unmaps a buffer at once, or `null` if
+    //+ this Java does not have it, in which case each window is left to the
+    //+ garbage collector.
+    private static final MethodHandle UNMAP = findUnmap();
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final FileChannel channel;
+    private MappedByteBuffer window;
+    private long position;      // The number of bytes actually written.
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Opens the given file, creating it if needed.
+     *
+     * @param file   the file to write.
+     * @param append {@code true} to add to the end of an existing file;
+     *               {@code false} to empty it first.
+     * @throws IOException in the event the file cannot be opened or mapped.
+     */
+    MappedLogFile(Path file, boolean append) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if ( append ) {
+            this.position = dataEnd(channel);
+        } else {
+            this.channel.truncate(0);
+        }
+        map(position);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * @return the number of bytes in the file, not counting the unused space
+     *         at the end of the mapped window.
+     */
+    long size() {
+        return position;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="OutputStream Methods">
+    @Override
+    public void write(int b) throws IOException {
+        if ( !window.hasRemaining() ) {
+            map(position);
+        }
+        window.put((byte) b);
+        position++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        while ( length > 0 ) {
+            if ( !window.hasRemaining() ) {
+                map(position);
+            }
+            int count = Math.min(length, window.remaining());
+            window.put(bytes, offset, count);
+            position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Does nothing: everything written is already in the operating system's
+     * page cache, and will be written to disk even if the application dies.
+     */
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws IOException {
+        if ( !channel.isOpen() ) {
+            return;
+        }
+        unmap();
+        try {
+            channel.truncate(position);
+        } catch ( IOException ex ) {
+            // The window could not be unmapped, so the zeros stay at the end
+            //+ of the file, and are skipped over when it is next opened.
+        } finally {
+            channel.close();
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void map(long start) throws IOException {
+        unmap();
+        window = channel.map(FileChannel.MapMode.READ_WRITE, start,
+                WINDOW_SIZE);
+    }
+
+    /**
+     * Lets go of the current window. It must never be touched again
+     * afterwards, as the memory behind it is gone.
+     */
+    private void unmap() {
+        MappedByteBuffer old = window;
+        window = null;
+        if ( old == null || UNMAP == null ) {
+            return;
+        }
+        try {
+            UNMAP.invokeExact(old);
+        } catch ( Throwable ex ) {
+            // Left to the garbage collector after all.
+        }
+    }
+
+    private static MethodHandle findUnmap() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup().findVirtual(unsafeClass,
+                    "invokeCleaner", MethodType.methodType(void.class,
+                            ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null))
+                    .asType(MethodType.methodType(void.class,
+                            MappedByteBuffer.class));
+        } catch ( ReflectiveOperationException | RuntimeException ex ) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the end of the data in a file that may still have the unused
+     * space of a mapped window at the end of it.
+     */
+    private static long dataEnd(FileChannel channel) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(8192);
+        long end = channel.size();
+        while ( end > 0 ) {
+            long start = Math.max(0, end - chunk.capacity());
+            chunk.clear().limit((int) (end - start));
+            while ( chunk.hasRemaining()
+                    && channel.read(chunk, start + chunk.position()) > 0 ) {
+                // Keep reading until the chunk is full.
+            }
+            for ( int idx = (int) (end - start) - 1; idx >= 0; idx-- ) {
+                if ( chunk.get(idx) != 0 ) {
+                    return start + idx + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+    //</editor-fold>
+}
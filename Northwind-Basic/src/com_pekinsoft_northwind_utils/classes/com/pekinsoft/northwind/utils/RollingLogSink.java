@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   RollingLogSink.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 2:30:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import com.pekinsoft.northwind.utils.enums.LogFormat;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A sink that writes the log through a {@link MappedLogFile} and, once
+ * {@link #setLimits(long, long, long)} has been called, starts a new file, or
+ * segment, whenever the current one grows too large or too old.
+ * <p>
+ * A full segment is renamed with the time it was rolled, such as
+ * `application.20261017-143000.log`, and compressed to a `.gz` file by a
+ * background thread, so that writing the next entry never waits on it. Once
+ * the compressed segments together take more than the allowed space, the
+ * oldest are deleted.</p>
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class RollingLogSink extends LogSink {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final String COMPRESSED = ".gz";
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+    // How long to wait before trying again to roll a log that could not be
+    //+ renamed, in milliseconds.
+    private static final long ROLL_RETRY_MILLIS = 60_000;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Path file;
+    private final LogFormat format;
+    private long maxSegmentBytes = Long.MAX_VALUE;
+    private long maxSegmentMillis = Long.MAX_VALUE;
+    private long maxRetainedBytes = Long.MAX_VALUE;
+
+    // The file name split around its extension, which rolled segments keep.
+    private final String stem;
+    private final String extension;
+
+    private MappedLogFile segment;
+    private LogSink sink;
+    private long segmentStart;      // When the current segment was started.
+    private long retryAt;           // No roll is tried before this time.
+    private boolean rollReported;
+
+    private ExecutorService compressor;  // Started by `setLimits`.
+    private volatile boolean reported;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Opens the log. Until {@link #setLimits(long, long, long)} is called, it
+     * is never rolled.
+     *
+     * @param file   the log file.
+     * @param format the layout of the entries in the log.
+     * @param append {@code true} to continue an existing log file;
+     *               {@code false} to empty it first.
+     * @throws IOException in the event the log file cannot be opened.
+     */
+    RollingLogSink(Path file, LogFormat format, boolean append)
+            throws IOException {
+        this.file = file.toAbsolutePath();
+        this.format = format;
+
+        String name = this.file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        this.stem = dot > 0 ? name.substring(0, dot) : name;
+        this.extension = dot > 0 ? name.substring(dot) : "";
+
+        // An existing log keeps the age it already has, so that restarting
+        //+ the application does not put off rolling it.
+        segmentStart = System.currentTimeMillis();
+        if ( append && Files.exists(this.file) ) {
+            segmentStart = Files.readAttributes(this.file,
+                    BasicFileAttributes.class).creationTime().toMillis();
+        }
+        open(append);
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    /**
+     * Starts rolling the log, and, in the background, compresses any segments
+     * left over from a run that ended before it could do so. This may only be
+     * called once, by the thread that writes the log.
+     *
+     * @param maxSegmentBytes  the size at which the log is rolled.
+     * @param maxSegmentMillis the age at which the log is rolled.
+     * @param maxRetainedBytes the most space the rolled segments, once
+     *                         compressed, may take together.
+     */
+    void setLimits(long maxSegmentBytes, long maxSegmentMillis,
+            long maxRetainedBytes) {
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxSegmentMillis = maxSegmentMillis;
+        this.maxRetainedBytes = maxRetainedBytes;
+
+        this.compressor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "Northwind Log Compressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compressor.execute(this::sweep);
+    }
+
+    /**
+     * @return {@code true} once {@link #setLimits(long, long, long)} has been
+     *         called.
+     */
+    boolean isRolling() {
+        return compressor != null;
+    }
+
+    @Override
+    void append(LogEvent event) throws IOException {
+        if ( segment.size() > 0 && event.timestamp >= retryAt
+                && (segment.size() >= maxSegmentBytes
+                || event.timestamp - segmentStart >= maxSegmentMillis) ) {
+            roll(event.timestamp);
+        }
+        sink.append(event);
+    }
+
+    @Override
+    void flush() throws IOException {
+        sink.flush();
+    }
+
+    /**
+     * Closes the current segment and waits a short while for the background
+     * compression to finish.
+     */
+    @Override
+    void close() throws IOException {
+        try {
+            sink.close();
+        } finally {
+            if ( compressor == null ) {
+                return;
+            }
+            compressor.shutdown();
+            try {
+                compressor.awaitTermination(CLOSE_TIMEOUT_SECONDS,
+                        TimeUnit.SECONDS);
+            } catch ( InterruptedException ex ) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private void open(boolean append) throws IOException {
+        segment = new MappedLogFile(file, append);
+        if ( format == LogFormat.BINARY ) {
+            sink = new BinaryLogSink(segment);
+        } else {
+            sink = new TextLogSink(new BufferedWriter(new OutputStreamWriter(
+                    segment, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private void roll(long now) throws IOException {
+        // Closing the segment also unmaps it, without which Windows will not
+        //+ rename it.
+        sink.close();
+
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss")
+                .format(new Date(now));
+        Path rolled = file.resolveSibling(stem + "." + stamp + extension);
+        for ( int count = 1; Files.exists(rolled)
+                || Files.exists(compressedName(rolled)); count++ ) {
+            rolled = file.resolveSibling(stem + "." + stamp + "-" + count
+                    + extension);
+        }
+        try {
+            Files.move(file, rolled);
+        } catch ( IOException ex ) {
+            // Such as another program holding the file open. Logging goes on
+            //+ in the same file, and the roll is tried again later rather
+            //+ than on every entry.
+            open(true);
+            segmentStart = now;
+            retryAt = now + ROLL_RETRY_MILLIS;
+            if ( !rollReported ) {
+                rollReported = true;
+                MessageBox.showError(ex, "I/O Error: Log Not Rolled");
+            }
+            return;
+        }
+
+        segmentStart = now;
+        open(false);
+        compressor.execute(this::sweep);
+    }
+
+    /**
+     * Compresses every rolled segment that has not been compressed yet, and
+     * then deletes the oldest compressed segments until they fit in the
+     * allowed space. This runs on the compressor thread.
+     */
+    private void sweep() {
+        try {
+            for ( Path rolled : rolledSegments() ) {
+                if ( !rolled.getFileName().toString().endsWith(COMPRESSED) ) {
+                    compress(rolled);
+                }
+            }
+
+            // A segment rolled since the loop above is left for the next
+            //+ sweep, so that its uncompressed size does not count.
+            List<Path> segments = rolledSegments();
+            segments.removeIf(rolled -> !rolled.getFileName().toString()
+                    .endsWith(COMPRESSED));
+            long total = 0;
+            for ( Path rolled : segments ) {
+                total += Files.size(rolled);
+            }
+            for ( int idx = 0; idx < segments.size()
+                    && total > maxRetainedBytes; idx++ ) {
+                total -= Files.size(segments.get(idx));
+                Files.delete(segments.get(idx));
+            }
+        } catch ( IOException ex ) {
+            // Once is enough: the next roll would most likely fail the same
+            //+ way.
+            if ( !reported ) {
+                reported = true;
+                MessageBox.showError(ex, "I/O Error: Log Not Compressed");
+            }
+        }
+    }
+
+    private void compress(Path rolled) throws IOException {
+        Path target = compressedName(rolled);
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try ( InputStream in = Files.newInputStream(rolled);
+                OutputStream out = new GZIPOutputStream(
+                        Files.newOutputStream(partial)) ) {
+            in.transferTo(out);
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING);
+        Files.delete(rolled);
+    }
+
+    private List<Path> rolledSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        String prefix = stem + ".";
+        try ( DirectoryStream<Path> dir = Files.newDirectoryStream(
+                file.getParent(), prefix + "*") ) {
+            for ( Path entry : dir ) {
+                String name = entry.getFileName().toString();
+                // Rolled segments carry a time stamp right after the prefix,
+                //+ which keeps files such as the spill file out of this.
+                if ( !entry.equals(file) && name.length() > prefix.length()
+                        && Character.isDigit(name.charAt(prefix.length()))
+                        && (name.endsWith(extension)
+                        || name.endsWith(extension + COMPRESSED)) ) {
+                    segments.add(entry);
+                }
+            }
+        }
+        // Oldest first. Segments rolled within the same second share a time
+        //+ stamp, so the names alone do not sort correctly.
+        Map<Path, FileTime> modified = new HashMap<>();
+        for ( Path entry : segments ) {
+            modified.put(entry, Files.getLastModifiedTime(entry));
+        }
+        segments.sort(Comparator.comparing((Path entry) -> modified.get(entry))
+                .thenComparing(Comparator.naturalOrder()));
+        return segments;
+    }
+
+    private static Path compressedName(Path rolled) {
+        return rolled.resolveSibling(rolled.getFileName() + COMPRESSED);
+    }
+    //</editor-fold>
+}
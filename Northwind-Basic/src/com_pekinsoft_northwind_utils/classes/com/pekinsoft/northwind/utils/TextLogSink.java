@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   TextLogSink.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:40:00 AM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Writes `Logger` entries in the human-readable layout the application log
+ * has always used: banners around method entry and exit, and messages wrapped
+ * at eighty (80) columns.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+class TextLogSink extends LogSink {
+    //<editor-fold defaultstate="collapsed" desc="Private Static Constants">
+    private static final int WRAP_WIDTH = 80;
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Member Fields">
+    private final Writer out;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final StringBuilder line = new StringBuilder(256);
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Constructor(s)">
+    /**
+     * Creates a sink that renders entries to the given writer. The writer
+     * should be buffered, as entries are written in several small pieces.
+     *
+     * @param out the writer to render entries to.
+     */
+    TextLogSink(Writer out) {
+        this.out = out;
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Package-Private Methods">
+    @Override
+    void append(LogEvent event) throws IOException {
+        switch ( event.kind ) {
+            case LogEvent.MESSAGE:
+                line.setLength(0);
+                line.append(prefixFor(event.level)).append(event.message);
+                writeWrapped(line);
+                out.write('\n');
+                break;
+            case LogEvent.ENTER:
+                out.write(Logger.MSG_HDR);
+                out.write(" -> ");
+                out.write(timestamp(event.timestamp));
+                out.write('\n');
+                writeWrapped(source("Entering: ", event));
+                out.write('\n');
+                break;
+            case LogEvent.EXIT:
+                writeWrapped(source("Exiting: ", event));
+                out.write("\n -> ");
+                out.write(timestamp(event.timestamp));
+                out.write(Logger.MSG_FTR);
+                break;
+            case LogEvent.BLOCK:
+                out.write(Logger.MSG_HDR);
+                out.write(event.message);
+                out.write(Logger.MSG_FTR);
+                break;
+            default:
+                out.write(event.message);
+        }
+    }
+
+    @Override
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    void close() throws IOException {
+        out.flush();
+        out.close();
+    }
+    //</editor-fold>
+
+    //<editor-fold defaultstate="collapsed" desc="Private Instance Methods">
+    private StringBuilder source(String action, LogEvent event) {
+        line.setLength(0);
+        line.append(action).append(event.sourceClass).append('.')
+                .append(event.sourceMethod);
+        if ( event.message != null ) {
+            line.append(event.message);
+        }
+        return line;
+    }
+
+    private String timestamp(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone)
+                .toString();
+    }
+
+    /**
+     * Does the same job as {@link StringUtils#wrapAt(String, int)}, but
+     * straight into the writer, without creating a new string for every line.
+     */
+    private void writeWrapped(CharSequence text) throws IOException {
+        int length = text.length();
+        for ( int idx = 0; idx < length; idx += WRAP_WIDTH ) {
+            if ( idx > 0 ) {
+                out.write('\n');
+            }
+            out.append(text, idx, Math.min(idx + WRAP_WIDTH, length));
+        }
+    }
+
+    private static String prefixFor(int level) {
+        switch ( level ) {
+            case Logger.DEBUG:
+                return "DEBUG: ";
+            case Logger.CONFIG:
+                return "CONFIG: ";
+            case Logger.INFO:
+                return "INFO: ";
+            case Logger.WARN:
+                return "WARNING: ";
+            case Logger.ERROR:
+                return "ERROR: ";
+            default:
+                return "CRITICAL: ";
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   LogFormat.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 1:05:00 PM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils.enums;
+
+/**
+ * The layouts in which a {@link com.pekinsoft.northwind.utils.Logger} can
+ * store its entries on disk.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public enum LogFormat {
+    /**
+     * The human-readable layout, with banners around method entry and exit and
+     * messages wrapped at eighty (80) columns. This is the default.
+     */
+    TEXT,
+
+    /**
+     * A compact binary encoding, with variable-length timestamps, class and
+     * method names written once and then referred to by number, and a single
+     * byte for the kind and level of each entry. These logs are read with
+     * {@link com.pekinsoft.northwind.utils.LogDecoder}, which renders them in
+     * the {@link #TEXT} layout.
+     */
+    BINARY;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2020 PekinSOFT Systems
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * *****************************************************************************
+ * *****************************************************************************
+ *  Project    :   Northwind-Basic
+ *  Class      :   OverflowPolicy.java
+ *  Author     :   Sean Carrick
+ *  Created    :   Oct 17, 2026 @ 9:12:00 AM
+ *  Modified   :   Oct 17, 2026
+ *
+ *  Purpose:
+ *
+ *  Revision History:
+ *
+ *  WHEN          BY                  REASON
+ *  ------------  ------------------- ------------------------------------------
+ *  Oct 17, 2026  Sean Carrick        Initial creation.
+ * *****************************************************************************
+ */
+
+package com.pekinsoft.northwind.utils.enums;
+
+/**
+ * Determines what an asynchronous {@link com.pekinsoft.northwind.utils.Logger}
+ * does with a new entry when its ring buffer is full, meaning the background
+ * writer has fallen behind the threads that are logging.
+ *
+ * @author Sean Carrick &lt;sean at pekinsoft dot com&gt;
+ *
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public enum OverflowPolicy {
+    /**
+     * The logging thread waits until the writer has freed a slot. No entries
+     * are ever lost, but a slow disk will slow down the caller.
+     */
+    BLOCK,
+
+    /**
+     * `DEBUG` entries (including method entry and exit tracing) are discarded
+     * while the buffer is full. All other entries wait for a free slot, as with
+     * {@link #BLOCK}.
+     */
+    DROP_DEBUG,
+
+    /**
+     * Entries that do not fit are written straight to a spill file next to the
+     * log file on the calling thread, so that nothing is lost and the caller
+     * never waits on the writer.
+     */
+    SPILL;
+}
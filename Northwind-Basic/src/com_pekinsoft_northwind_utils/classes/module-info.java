@@ -34,6 +34,7 @@
 
 module com_pekinsoft_northwind_utils {
     requires transitive java.desktop;
+    requires jdk.unsupported;
     
     exports com.pekinsoft.northwind.utils;
     exports com.pekinsoft.northwind.utils.enums;